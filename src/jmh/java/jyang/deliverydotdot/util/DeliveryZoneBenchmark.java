@@ -0,0 +1,86 @@
+package jyang.deliverydotdot.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 배달 가능 지역 확인 비용 비교
+ * <p>
+ * ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeliveryZoneBenchmark {
+
+  private static final int SIZE = 1024;
+
+  private static final double STORE_LONGITUDE = 127.0276;
+
+  private static final double STORE_LATITUDE = 37.4979;
+
+  private final double[] longitudes = new double[SIZE];
+
+  private final double[] latitudes = new double[SIZE];
+
+  private final Point[] points = new Point[SIZE];
+
+  private Point storePoint;
+
+  private DeliveryZone deliveryZone;
+
+  private int index;
+
+  @Setup
+  public void setUp() {
+    GeometryFactory geometryFactory = new GeometryFactory();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < SIZE; i++) {
+      longitudes[i] = STORE_LONGITUDE + random.nextDouble(-0.08, 0.08);
+      latitudes[i] = STORE_LATITUDE + random.nextDouble(-0.06, 0.06);
+      points[i] = geometryFactory.createPoint(new Coordinate(longitudes[i], latitudes[i]));
+    }
+    storePoint = geometryFactory.createPoint(new Coordinate(STORE_LONGITUDE, STORE_LATITUDE));
+    deliveryZone = DeliveryZone.of(STORE_LONGITUDE, STORE_LATITUDE, 5000);
+  }
+
+  @Benchmark
+  public boolean deliveryZone() {
+    int i = next();
+    return deliveryZone.contains(longitudes[i], latitudes[i]);
+  }
+
+  @Benchmark
+  public boolean haversine() {
+    int i = next();
+    return GeoDistance.haversineKm(STORE_LONGITUDE, STORE_LATITUDE, longitudes[i], latitudes[i])
+        <= 5;
+  }
+
+  // 이전 구현 (도 단위 평면 거리)
+  @Benchmark
+  public boolean jtsPlanarDistance() {
+    return storePoint.distance(points[next()]) <= 5;
+  }
+
+  private int next() {
+    index = (index + 1) & (SIZE - 1);
+    return index;
+  }
+}
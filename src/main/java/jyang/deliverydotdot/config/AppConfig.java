@@ -1,16 +1,63 @@
 package jyang.deliverydotdot.config;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class AppConfig {
 
+  /**
+   * 좌표 조회 API 클라이언트
+   * <p>
+   * JDK HttpClient 는 연결을 재사용(keep-alive)하며 HTTP/2 를 지원한다. 응답이 늦으면 read timeout 으로 끊는다.
+   */
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplate();
+  public RestTemplate geocodingRestTemplate(
+      @Value("${geocoding.http.connect-timeout-ms:1000}") long connectTimeoutMs,
+      @Value("${geocoding.http.read-timeout-ms:2000}") long readTimeoutMs) {
+    HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+        .build();
+
+    JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+    return new RestTemplate(requestFactory);
+  }
+
+  /**
+   * 좌표 조회 API 서킷 브레이커
+   * <p>
+   * 최근 호출의 실패 / 지연 비율이 높으면 일정 시간 호출을 차단한다. 잘못된 주소 등 4xx 응답은 실패로 세지 않는다.
+   */
+  @Bean
+  public CircuitBreaker geocodingCircuitBreaker(MeterRegistry meterRegistry) {
+    CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+        .slidingWindowSize(20)
+        .minimumNumberOfCalls(10)
+        .failureRateThreshold(50)
+        .slowCallDurationThreshold(Duration.ofSeconds(1))
+        .slowCallRateThreshold(80)
+        .waitDurationInOpenState(Duration.ofSeconds(30))
+        .permittedNumberOfCallsInHalfOpenState(3)
+        .ignoreExceptions(HttpClientErrorException.class)
+        .build();
+
+    CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    return registry.circuitBreaker("kakaoGeocoding");
   }
 
   @Bean
@@ -0,0 +1,73 @@
+package jyang.deliverydotdot.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 엔티티 2차 캐시 설정
+ * <p>
+ * 자주 조회되는 가게 / 메뉴 / 가게 카테고리를 Hibernate 2차 캐시(JCache + Caffeine)에 보관하여 findById 가 DB 를 거치지 않도록 한다.
+ * 영역(region)마다 최대 개수와 TTL 을 두고, 적중 / 미스 / 축출 횟수를 cache.* 메트릭(cache 태그 = 영역 이름)으로 노출한다. 다른 노드의
+ * 변경은 {@link jyang.deliverydotdot.service.EntityCacheInvalidator} 가 무효화한다.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+  public static final String STORE_REGION = "store";
+
+  public static final String MENU_REGION = "menu";
+
+  public static final String STORE_CATEGORY_REGION = "storeCategory";
+
+  private static final List<String> REGIONS =
+      List.of(STORE_REGION, MENU_REGION, STORE_CATEGORY_REGION);
+
+  @Bean
+  public CacheManager entityCacheManager(
+      MeterRegistry meterRegistry,
+      @Value("${entity.cache.max-size:10000}") long maxSize,
+      @Value("${entity.cache.ttl-minutes:30}") long ttlMinutes) {
+    CachingProvider cachingProvider =
+        Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+    CacheManager cacheManager = cachingProvider.getCacheManager();
+
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setMaximumSize(OptionalLong.of(maxSize));
+    configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(ttlMinutes)));
+    configuration.setStoreByValue(false);
+    configuration.setStatisticsEnabled(true);
+
+    for (String region : REGIONS) {
+      Cache<Object, Object> cache = cacheManager.getCache(region);
+      if (cache == null) {
+        cache = cacheManager.createCache(region, configuration);
+      }
+      JCacheMetrics.monitor(meterRegistry, cache);
+    }
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+    return properties -> {
+      properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+      properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+      properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    };
+  }
+}
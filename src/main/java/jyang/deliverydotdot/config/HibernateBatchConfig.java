@@ -0,0 +1,27 @@
+package jyang.deliverydotdot.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate insert / update batch 설정
+ * <p>
+ * 저장 전에 ID 를 만드는 엔티티({@link jyang.deliverydotdot.domain.SnowflakeId})의 insert 를 테이블별로 모아 JDBC batch 로
+ * 보낸다. spring.jpa.properties 에 직접 지정한 값이 있으면 그 값을 사용한다.
+ */
+@Configuration
+public class HibernateBatchConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer batchCustomizer(
+      @Value("${jpa.batch-size:50}") int batchSize) {
+    return properties -> {
+      properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+      properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+      properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+    };
+  }
+}
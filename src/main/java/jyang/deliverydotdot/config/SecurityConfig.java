@@ -77,6 +77,7 @@ public class SecurityConfig {
             .requestMatchers(HttpMethod.DELETE, "/api/v1/stores", "/api/v1/stores/**")
             .hasRole("PARTNER")
             .requestMatchers("/api/v1/stores/*/orders").hasRole("PARTNER")
+            .requestMatchers("/api/v1/stores/*/menus/export").hasRole("PARTNER")
             .requestMatchers(HttpMethod.GET, "/api/v1/stores/**").permitAll()
 
             .anyRequest().authenticated()
@@ -0,0 +1,55 @@
+package jyang.deliverydotdot.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가게 좌표 공간 인덱스 생성
+ * <p>
+ * JPA 스키마 생성으로는 SPATIAL INDEX 를 만들 수 없어 기동 시 확인 후 생성한다. MySQL 은 SRID 가 지정된 컬럼의 공간 인덱스만
+ * 사용하므로, SRID 가 없는 기존 컬럼은 SRID 0 으로 변경한다. 인덱스가 없으면 주변 가게 조회가 전체 테이블을 읽게 되므로, 확인 / 생성에
+ * 실패하면 기동을 중단한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SpatialIndexInitializer implements ApplicationRunner {
+
+  private static final String STORE_COORDINATES_INDEX = "idx_store_coordinates";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    try {
+      Integer srid = jdbcTemplate.query(
+          "SELECT SRS_ID FROM information_schema.ST_GEOMETRY_COLUMNS "
+              + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'store' "
+              + "AND COLUMN_NAME = 'coordinates'",
+          rs -> rs.next() ? (Integer) rs.getObject(1) : null);
+      if (srid == null) {
+        jdbcTemplate.execute("ALTER TABLE store MODIFY coordinates POINT NOT NULL SRID 0");
+        log.info("Set SRID 0 on store.coordinates");
+      }
+
+      Integer indexCount = jdbcTemplate.queryForObject(
+          "SELECT COUNT(*) FROM information_schema.STATISTICS "
+              + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'store' "
+              + "AND INDEX_NAME = ?",
+          Integer.class, STORE_COORDINATES_INDEX);
+      if (indexCount == null || indexCount == 0) {
+        jdbcTemplate.execute(
+            "CREATE SPATIAL INDEX " + STORE_COORDINATES_INDEX + " ON store (coordinates)");
+        log.info("Created spatial index {}", STORE_COORDINATES_INDEX);
+      }
+    } catch (DataAccessException e) {
+      throw new IllegalStateException(
+          "Failed to initialize spatial index on store.coordinates", e);
+    }
+  }
+}
@@ -11,10 +11,13 @@ import jyang.deliverydotdot.dto.rider.CompleteDeliveryForm;
 import jyang.deliverydotdot.dto.rider.RiderJoinForm;
 import jyang.deliverydotdot.dto.rider.RiderUpdateForm;
 import jyang.deliverydotdot.dto.rider.RiderUpdateForm.UpdateCurrentLocation;
+import jyang.deliverydotdot.dto.rider.RiderUpdateForm.UpdateCurrentLocations;
 import jyang.deliverydotdot.security.AuthenticationFacade;
+import jyang.deliverydotdot.service.DeliverableOrderFeedService;
 import jyang.deliverydotdot.service.DeliveryService;
 import jyang.deliverydotdot.service.RiderService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,6 +28,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/riders")
@@ -36,6 +40,8 @@ public class RiderController {
 
   private final DeliveryService deliveryService;
 
+  private final DeliverableOrderFeedService deliverableOrderFeedService;
+
   private final AuthenticationFacade authenticationFacade;
 
   @Operation(summary = "라이더 등록", description = "라이더 등록 폼으로 라이더 등록")
@@ -80,8 +86,16 @@ public class RiderController {
   public ResponseEntity<SuccessResponse<?>> updateRiderLocation(
       @RequestBody UpdateCurrentLocation updateForm
   ) {
-    Rider rider = riderService.getRiderByLoginId(authenticationFacade.getUsername());
-    riderService.updateRiderLocation(rider, updateForm);
+    riderService.updateRiderLocation(getRiderId(), updateForm);
+    return ResponseEntity.ok(SuccessResponse.of("라이더 위치 정보를 성공적으로 수정했습니다."));
+  }
+
+  @Operation(summary = "라이더 위치 정보 일괄 업데이트", description = "시간 순으로 쌓인 라이더 위치 정보를 한 번에 업데이트")
+  @PutMapping("/location/batch")
+  public ResponseEntity<SuccessResponse<?>> updateRiderLocations(
+      @RequestBody @Valid UpdateCurrentLocations updateForm
+  ) {
+    riderService.updateRiderLocations(getRiderId(), updateForm);
     return ResponseEntity.ok(SuccessResponse.of("라이더 위치 정보를 성공적으로 수정했습니다."));
   }
 
@@ -89,9 +103,16 @@ public class RiderController {
   @GetMapping("/deliverable-orders")
   public ResponseEntity<SuccessResponse<?>> getDeliverableOrders(
   ) {
-    Rider rider = riderService.getRiderByLoginId(authenticationFacade.getUsername());
     return ResponseEntity.ok(
-        SuccessResponse.of(riderService.getDeliverableOrders(rider)));
+        SuccessResponse.of(riderService.getDeliverableOrders(getRiderId())));
+  }
+
+  @Operation(summary = "배달 가능 주문 구독",
+      description = "반경 내 배달 가능 주문 목록(snapshot)과 이후 변경분(added / removed)을 SSE 로 전달")
+  @GetMapping(value = "/deliverable-orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeDeliverableOrders(
+  ) {
+    return deliverableOrderFeedService.subscribe(getRiderId());
   }
 
   @Operation(summary = "배달 생성", description = "배달 생성")
@@ -99,8 +120,7 @@ public class RiderController {
   public ResponseEntity<SuccessResponse<?>> createDelivery(
       @PathVariable Long orderId
   ) {
-    Rider rider = riderService.getRiderByLoginId(authenticationFacade.getUsername());
-    deliveryService.createDelivery(rider, orderId);
+    deliveryService.createDelivery(getRiderId(), orderId);
     return ResponseEntity.status(CREATED).body(
         SuccessResponse.of("배달을 성공적으로 생성했습니다.")
     );
@@ -137,4 +157,12 @@ public class RiderController {
     return ResponseEntity.ok(SuccessResponse.of("배달을 성공적으로 취소했습니다."));
   }
 
+  // 토큰의 라이더 ID 사용, 이전에 발급된 토큰은 DB 에서 조회
+  private Long getRiderId() {
+    Long riderId = authenticationFacade.getId();
+    if (riderId != null) {
+      return riderId;
+    }
+    return riderService.getRiderIdByLoginId(authenticationFacade.getUsername());
+  }
 }
@@ -5,24 +5,36 @@ import static org.springframework.http.HttpStatus.CREATED;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import jyang.deliverydotdot.domain.Partner;
 import jyang.deliverydotdot.dto.response.SuccessResponse;
+import jyang.deliverydotdot.dto.store.MenuAvailabilityDTO.MenuAvailabilityRequest;
 import jyang.deliverydotdot.dto.store.MenuCategoryDTO;
 import jyang.deliverydotdot.dto.store.MenuCategoryRegisterForm;
+import jyang.deliverydotdot.dto.store.MenuOrderDTO.MenuCategoryOrderRequest;
+import jyang.deliverydotdot.dto.store.MenuOrderDTO.MenuOrderRequest;
 import jyang.deliverydotdot.dto.store.MenuRegisterForm;
 import jyang.deliverydotdot.dto.store.StoreRegisterForm;
 import jyang.deliverydotdot.dto.store.StoreUpdateForm;
 import jyang.deliverydotdot.security.AuthenticationFacade;
+import jyang.deliverydotdot.service.MenuBulkService;
 import jyang.deliverydotdot.service.MenuCategoryService;
 import jyang.deliverydotdot.service.MenuService;
 import jyang.deliverydotdot.service.OrderService;
 import jyang.deliverydotdot.service.PartnerService;
+import jyang.deliverydotdot.service.RankingService;
 import jyang.deliverydotdot.service.ReviewService;
+import jyang.deliverydotdot.service.StoreMenuService;
+import jyang.deliverydotdot.service.StoreSearchService;
 import jyang.deliverydotdot.service.StoreService;
+import jyang.deliverydotdot.type.MenuFileFormat;
 import jyang.deliverydotdot.type.OrderStatus;
+import jyang.deliverydotdot.type.StoreSortType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -33,7 +45,10 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -47,12 +62,20 @@ public class StoreController {
 
   private final MenuService menuService;
 
+  private final MenuBulkService menuBulkService;
+
   private final MenuCategoryService menuCategoryService;
 
   private final OrderService orderService;
 
   private final ReviewService reviewService;
 
+  private final StoreSearchService storeSearchService;
+
+  private final StoreMenuService storeMenuService;
+
+  private final RankingService rankingService;
+
   private final AuthenticationFacade authenticationFacade;
 
   @Operation(summary = "가게 등록", description = "가게 등록 폼으로 가게 등록")
@@ -60,14 +83,57 @@ public class StoreController {
   public ResponseEntity<SuccessResponse<?>> registerStore(
       @ModelAttribute @Valid StoreRegisterForm storeRegisterForm
   ) {
-    Partner partner = partnerService.getPartnerByLoginId(authenticationFacade.getUsername());
-    storeService.registerStore(partner, storeRegisterForm);
+    storeService.registerStore(authenticationFacade.getUsername(), storeRegisterForm);
 
     return ResponseEntity.status(CREATED).body(
         SuccessResponse.of("가게를 성공적으로 등록했습니다.")
     );
   }
 
+  @Operation(summary = "주변 가게 조회",
+      description = "배송지 좌표 기준 배달 가능한 가게 조회 (거리순 / 별점순, 커서 기반 페이지)")
+  @GetMapping("/nearby")
+  public ResponseEntity<SuccessResponse<?>> getNearbyStores(
+      @RequestParam double longitude,
+      @RequestParam double latitude,
+      @RequestParam(required = false) Long storeCategoryId,
+      @RequestParam(defaultValue = "false") boolean openNow,
+      @RequestParam(defaultValue = "DISTANCE") StoreSortType sort,
+      @RequestParam(required = false) Double cursorValue,
+      @RequestParam(required = false) Long cursorId,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    return ResponseEntity.ok(
+        SuccessResponse.of(storeService.getNearbyStores(longitude, latitude, storeCategoryId,
+            openNow, sort, cursorValue, cursorId, size)));
+  }
+
+  @Operation(summary = "가게 / 메뉴 검색",
+      description = "가게 이름 / 설명, 메뉴 이름 / 설명 검색 (배송지 좌표로 배달 가능한 가게만)")
+  @GetMapping("/search")
+  public ResponseEntity<SuccessResponse<?>> searchStores(
+      @RequestParam String query,
+      @RequestParam double longitude,
+      @RequestParam double latitude,
+      @RequestParam(defaultValue = "false") boolean openNow,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    return ResponseEntity.ok(SuccessResponse.of(
+        storeSearchService.search(query, longitude, latitude, openNow, size)));
+  }
+
+  @Operation(summary = "주변 인기 가게 조회",
+      description = "배송지 좌표 기준 배달 가능한 가게 중 최근 주문이 많은 가게 조회")
+  @GetMapping("/trending")
+  public ResponseEntity<SuccessResponse<?>> getTrendingStores(
+      @RequestParam double longitude,
+      @RequestParam double latitude,
+      @RequestParam(defaultValue = "10") int size
+  ) {
+    return ResponseEntity.ok(SuccessResponse.of(
+        rankingService.getTrendingStores(longitude, latitude, size)));
+  }
+
   @Operation(summary = "가게 정보 수정", description = "가게 정보 수정")
   @PutMapping
   public ResponseEntity<SuccessResponse<?>> updateStore(
@@ -152,6 +218,37 @@ public class StoreController {
     );
   }
 
+  @Operation(summary = "메뉴 카테고리 순서 일괄 변경",
+      description = "전체 메뉴 카테고리를 원하는 순서대로 전달 (조회한 순서 버전이 달라졌으면 409)")
+  @PutMapping("/{storeId}/menuCategories/order")
+  public ResponseEntity<SuccessResponse<?>> reorderMenuCategories(
+      @PathVariable Long storeId,
+      @RequestBody @Valid MenuCategoryOrderRequest request
+  ) {
+    Partner partner = partnerService.getPartnerByLoginId(authenticationFacade.getUsername());
+    menuCategoryService.reorderMenuCategories(partner, storeId, request);
+
+    return ResponseEntity.ok(
+        SuccessResponse.of("메뉴 카테고리 순서를 성공적으로 변경했습니다.")
+    );
+  }
+
+  @Operation(summary = "메뉴 순서 일괄 변경",
+      description = "카테고리의 전체 메뉴를 원하는 순서대로 전달 (조회한 순서 버전이 달라졌으면 409)")
+  @PutMapping("/{storeId}/menuCategories/{menuCategoryId}/menus/order")
+  public ResponseEntity<SuccessResponse<?>> reorderMenus(
+      @PathVariable Long storeId,
+      @PathVariable Long menuCategoryId,
+      @RequestBody @Valid MenuOrderRequest request
+  ) {
+    Partner partner = partnerService.getPartnerByLoginId(authenticationFacade.getUsername());
+    menuService.reorderMenus(partner, storeId, menuCategoryId, request);
+
+    return ResponseEntity.ok(
+        SuccessResponse.of("메뉴 순서를 성공적으로 변경했습니다.")
+    );
+  }
+
   @Operation(summary = "메뉴 등록", description = "메뉴 등록 폼으로 메뉴 등록")
   @PostMapping("/{storeId}/menus")
   public ResponseEntity<SuccessResponse<?>> registerMenu(
@@ -166,6 +263,56 @@ public class StoreController {
     );
   }
 
+  @Operation(summary = "메뉴 일괄 등록",
+      description = "CSV / JSON 파일로 메뉴 일괄 등록 (열 : menuCategoryId, menuName, price, "
+          + "menuDescription, imageFileName), 행별 결과 반환")
+  @PostMapping(value = "/{storeId}/menus/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<SuccessResponse<?>> importMenus(
+      @PathVariable Long storeId,
+      @RequestPart MultipartFile file,
+      @RequestPart(required = false) List<MultipartFile> images,
+      @RequestParam(required = false) MenuFileFormat format
+  ) {
+    Partner partner = partnerService.getPartnerByLoginId(authenticationFacade.getUsername());
+
+    return ResponseEntity.status(CREATED).body(SuccessResponse.of(
+        menuBulkService.importMenus(partner, storeId, file, images, format)));
+  }
+
+  @Operation(summary = "메뉴 내보내기", description = "가게의 전체 메뉴를 CSV / JSON 파일로 내보내기")
+  @GetMapping("/{storeId}/menus/export")
+  public ResponseEntity<StreamingResponseBody> exportMenus(
+      @PathVariable Long storeId,
+      @RequestParam(defaultValue = "CSV") MenuFileFormat format
+  ) {
+    Partner partner = partnerService.getPartnerByLoginId(authenticationFacade.getUsername());
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"menus-" + storeId + format.getExtension() + "\"")
+        .body(menuBulkService.exportMenus(partner, storeId, format));
+  }
+
+  @Operation(summary = "가게 전체 메뉴 조회", description = "메뉴 카테고리 순서대로 가게의 전체 메뉴 조회")
+  @GetMapping("/{storeId}/menus")
+  public ResponseEntity<byte[]> getStoreMenu(
+      @PathVariable Long storeId
+  ) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(storeMenuService.getStoreMenu(storeId));
+  }
+
+  @Operation(summary = "가게 인기 메뉴 조회", description = "최근 주문 수량이 많은 메뉴 조회")
+  @GetMapping("/{storeId}/menus/popular")
+  public ResponseEntity<SuccessResponse<?>> getPopularMenus(
+      @PathVariable Long storeId,
+      @RequestParam(defaultValue = "10") int size
+  ) {
+    return ResponseEntity.ok(SuccessResponse.of(rankingService.getPopularMenus(storeId, size)));
+  }
+
   @Operation(summary = "메뉴 삭제", description = "메뉴 삭제")
   @DeleteMapping("/{storeId}/menus/{menuId}")
   public ResponseEntity<SuccessResponse<?>> deleteMenu(
@@ -195,6 +342,22 @@ public class StoreController {
     );
   }
 
+  @Operation(summary = "메뉴 품절 / 재고 변경",
+      description = "품절 여부와 남은 재고 변경, 재고를 비우면 재고 제한 해제 (재고가 0이 되면 품절)")
+  @PutMapping("/{storeId}/menus/{menuId}/availability")
+  public ResponseEntity<SuccessResponse<?>> updateMenuAvailability(
+      @PathVariable Long storeId,
+      @PathVariable Long menuId,
+      @RequestBody @Valid MenuAvailabilityRequest request
+  ) {
+    Partner partner = partnerService.getPartnerByLoginId(authenticationFacade.getUsername());
+    menuService.updateMenuAvailability(partner, storeId, menuId, request);
+
+    return ResponseEntity.ok(
+        SuccessResponse.of("메뉴 품절 정보를 성공적으로 변경했습니다.")
+    );
+  }
+
   @Operation(summary = "주문 목록 조회", description = "주문 목록 조회")
   @GetMapping("/{storeId}/orders")
   public ResponseEntity<SuccessResponse<?>> getOrders(
@@ -17,6 +17,7 @@ import jyang.deliverydotdot.dto.user.UserJoinForm;
 import jyang.deliverydotdot.dto.user.UserUpdateForm;
 import jyang.deliverydotdot.security.AuthenticationFacade;
 import jyang.deliverydotdot.service.CartService;
+import jyang.deliverydotdot.service.OrderIntakeService;
 import jyang.deliverydotdot.service.OrderService;
 import jyang.deliverydotdot.service.ReviewService;
 import jyang.deliverydotdot.service.UserService;
@@ -48,6 +49,8 @@ public class UserController {
 
   private final OrderService orderService;
 
+  private final OrderIntakeService orderIntakeService;
+
   private final AuthenticationFacade authenticationFacade;
 
   private final ReviewService reviewService;
@@ -181,16 +184,32 @@ public class UserController {
         "배송지를 성공적으로 조회했습니다.", userService.getAddress(user)));
   }
 
-  @Operation(summary = "주문 생성", description = "주문 생성")
+  @Operation(summary = "주문 생성",
+      description = "주문 생성, 접수 모드에서는 주문 번호를 바로 응답하고 접수 상태 조회로 진행 확인")
   @PostMapping("/orders")
   public ResponseEntity<SuccessResponse<?>> createOrder(
       @RequestBody @Valid CreateOrder.Request request
   ) {
     User user = userService.getUserByLoginId(authenticationFacade.getUsername());
+    if (orderIntakeService.isEnabled()) {
+      return ResponseEntity.ok(SuccessResponse.of(
+          "주문을 성공적으로 접수했습니다.", orderIntakeService.submit(user, request)));
+    }
     orderService.createOrder(user, request);
     return ResponseEntity.ok(SuccessResponse.of("주문을 성공적으로 생성했습니다."));
   }
 
+  @Operation(summary = "주문 접수 상태 조회", description = "접수 모드에서 생성한 주문의 접수 상태 조회")
+  @GetMapping("/orders/intake/{orderNumber}")
+  public ResponseEntity<SuccessResponse<?>> getOrderIntakeStatus(
+      @PathVariable String orderNumber
+  ) {
+    User user = userService.getUserByLoginId(authenticationFacade.getUsername());
+    return ResponseEntity.ok(SuccessResponse.of(
+        "주문 접수 상태를 성공적으로 조회했습니다.",
+        orderIntakeService.getStatus(user, orderNumber)));
+  }
+
   @Operation(summary = "주문 조회", description = "주문 조회")
   @GetMapping("/orders")
   public ResponseEntity<SuccessResponse<?>> getOrders(
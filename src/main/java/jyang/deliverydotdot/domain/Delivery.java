@@ -35,7 +35,7 @@ public class Delivery extends BaseEntity {
   private Rider rider;
 
   @OneToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "purchase_order_id")
+  @JoinColumn(name = "purchase_order_id", unique = true)
   private PurchaseOrder purchaseOrder;
 
   @Enumerated(EnumType.STRING)
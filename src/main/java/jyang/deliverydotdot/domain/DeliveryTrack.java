@@ -0,0 +1,47 @@
+package jyang.deliverydotdot.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 배달 이동 경로 ({@link jyang.deliverydotdot.util.TrackCodec} 으로 인코딩)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Inheritance(strategy = InheritanceType.JOINED)
+public class DeliveryTrack extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long deliveryTrackId;
+
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "delivery_id", unique = true)
+  private Delivery delivery;
+
+  @Column(nullable = false)
+  private Integer pointCount;
+
+  private LocalDateTime startedAt;
+
+  private LocalDateTime endedAt;
+
+  @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+  private byte[] points;
+}
@@ -1,5 +1,6 @@
 package jyang.deliverydotdot.domain;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -10,15 +11,22 @@ import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import java.time.LocalDateTime;
+import jyang.deliverydotdot.config.EntityCacheConfig;
 import jyang.deliverydotdot.dto.store.MenuRegisterForm;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.MENU_REGION)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -48,6 +56,12 @@ public class Menu extends BaseEntity {
 
   private String menuImageUrl;
 
+  // 카테고리 안 표시 순서, 없으면 마지막
+  private Integer displayOrder;
+
+  // 파트너가 지정한 품절 여부 (남은 재고는 MenuAvailabilityRegistry 에서 관리)
+  private Boolean soldOut;
+
   private LocalDateTime deletedAt;
 
   public void updateMenu(MenuRegisterForm menuUpdateForm, String menuImageURL) {
@@ -56,4 +70,8 @@ public class Menu extends BaseEntity {
     this.menuDescription = menuUpdateForm.getMenuDescription();
     this.menuImageUrl = menuImageURL;
   }
+
+  public void updateSoldOut(boolean soldOut) {
+    this.soldOut = soldOut;
+  }
 }
@@ -17,10 +17,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -45,6 +47,9 @@ public class MenuCategory extends BaseEntity {
 
   private Integer displayOrder;
 
+  // 카테고리 안 메뉴 순서 버전 (순서 변경 시 증가, 동시 변경 감지용)
+  private Long menuOrderVersion;
+
   private LocalDateTime deletedAt;
 
   public void updateCategoryName(String categoryName) {
@@ -0,0 +1,66 @@
+package jyang.deliverydotdot.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import jyang.deliverydotdot.type.OutboxEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전달 대기 중인 도메인 이벤트 (상태 변경과 같은 트랜잭션에서 저장)
+ * <p>
+ * ID 는 Snowflake 이므로 한 노드에서 저장한 이벤트끼리는 저장 순서대로 증가하지만, 노드마다 자기 시계로 발급하므로 다른 노드에서 시계
+ * 차이 이내로 잇달아 저장된 이벤트는 ID 순서와 저장 순서가 다를 수 있다. 전달되면 publishedAt 을 기록하고, 전달에 실패하면
+ * nextAttemptAt 까지 다시 전달하지 않는다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_outbox_event_pending",
+    columnList = "publishedAt, outboxEventId"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+  @Id
+  @SnowflakeId
+  private Long outboxEventId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private OutboxEventType eventType;
+
+  // 주문 ID 또는 배달 ID (eventType 의 aggregateType 으로 구분)
+  @Column(nullable = false)
+  private Long aggregateId;
+
+  @Column(nullable = false, columnDefinition = "JSON")
+  private String payload;
+
+  // 전달 실패 횟수
+  @Column(nullable = false)
+  private Integer attempts;
+
+  // 다음 전달 시각 (null 이면 바로 전달)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  private LocalDateTime publishedAt;
+
+  /**
+   * 같은 대상의 이벤트를 묶는 키
+   */
+  public String aggregateKey() {
+    return eventType.getAggregateType() + ":" + aggregateId;
+  }
+}
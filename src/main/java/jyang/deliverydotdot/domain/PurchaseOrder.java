@@ -1,16 +1,11 @@
 package jyang.deliverydotdot.domain;
 
-import static jyang.deliverydotdot.type.OrderStatus.APPROVED;
-import static jyang.deliverydotdot.type.OrderStatus.REJECTED;
-
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
@@ -36,7 +31,7 @@ import org.locationtech.jts.geom.Point;
 public class PurchaseOrder extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @SnowflakeId
   private Long purchaseOrderId;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -76,12 +71,9 @@ public class PurchaseOrder extends BaseEntity {
 
   private String deliveryRequest;
 
-  public void calculateTotalPrice() {
-    this.totalPrice = orderItems.stream()
-        .mapToInt(OrderItem::calculatePrice)
-        .sum();
-  }
-
+  /**
+   * 장바구니 항목으로 주문 항목 추가 (현재 메뉴 가격 적용)
+   */
   public void addOrderItem(CartItem cartItem) {
     OrderItem orderItem = OrderItem.builder()
         .purchaseOrder(this)
@@ -92,24 +84,4 @@ public class PurchaseOrder extends BaseEntity {
 
     orderItems.add(orderItem);
   }
-
-  public void approve() {
-    this.orderStatus = APPROVED;
-  }
-
-  public void reject() {
-    this.orderStatus = REJECTED;
-  }
-
-  public void cook() {
-    this.orderStatus = OrderStatus.COOKING;
-  }
-
-  public void complete() {
-    this.orderStatus = OrderStatus.COOKED;
-  }
-
-  public void cancel() {
-    this.orderStatus = OrderStatus.CANCELED;
-  }
 }
@@ -0,0 +1,21 @@
+package jyang.deliverydotdot.domain;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Snowflake ID 식별자
+ * <p>
+ * 저장 전에 ID 를 만들어 IDENTITY 와 달리 insert 를 JDBC batch 로 묶을 수 있다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface SnowflakeId {
+
+}
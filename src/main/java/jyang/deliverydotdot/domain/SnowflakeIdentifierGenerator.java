@@ -0,0 +1,33 @@
+package jyang.deliverydotdot.domain;
+
+import java.io.Serial;
+import jyang.deliverydotdot.util.Snowflake;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link SnowflakeId} 식별자 생성기
+ * <p>
+ * Hibernate 가 직접 만드는 객체이므로, 노드 ID 임대를 받은 {@link Snowflake} 는
+ * {@link jyang.deliverydotdot.service.IdGenerator} 가 시작 시 등록한다.
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  private static volatile Snowflake snowflake;
+
+  public static void register(Snowflake snowflake) {
+    SnowflakeIdentifierGenerator.snowflake = snowflake;
+  }
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object object) {
+    Snowflake current = snowflake;
+    if (current == null) {
+      throw new IllegalStateException("Snowflake node id is not leased yet");
+    }
+    return current.nextId();
+  }
+}
@@ -1,5 +1,6 @@
 package jyang.deliverydotdot.domain;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,16 +16,23 @@ import jakarta.persistence.OneToMany;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import jyang.deliverydotdot.config.EntityCacheConfig;
 import jyang.deliverydotdot.dto.store.StoreUpdateForm;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.locationtech.jts.geom.Point;
 
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.STORE_REGION)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -55,9 +63,13 @@ public class Store extends BaseEntity {
   @Column(nullable = false)
   private String storeAddress;
 
-  @Column(nullable = false, columnDefinition = "POINT")
+  // 공간 인덱스 사용을 위해 SRID 지정 (SpatialIndexInitializer)
+  @Column(nullable = false, columnDefinition = "POINT SRID 0")
   private Point coordinates;
 
+  // 배달 가능 반경(m), 없으면 기본 반경 적용
+  private Integer deliveryRadius;
+
   @Column(nullable = false, unique = true)
   private String registrationNumber;
 
@@ -75,6 +87,9 @@ public class Store extends BaseEntity {
 
   private Integer reviewCount;
 
+  // 메뉴 카테고리 순서 버전 (순서 변경 시 증가, 동시 변경 감지용)
+  private Long menuCategoryVersion;
+
   private LocalDateTime deletedAt;
 
   public void update(StoreUpdateForm storeUpdateForm) {
@@ -83,5 +98,8 @@ public class Store extends BaseEntity {
     this.closeTime = storeUpdateForm.getCloseTime();
     this.lastOrderTime = storeUpdateForm.getLastOrderTime();
     this.description = storeUpdateForm.getDescription();
+    if (storeUpdateForm.getDeliveryRadius() != null) {
+      this.deliveryRadius = storeUpdateForm.getDeliveryRadius();
+    }
   }
 }
@@ -23,6 +23,7 @@ public class CommonUserDetails implements UserDetails {
   private final String username;
   private final String password;
   private final UserRole userRole;
+  private final Long id;
 
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -68,6 +69,7 @@ public class CommonUserDetails implements UserDetails {
         .username(user.getLoginId())
         .password(user.getPassword())
         .userRole(ROLE_USER)
+        .id(user.getUserId())
         .build();
   }
 
@@ -76,6 +78,7 @@ public class CommonUserDetails implements UserDetails {
         .username(partner.getLoginId())
         .password(partner.getPassword())
         .userRole(UserRole.ROLE_PARTNER)
+        .id(partner.getPartnerId())
         .build();
   }
 
@@ -84,6 +87,7 @@ public class CommonUserDetails implements UserDetails {
         .username(rider.getLoginId())
         .password(rider.getPassword())
         .userRole(UserRole.ROLE_RIDER)
+        .id(rider.getRiderId())
         .build();
   }
 }
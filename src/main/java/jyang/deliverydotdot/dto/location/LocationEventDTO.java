@@ -0,0 +1,56 @@
+package jyang.deliverydotdot.dto.location;
+
+import java.util.List;
+import jyang.deliverydotdot.type.LocationEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class LocationEventDTO {
+
+  public static final String ORDER_LOCATION_CHANNEL = "orderLocationEvents";
+
+  public static final String RIDER_LOCATION_CHANNEL = "riderLocationEvents";
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class OrderLocationEvent {
+
+    private LocationEventType type;
+
+    private Long orderId;
+
+    private Double longitude;
+
+    private Double latitude;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class RiderLocationEvent {
+
+    private Long riderId;
+
+    private double longitude;
+
+    private double latitude;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class RiderLocationEvents {
+
+    private List<RiderLocationEvent> locations;
+  }
+}
@@ -1,5 +1,7 @@
 package jyang.deliverydotdot.dto.order;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import jyang.deliverydotdot.domain.Delivery;
@@ -24,7 +26,8 @@ public class OrderDTO {
   @Builder
   public static class OrderListResponse {
 
-    @Schema(description = "주문 ID")
+    @JsonSerialize(using = ToStringSerializer.class)
+    @Schema(description = "주문 ID", type = "string")
     private Long purchaseOrderId;
 
     @Schema(description = "주문 번호")
@@ -56,6 +59,7 @@ public class OrderDTO {
     @Builder
     public static class OrderItemListResponse {
 
+      @JsonSerialize(using = ToStringSerializer.class)
       @Schema(description = "주문 상품 ID")
       private Long orderItemId;
 
@@ -98,6 +102,7 @@ public class OrderDTO {
   @Builder
   public static class RiderDeliverableOrders {
 
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long purchaseOrderId;
 
     private Double distance;
@@ -120,6 +125,7 @@ public class OrderDTO {
   @Builder
   public static class GetOrderDetailResponse {
 
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long purchaseOrderId;
 
     private String orderNumber;
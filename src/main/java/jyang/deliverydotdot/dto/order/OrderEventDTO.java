@@ -0,0 +1,91 @@
+package jyang.deliverydotdot.dto.order;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import java.time.LocalDateTime;
+import java.util.Map;
+import jyang.deliverydotdot.type.OrderStatus;
+import jyang.deliverydotdot.type.OrderTransition;
+import jyang.deliverydotdot.type.OutboxEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class OrderEventDTO {
+
+  public static final String ORDER_NOTIFICATION_CHANNEL = "orderNotificationEvents";
+
+  /**
+   * 주문 생성 이벤트
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class OrderPlacedEvent {
+
+    private Long purchaseOrderId;
+
+    private Long storeId;
+
+    // 가게 좌표 (배달 대기 위치)
+    private Double storeLongitude;
+
+    private Double storeLatitude;
+
+    // 메뉴 ID -> 수량
+    private Map<Long, Integer> quantities;
+
+    private LocalDateTime occurredAt;
+  }
+
+  /**
+   * 주문 상태 변경 이벤트
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class OrderStatusChangedEvent {
+
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long purchaseOrderId;
+
+    private OrderTransition transition;
+
+    // 변경 후 상태
+    private OrderStatus orderStatus;
+
+    // 변경한 파트너 / 사용자 ID (transition 의 actor 로 구분)
+    private Long actorId;
+
+    private LocalDateTime occurredAt;
+  }
+
+  /**
+   * 주문 / 배달 상태 알림 (같은 이벤트가 두 번 이상 올 수 있으므로 받는 쪽은 eventId 로 중복을 거른다)
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class OrderNotification {
+
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long eventId;
+
+    private OutboxEventType eventType;
+
+    // 주문 ID 또는 배달 ID
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long aggregateId;
+
+    private JsonNode payload;
+  }
+}
@@ -0,0 +1,60 @@
+package jyang.deliverydotdot.dto.order;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jyang.deliverydotdot.type.OrderIntakeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.locationtech.jts.geom.Point;
+
+public class OrderIntakeDTO {
+
+  /**
+   * 저장할 주문 (배송지 / 연락처 / 좌표 확정 후)
+   */
+  @Getter
+  @AllArgsConstructor
+  @Builder
+  public static class OrderDraft {
+
+    // 주문자 엔티티는 저장 트랜잭션 안에서 다시 참조
+    private Long userId;
+
+    private Long cartId;
+
+    private String orderNumber;
+
+    private String phone;
+
+    private String deliveryAddress;
+
+    private Point deliveryCoordinate;
+
+    private String deliveryRequest;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class OrderIntakeResponse {
+
+    @Schema(description = "주문 번호")
+    private String orderNumber;
+
+    @Schema(description = "접수 상태")
+    private OrderIntakeStatus status;
+
+    @JsonSerialize(using = ToStringSerializer.class)
+    @Schema(description = "주문 ID (주문 완료 시)")
+    private Long purchaseOrderId;
+
+    @Schema(description = "실패 사유 (주문 실패 시)")
+    private String failureReason;
+  }
+}
@@ -0,0 +1,37 @@
+package jyang.deliverydotdot.dto.rider;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import java.time.LocalDateTime;
+import jyang.deliverydotdot.type.DeliveryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class DeliveryEventDTO {
+
+  /**
+   * 배달 상태 변경 이벤트
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class DeliveryStatusChangedEvent {
+
+    private Long deliveryId;
+
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long purchaseOrderId;
+
+    private Long riderId;
+
+    // 변경 후 상태
+    private DeliveryStatus deliveryStatus;
+
+    private LocalDateTime occurredAt;
+  }
+}
@@ -0,0 +1,44 @@
+package jyang.deliverydotdot.dto.rider;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class DispatchDTO {
+
+  public static final String DELIVERY_ASSIGNED_CHANNEL = "deliveryAssignedEvents";
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Assignment {
+
+    private Long orderId;
+
+    private Long riderId;
+
+    // 라이더가 가게에 도착하기까지 예상 시간(분)
+    private double etaMinutes;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class DeliveryAssignedEvent {
+
+    private Long riderId;
+
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long orderId;
+
+    private Double etaMinutes;
+  }
+}
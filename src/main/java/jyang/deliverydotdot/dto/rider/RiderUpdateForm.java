@@ -3,8 +3,10 @@ package jyang.deliverydotdot.dto.rider;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -64,5 +66,21 @@ public class RiderUpdateForm {
 
     @Schema(description = "경도", example = "127.123456")
     private double longitude;
+
+    @Schema(description = "측정 시각 (epoch ms), 없으면 수신 시각을 사용", example = "1715000000000")
+    private Long timestamp;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class UpdateCurrentLocations {
+
+    @Schema(description = "위치 목록 (시간 순)")
+    @NotEmpty(message = "위치 정보를 입력해 주세요.")
+    @Size(max = 100, message = "위치 정보는 한 번에 100개까지 전송할 수 있습니다.")
+    private List<UpdateCurrentLocation> locations;
   }
 }
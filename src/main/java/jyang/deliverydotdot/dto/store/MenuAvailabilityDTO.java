@@ -0,0 +1,50 @@
+package jyang.deliverydotdot.dto.store;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class MenuAvailabilityDTO {
+
+  // 메뉴 품절 / 재고 변경 알림 채널
+  public static final String MENU_AVAILABILITY_CHANNEL = "menuAvailabilityEvents";
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class MenuAvailabilityRequest {
+
+    @Schema(description = "품절 여부", example = "false")
+    @NotNull(message = "품절 여부를 입력해 주세요.")
+    private Boolean soldOut;
+
+    @Schema(description = "남은 재고 (없으면 재고 제한 없음, 0이 되면 품절)", example = "30")
+    @PositiveOrZero(message = "재고는 0 이상이어야 합니다.")
+    private Integer stock;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class MenuAvailabilityEvent {
+
+    private Long storeId;
+
+    private Long menuId;
+
+    // 파트너가 지정한 품절 여부
+    private boolean soldOut;
+
+    // 남은 재고, 재고 제한이 없으면 null
+    private Integer stock;
+  }
+}
@@ -0,0 +1,64 @@
+package jyang.deliverydotdot.dto.store;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class MenuBulkDTO {
+
+  // 가져오기 파일의 열(JSON 은 필드) 이름
+  public static final String MENU_CATEGORY_ID = "menuCategoryId";
+
+  public static final String MENU_NAME = "menuName";
+
+  public static final String PRICE = "price";
+
+  public static final String MENU_DESCRIPTION = "menuDescription";
+
+  // 함께 올린 메뉴 사진의 파일 이름
+  public static final String IMAGE_FILE_NAME = "imageFileName";
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class MenuImportResponse {
+
+    @Schema(description = "전체 행 수")
+    private int total;
+
+    @Schema(description = "등록한 메뉴 수")
+    private int succeeded;
+
+    @Schema(description = "실패한 행 수")
+    private int failed;
+
+    @Schema(description = "행별 결과")
+    private List<RowResult> results;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class RowResult {
+
+    @Schema(description = "행 번호 (헤더 제외, 1부터)")
+    private int row;
+
+    @Schema(description = "메뉴 이름")
+    private String menuName;
+
+    @Schema(description = "등록 성공 여부")
+    private boolean success;
+
+    @Schema(description = "실패 사유")
+    private String message;
+  }
+}
@@ -0,0 +1,46 @@
+package jyang.deliverydotdot.dto.store;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class MenuOrderDTO {
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class MenuCategoryOrderRequest {
+
+    @Schema(description = "조회한 메뉴 카테고리 순서 버전", example = "0")
+    @NotNull(message = "순서 버전을 입력해 주세요.")
+    private Long version;
+
+    @Schema(description = "가게의 전체 메뉴 카테고리 ID (원하는 순서대로)", example = "[3, 1, 2]")
+    @NotEmpty(message = "메뉴 카테고리 순서를 입력해 주세요.")
+    private List<Long> menuCategoryIds;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class MenuOrderRequest {
+
+    @Schema(description = "조회한 메뉴 순서 버전", example = "0")
+    @NotNull(message = "순서 버전을 입력해 주세요.")
+    private Long version;
+
+    @Schema(description = "카테고리의 전체 메뉴 ID (원하는 순서대로)", example = "[12, 10, 11]")
+    @NotEmpty(message = "메뉴 순서를 입력해 주세요.")
+    private List<Long> menuIds;
+  }
+}
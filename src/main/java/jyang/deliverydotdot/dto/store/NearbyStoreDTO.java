@@ -0,0 +1,50 @@
+package jyang.deliverydotdot.dto.store;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class NearbyStoreDTO {
+
+  /**
+   * 주변 가게 조회 결과 (엔티티를 거치지 않는 projection)
+   */
+  public interface NearbyStoreView {
+
+    Long getStoreId();
+
+    String getStoreName();
+
+    Long getStoreCategoryId();
+
+    String getStoreAddress();
+
+    Double getAverageRating();
+
+    Integer getReviewCount();
+
+    // 거리(m)
+    Double getDistance();
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class NearbyStoreResponse {
+
+    private List<NearbyStoreView> stores;
+
+    private boolean hasNext;
+
+    // 다음 페이지 요청 시 cursorValue (거리순: 거리, 별점순: 평점)
+    private Double nextCursorValue;
+
+    // 다음 페이지 요청 시 cursorId
+    private Long nextCursorId;
+  }
+}
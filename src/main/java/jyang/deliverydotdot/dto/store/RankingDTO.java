@@ -0,0 +1,57 @@
+package jyang.deliverydotdot.dto.store;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class RankingDTO {
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class PopularMenuResponse {
+
+    @Schema(description = "메뉴 ID")
+    private Long menuId;
+
+    @Schema(description = "메뉴 이름")
+    private String menuName;
+
+    @Schema(description = "가격")
+    private Integer price;
+
+    @Schema(description = "인기 점수 (최근 주문 수량, 시간이 지날수록 감소)")
+    private double score;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class TrendingStoreResponse {
+
+    @Schema(description = "가게 ID")
+    private Long storeId;
+
+    @Schema(description = "가게 이름")
+    private String storeName;
+
+    @Schema(description = "가게 카테고리 ID")
+    private Long storeCategoryId;
+
+    @Schema(description = "평균 별점")
+    private Double averageRating;
+
+    @Schema(description = "거리(m)")
+    private Double distance;
+
+    @Schema(description = "인기 점수 (최근 주문 수, 시간이 지날수록 감소)")
+    private double score;
+  }
+}
@@ -0,0 +1,87 @@
+package jyang.deliverydotdot.dto.store;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class StoreMenuDTO {
+
+  // 가게 메뉴 변경 알림 채널, 메시지는 가게 ID
+  public static final String STORE_MENU_CHANNEL = "storeMenuEvents";
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class StoreMenuResponse {
+
+    @Schema(description = "가게 ID")
+    private Long storeId;
+
+    @Schema(description = "가게 이름")
+    private String storeName;
+
+    @Schema(description = "가게 설명")
+    private String description;
+
+    @Schema(description = "메뉴 카테고리 순서 버전 (순서 변경 요청 시 전달)")
+    private Long menuCategoryVersion;
+
+    @Schema(description = "메뉴 카테고리 목록 (표시 순서)")
+    private List<MenuCategoryResponse> menuCategories;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class MenuCategoryResponse {
+
+    @Schema(description = "메뉴 카테고리 ID")
+    private Long menuCategoryId;
+
+    @Schema(description = "메뉴 카테고리 이름")
+    private String categoryName;
+
+    @Schema(description = "메뉴 카테고리 순서")
+    private Integer displayOrder;
+
+    @Schema(description = "메뉴 순서 버전 (순서 변경 요청 시 전달)")
+    private Long menuOrderVersion;
+
+    @Schema(description = "메뉴 목록 (표시 순서)")
+    private List<MenuResponse> menus;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class MenuResponse {
+
+    @Schema(description = "메뉴 ID")
+    private Long menuId;
+
+    @Schema(description = "메뉴 이름")
+    private String menuName;
+
+    @Schema(description = "가격")
+    private Integer price;
+
+    @Schema(description = "메뉴 설명")
+    private String menuDescription;
+
+    @Schema(description = "메뉴 이미지 URL")
+    private String menuImageUrl;
+
+    @Schema(description = "품절 여부")
+    private boolean soldOut;
+  }
+}
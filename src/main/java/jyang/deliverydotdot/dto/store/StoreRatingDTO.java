@@ -0,0 +1,46 @@
+package jyang.deliverydotdot.dto.store;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class StoreRatingDTO {
+
+  // 가게 평점 재계산 알림 채널
+  public static final String STORE_RATING_REBUILT_CHANNEL = "storeRatingRebuiltEvents";
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class RatingDelta {
+
+    private Long storeId;
+
+    // 추가된 평점 합 - 삭제된 평점 합
+    private double ratingSum;
+
+    // 추가된 리뷰 수 - 삭제된 리뷰 수
+    private long reviewCount;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class RatingRebuiltEvent {
+
+    // 재계산한 구간의 첫 가게 ID
+    private Long firstStoreId;
+
+    // 재계산한 구간의 마지막 가게 ID
+    private Long lastStoreId;
+
+    // 재계산을 시작한 시각 (epoch ms)
+    private long rebuiltAt;
+  }
+}
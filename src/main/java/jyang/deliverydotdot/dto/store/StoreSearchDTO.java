@@ -0,0 +1,58 @@
+package jyang.deliverydotdot.dto.store;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class StoreSearchDTO {
+
+  // 가게 / 메뉴 변경 알림 채널, 메시지는 가게 ID
+  public static final String STORE_SEARCH_CHANNEL = "storeSearchEvents";
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class StoreSearchResult {
+
+    @Schema(description = "가게 ID")
+    private Long storeId;
+
+    @Schema(description = "가게 이름")
+    private String storeName;
+
+    @Schema(description = "가게 카테고리 ID")
+    private Long storeCategoryId;
+
+    @Schema(description = "거리(m)")
+    private Double distance;
+
+    @Schema(description = "가게 이름 / 설명이 검색어와 일치")
+    private boolean storeMatched;
+
+    @Schema(description = "검색어와 일치하는 메뉴")
+    private List<MenuSearchResult> menus;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class MenuSearchResult {
+
+    @Schema(description = "메뉴 ID")
+    private Long menuId;
+
+    @Schema(description = "메뉴 이름")
+    private String menuName;
+
+    @Schema(description = "가격")
+    private Integer price;
+  }
+}
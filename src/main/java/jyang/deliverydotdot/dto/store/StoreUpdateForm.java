@@ -1,6 +1,8 @@
 package jyang.deliverydotdot.dto.store;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalTime;
 import lombok.AllArgsConstructor;
@@ -47,6 +49,11 @@ public class StoreUpdateForm {
   @Schema(description = "가게 사진3")
   private MultipartFile storeImage3;
 
+  @Schema(description = "배달 가능 반경(m)", example = "3000", minimum = "500", maximum = "10000")
+  @Min(value = 500, message = "배달 가능 반경은 500m 이상으로 입력해 주세요.")
+  @Max(value = 10000, message = "배달 가능 반경은 10000m 이하로 입력해 주세요.")
+  private Integer deliveryRadius;
+
   @Schema(description = "가게 소개 글", maxLength = 255, example = "맛있는 음식을 즐기세요.")
   private String description;
 }
@@ -1,6 +1,7 @@
 package jyang.deliverydotdot.dto.user;
 
 import java.util.List;
+import java.util.function.Predicate;
 import jyang.deliverydotdot.domain.Cart;
 import jyang.deliverydotdot.domain.CartItem;
 import lombok.AllArgsConstructor;
@@ -38,9 +39,10 @@ public class GetCartResponse {
     private String itemName;
     private Integer price;
     private Integer quantity;
+    private boolean soldOut;
   }
 
-  public static GetCartResponse fromCart(Cart cart) {
+  public static GetCartResponse fromCart(Cart cart, Predicate<Long> soldOut) {
     int totalPrice = 0;
     int totalQuantity = 0;
 
@@ -62,6 +64,7 @@ public class GetCartResponse {
                 .itemName(cartItem.getMenu().getMenuName())
                 .price(cartItem.getPrice())
                 .quantity(cartItem.getQuantity())
+                .soldOut(soldOut.test(cartItem.getMenu().getMenuId()))
                 .build())
             .toList())
         .build();
@@ -1,5 +1,7 @@
 package jyang.deliverydotdot.dto.user;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import jyang.deliverydotdot.domain.Review;
@@ -20,7 +22,8 @@ public class GetReviewResponse {
   @Schema(description = "리뷰 ID", example = "1")
   private Long reviewId;
 
-  @Schema(description = "주문 ID", example = "1")
+  @JsonSerialize(using = ToStringSerializer.class)
+  @Schema(description = "주문 ID", type = "string", example = "1")
   private Long orderId;
 
   @Schema(description = "평점", example = "5.0")
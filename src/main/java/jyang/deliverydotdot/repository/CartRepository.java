@@ -4,6 +4,7 @@ import java.util.Optional;
 import jyang.deliverydotdot.domain.Cart;
 import jyang.deliverydotdot.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +13,23 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
 
   Optional<Cart> findByUser(User user);
 
-  @Query("select c from Cart c join fetch c.store where c.cartId = :cartId")
-  Cart findByIdWithStore(Long cartId);
+  /**
+   * 가게, 장바구니 항목, 메뉴를 한 번에 조회 (주문 생성용)
+   */
+  @Query(
+      "SELECT DISTINCT c FROM Cart c " +
+          "JOIN FETCH c.store " +
+          "LEFT JOIN FETCH c.cartItems ci " +
+          "LEFT JOIN FETCH ci.menu " +
+          "WHERE c.cartId = :cartId"
+  )
+  Cart findByIdWithItems(Long cartId);
+
+  @Modifying
+  @Query("DELETE FROM CartItem ci WHERE ci.cart.cartId = :cartId")
+  int deleteItemsByCartId(Long cartId);
+
+  @Modifying
+  @Query("DELETE FROM Cart c WHERE c.cartId = :cartId")
+  int deleteByCartId(Long cartId);
 }
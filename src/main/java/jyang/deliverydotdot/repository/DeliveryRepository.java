@@ -1,9 +1,14 @@
 package jyang.deliverydotdot.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import jyang.deliverydotdot.domain.Delivery;
 import jyang.deliverydotdot.domain.PurchaseOrder;
+import jyang.deliverydotdot.type.DeliveryStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +17,12 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
   boolean existsByPurchaseOrder(PurchaseOrder purchaseOrder);
 
   Optional<Delivery> findByPurchaseOrder(PurchaseOrder purchaseOrder);
+
+  @Query(
+      "SELECT DISTINCT d.rider.riderId FROM Delivery d " +
+          "WHERE d.rider.riderId IN :riderIds " +
+          "AND d.deliveryStatus IN :statuses"
+  )
+  List<Long> findRiderIdsByStatus(@Param("riderIds") Collection<Long> riderIds,
+      @Param("statuses") Collection<DeliveryStatus> statuses);
 }
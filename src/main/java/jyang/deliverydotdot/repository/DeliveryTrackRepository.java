@@ -0,0 +1,13 @@
+package jyang.deliverydotdot.repository;
+
+import java.util.Optional;
+import jyang.deliverydotdot.domain.Delivery;
+import jyang.deliverydotdot.domain.DeliveryTrack;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeliveryTrackRepository extends JpaRepository<DeliveryTrack, Long> {
+
+  Optional<DeliveryTrack> findByDelivery(Delivery delivery);
+}
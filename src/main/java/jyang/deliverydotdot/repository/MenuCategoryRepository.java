@@ -1,10 +1,30 @@
 package jyang.deliverydotdot.repository;
 
+import java.util.List;
 import jyang.deliverydotdot.domain.MenuCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MenuCategoryRepository extends JpaRepository<MenuCategory, Long> {
+public interface MenuCategoryRepository extends JpaRepository<MenuCategory, Long>,
+    MenuCategoryRepositoryCustom {
 
+  List<MenuCategory> findAllByStoreStoreIdOrderByDisplayOrderAsc(Long storeId);
+
+  @Query("SELECT mc.menuCategoryId FROM MenuCategory mc WHERE mc.store.storeId = :storeId")
+  List<Long> findIdsByStoreId(Long storeId);
+
+  /**
+   * 표시 순서가 from ~ to 인 카테고리의 순서를 delta 만큼 한 문장으로 이동
+   */
+  @Modifying
+  @Query(
+      "UPDATE MenuCategory mc SET mc.displayOrder = mc.displayOrder + :delta " +
+          "WHERE mc.store.storeId = :storeId " +
+          "AND mc.displayOrder BETWEEN :from AND :to " +
+          "AND mc.menuCategoryId <> :excludedId"
+  )
+  int shiftDisplayOrder(Long storeId, int from, int to, int delta, Long excludedId);
 }
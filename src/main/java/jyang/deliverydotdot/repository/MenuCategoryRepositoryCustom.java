@@ -0,0 +1,23 @@
+package jyang.deliverydotdot.repository;
+
+import java.util.List;
+
+public interface MenuCategoryRepositoryCustom {
+
+  /**
+   * 카테고리 안 메뉴 순서 버전 증가
+   *
+   * @param menuCategoryId  메뉴 카테고리 ID
+   * @param expectedVersion 현재 버전이 이 값일 때만 증가
+   * @return 증가했으면 true
+   */
+  boolean incrementMenuOrderVersion(Long menuCategoryId, Long expectedVersion);
+
+  /**
+   * 가게의 메뉴 카테고리 표시 순서를 한 문장으로 다시 매김
+   *
+   * @param storeId         가게 ID
+   * @param menuCategoryIds 가게의 전체 메뉴 카테고리 ID (표시 순서대로)
+   */
+  void renumber(Long storeId, List<Long> menuCategoryIds);
+}
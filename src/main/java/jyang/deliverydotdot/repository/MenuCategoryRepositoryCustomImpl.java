@@ -0,0 +1,41 @@
+package jyang.deliverydotdot.repository;
+
+import static jyang.deliverydotdot.util.SqlUtils.placeholders;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class MenuCategoryRepositoryCustomImpl implements MenuCategoryRepositoryCustom {
+
+  private static final String INCREMENT_MENU_ORDER_VERSION =
+      "UPDATE menu_category SET menu_order_version = COALESCE(menu_order_version, 0) + 1 "
+          + "WHERE menu_category_id = ? AND COALESCE(menu_order_version, 0) = ?";
+
+  // FIELD(menu_category_id, ...) 는 목록에서의 위치(1부터)
+  private static final String RENUMBER_MENU_CATEGORIES =
+      "UPDATE menu_category SET display_order = FIELD(menu_category_id, %s) "
+          + "WHERE store_id = ? AND deleted_at IS NULL";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public boolean incrementMenuOrderVersion(Long menuCategoryId, Long expectedVersion) {
+    return jdbcTemplate.update(INCREMENT_MENU_ORDER_VERSION, menuCategoryId, expectedVersion)
+        > 0;
+  }
+
+  @Override
+  @Transactional
+  public void renumber(Long storeId, List<Long> menuCategoryIds) {
+    Object[] args = new Object[menuCategoryIds.size() + 1];
+    for (int i = 0; i < menuCategoryIds.size(); i++) {
+      args[i] = menuCategoryIds.get(i);
+    }
+    args[menuCategoryIds.size()] = storeId;
+    jdbcTemplate.update(RENUMBER_MENU_CATEGORIES.formatted(
+        placeholders(menuCategoryIds.size())), args);
+  }
+}
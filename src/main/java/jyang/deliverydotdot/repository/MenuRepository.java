@@ -1,10 +1,19 @@
 package jyang.deliverydotdot.repository;
 
+import java.util.List;
 import jyang.deliverydotdot.domain.Menu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MenuRepository extends JpaRepository<Menu, Long> {
+public interface MenuRepository extends JpaRepository<Menu, Long>, MenuRepositoryCustom {
 
+  List<Menu> findAllByStoreStoreId(Long storeId);
+
+  @Query("SELECT m.menuId FROM Menu m WHERE m.menuCategory.menuCategoryId = :menuCategoryId")
+  List<Long> findIdsByMenuCategoryId(Long menuCategoryId);
+
+  @Query("SELECT m.menuId FROM Menu m WHERE m.soldOut = true")
+  List<Long> findSoldOutMenuIds();
 }
@@ -0,0 +1,31 @@
+package jyang.deliverydotdot.repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+import jyang.deliverydotdot.domain.Menu;
+
+public interface MenuRepositoryCustom {
+
+  /**
+   * 메뉴 일괄 등록 (JDBC batch insert)
+   *
+   * @param menus 등록할 메뉴 (가게 / 메뉴 카테고리는 ID 만 사용)
+   */
+  void insertAll(List<Menu> menus);
+
+  /**
+   * 가게의 메뉴를 메뉴 카테고리 / 메뉴 ID 순으로 한 행씩 전달 (결과 전체를 메모리에 올리지 않음)
+   *
+   * @param storeId  가게 ID
+   * @param consumer 메뉴 처리 (메뉴 카테고리는 ID 만 채워짐)
+   */
+  void streamByStoreId(Long storeId, Consumer<Menu> consumer);
+
+  /**
+   * 카테고리 안 메뉴 표시 순서를 한 문장으로 다시 매김
+   *
+   * @param menuCategoryId 메뉴 카테고리 ID
+   * @param menuIds        카테고리의 전체 메뉴 ID (표시 순서대로)
+   */
+  void renumber(Long menuCategoryId, List<Long> menuIds);
+}
@@ -0,0 +1,82 @@
+package jyang.deliverydotdot.repository;
+
+import static jyang.deliverydotdot.util.SqlUtils.placeholders;
+
+import java.util.List;
+import java.util.function.Consumer;
+import jyang.deliverydotdot.domain.Menu;
+import jyang.deliverydotdot.domain.MenuCategory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+public class MenuRepositoryCustomImpl implements MenuRepositoryCustom {
+
+  private static final String INSERT_MENU =
+      "INSERT INTO menu (store_id, menu_category_id, menu_name, price, menu_description, "
+          + "menu_image_url, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, now(), now())";
+
+  private static final String SELECT_STORE_MENUS =
+      "SELECT menu_id, menu_category_id, menu_name, price, menu_description, menu_image_url "
+          + "FROM menu WHERE store_id = ? AND deleted_at IS NULL "
+          + "ORDER BY menu_category_id, menu_id";
+
+  // FIELD(menu_id, ...) 는 목록에서의 위치(1부터)
+  private static final String RENUMBER_MENUS =
+      "UPDATE menu SET display_order = FIELD(menu_id, %s) "
+          + "WHERE menu_category_id = ? AND deleted_at IS NULL";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍한다
+  private final JdbcTemplate streamingJdbcTemplate;
+
+  public MenuRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+    this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+  }
+
+  @Override
+  @Transactional
+  public void insertAll(List<Menu> menus) {
+    if (menus.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(INSERT_MENU, menus, menus.size(), (ps, menu) -> {
+      ps.setLong(1, menu.getStore().getStoreId());
+      ps.setLong(2, menu.getMenuCategory().getMenuCategoryId());
+      ps.setString(3, menu.getMenuName());
+      ps.setInt(4, menu.getPrice());
+      ps.setString(5, menu.getMenuDescription());
+      ps.setString(6, menu.getMenuImageUrl());
+    });
+  }
+
+  @Override
+  public void streamByStoreId(Long storeId, Consumer<Menu> consumer) {
+    streamingJdbcTemplate.query(SELECT_STORE_MENUS, rs -> {
+      consumer.accept(Menu.builder()
+          .menuId(rs.getLong("menu_id"))
+          .menuCategory(MenuCategory.builder()
+              .menuCategoryId(rs.getLong("menu_category_id"))
+              .build())
+          .menuName(rs.getString("menu_name"))
+          .price(rs.getInt("price"))
+          .menuDescription(rs.getString("menu_description"))
+          .menuImageUrl(rs.getString("menu_image_url"))
+          .build());
+    }, storeId);
+  }
+
+  @Override
+  @Transactional
+  public void renumber(Long menuCategoryId, List<Long> menuIds) {
+    Object[] args = new Object[menuIds.size() + 1];
+    for (int i = 0; i < menuIds.size(); i++) {
+      args[i] = menuIds.get(i);
+    }
+    args[menuIds.size()] = menuCategoryId;
+    jdbcTemplate.update(RENUMBER_MENUS.formatted(placeholders(menuIds.size())), args);
+  }
+}
@@ -1,5 +1,8 @@
 package jyang.deliverydotdot.repository;
 
+import java.util.Collection;
+import java.util.List;
+import jyang.deliverydotdot.domain.OrderItem;
 import jyang.deliverydotdot.domain.PurchaseOrder;
 import jyang.deliverydotdot.domain.Store;
 import jyang.deliverydotdot.domain.User;
@@ -12,7 +15,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface OrderRepository extends JpaRepository<PurchaseOrder, Long> {
+public interface OrderRepository extends JpaRepository<PurchaseOrder, Long>,
+    OrderRepositoryCustom {
 
   @Query(
       "SELECT o FROM PurchaseOrder o " +
@@ -99,4 +103,21 @@ public interface OrderRepository extends JpaRepository<PurchaseOrder, Long> {
   )
   Slice<PurchaseOrder> findByUserAndStatusAndQuery(User user, OrderStatus status, String query,
       Pageable pageable);
+
+  @Query(
+      "SELECT o FROM PurchaseOrder o " +
+          "JOIN FETCH o.store " +
+          "WHERE o.orderStatus IN :statuses " +
+          "AND NOT EXISTS (SELECT d FROM Delivery d WHERE d.purchaseOrder = o) " +
+          "ORDER BY o.createdAt ASC"
+  )
+  List<PurchaseOrder> findDispatchableOrders(@Param("statuses") Collection<OrderStatus> statuses,
+      Pageable pageable);
+
+  @Query(
+      "SELECT oi FROM OrderItem oi " +
+          "JOIN FETCH oi.purchaseOrder " +
+          "WHERE oi.purchaseOrder.purchaseOrderId = :purchaseOrderId"
+  )
+  List<OrderItem> findItemsByPurchaseOrderId(Long purchaseOrderId);
 }
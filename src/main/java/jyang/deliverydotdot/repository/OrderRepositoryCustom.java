@@ -0,0 +1,28 @@
+package jyang.deliverydotdot.repository;
+
+import jyang.deliverydotdot.type.OrderTransition;
+
+public interface OrderRepositoryCustom {
+
+  /**
+   * 파트너의 주문 상태 전이 (가게 소유자 / 가게의 주문 / 이전 상태를 조건으로 한 UPDATE 한 문장)
+   *
+   * @param purchaseOrderId 주문 ID
+   * @param storeId         가게 ID
+   * @param partnerId       파트너 ID
+   * @param transition      상태 전이
+   * @return 전이되었으면 true
+   */
+  boolean transitionByPartner(Long purchaseOrderId, Long storeId, Long partnerId,
+      OrderTransition transition);
+
+  /**
+   * 사용자의 주문 상태 전이 (주문자 / 이전 상태를 조건으로 한 UPDATE 한 문장)
+   *
+   * @param purchaseOrderId 주문 ID
+   * @param userId          사용자 ID
+   * @param transition      상태 전이
+   * @return 전이되었으면 true
+   */
+  boolean transitionByUser(Long purchaseOrderId, Long userId, OrderTransition transition);
+}
@@ -0,0 +1,71 @@
+package jyang.deliverydotdot.repository;
+
+import static jyang.deliverydotdot.util.SqlUtils.placeholders;
+
+import java.util.ArrayList;
+import java.util.List;
+import jyang.deliverydotdot.type.OrderStatus;
+import jyang.deliverydotdot.type.OrderTransition;
+import jyang.deliverydotdot.type.OrderTransition.Actor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+  private static final String TRANSITION_BY_PARTNER =
+      "UPDATE purchase_order o JOIN store s ON s.store_id = o.store_id "
+          + "SET o.order_status = ?, o.updated_at = now() "
+          + "WHERE o.purchase_order_id = ? AND o.store_id = ? "
+          + "AND s.partner_id = ? AND s.deleted_at IS NULL "
+          + "AND o.order_status IN (%s)";
+
+  private static final String TRANSITION_BY_USER =
+      "UPDATE purchase_order SET order_status = ?, updated_at = now() "
+          + "WHERE purchase_order_id = ? AND user_id = ? "
+          + "AND order_status IN (%s)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  @Transactional
+  public boolean transitionByPartner(Long purchaseOrderId, Long storeId, Long partnerId,
+      OrderTransition transition) {
+    validateActor(transition, Actor.PARTNER);
+
+    List<Object> args = new ArrayList<>();
+    args.add(transition.getTo().name());
+    args.add(purchaseOrderId);
+    args.add(storeId);
+    args.add(partnerId);
+    for (OrderStatus status : transition.getFrom()) {
+      args.add(status.name());
+    }
+    return jdbcTemplate.update(TRANSITION_BY_PARTNER.formatted(
+        placeholders(transition.getFrom().size())), args.toArray()) == 1;
+  }
+
+  @Override
+  @Transactional
+  public boolean transitionByUser(Long purchaseOrderId, Long userId,
+      OrderTransition transition) {
+    validateActor(transition, Actor.USER);
+
+    List<Object> args = new ArrayList<>();
+    args.add(transition.getTo().name());
+    args.add(purchaseOrderId);
+    args.add(userId);
+    for (OrderStatus status : transition.getFrom()) {
+      args.add(status.name());
+    }
+    return jdbcTemplate.update(TRANSITION_BY_USER.formatted(
+        placeholders(transition.getFrom().size())), args.toArray()) == 1;
+  }
+
+  private static void validateActor(OrderTransition transition, Actor actor) {
+    if (transition.getActor() != actor) {
+      throw new IllegalArgumentException(transition + " is not a " + actor + " transition");
+    }
+  }
+}
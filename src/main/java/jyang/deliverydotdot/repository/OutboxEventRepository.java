@@ -0,0 +1,70 @@
+package jyang.deliverydotdot.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import jyang.deliverydotdot.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  @Query(
+      "SELECT e FROM OutboxEvent e " +
+          "WHERE e.publishedAt IS NULL " +
+          "AND e.attempts < :maxAttempts " +
+          "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) " +
+          "ORDER BY e.outboxEventId"
+  )
+  List<OutboxEvent> findPending(int maxAttempts, LocalDateTime now, Pageable pageable);
+
+  /**
+   * 재시도를 기다리는 이벤트 (같은 대상의 이후 이벤트를 먼저 전달하지 않도록 사용)
+   */
+  @Query(
+      "SELECT e FROM OutboxEvent e " +
+          "WHERE e.publishedAt IS NULL " +
+          "AND e.attempts < :maxAttempts " +
+          "AND e.nextAttemptAt > :now"
+  )
+  List<OutboxEvent> findBackingOff(int maxAttempts, LocalDateTime now);
+
+  /**
+   * 최대 횟수를 넘어 더 이상 전달하지 않는 이벤트 수
+   */
+  @Query(
+      "SELECT COUNT(e) FROM OutboxEvent e " +
+          "WHERE e.publishedAt IS NULL " +
+          "AND e.attempts >= :maxAttempts"
+  )
+  long countParked(int maxAttempts);
+
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.outboxEventId IN :ids")
+  int markPublished(Collection<Long> ids, LocalDateTime publishedAt);
+
+  @Modifying
+  @Query(
+      "UPDATE OutboxEvent e " +
+          "SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt " +
+          "WHERE e.outboxEventId = :id"
+  )
+  int scheduleRetry(Long id, LocalDateTime nextAttemptAt);
+
+  /**
+   * 전달된 지 오래된 이벤트 삭제 (한 번에 size 건)
+   */
+  @Modifying
+  @Query(
+      value = "DELETE FROM outbox_event " +
+          "WHERE published_at < :before " +
+          "LIMIT :size",
+      nativeQuery = true
+  )
+  int deletePublishedBefore(@Param("before") LocalDateTime before, @Param("size") int size);
+}
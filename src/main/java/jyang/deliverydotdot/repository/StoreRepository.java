@@ -1,11 +1,62 @@
 package jyang.deliverydotdot.repository;
 
+import java.util.List;
 import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.dto.store.NearbyStoreDTO.NearbyStoreView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface StoreRepository extends JpaRepository<Store, Long> {
+public interface StoreRepository extends JpaRepository<Store, Long>, StoreRepositoryCustom {
 
   boolean existsByRegistrationNumber(String registrationNumber);
+
+  // 배송지 기준 배달 가능한 가게, MBRContains 로 공간 인덱스를 타고 ST_Distance_Sphere 로 거리(m) 계산
+  String NEARBY_STORES =
+      "SELECT * FROM ("
+          + "SELECT s.store_id AS storeId, s.store_name AS storeName, "
+          + "s.store_category_id AS storeCategoryId, s.store_address AS storeAddress, "
+          + "COALESCE(s.average_rating, 0) AS averageRating, "
+          + "COALESCE(s.review_count, 0) AS reviewCount, "
+          + "COALESCE(s.delivery_radius, :defaultRadius) AS deliveryRadius, "
+          + "ST_Distance_Sphere(s.coordinates, POINT(:longitude, :latitude)) AS distance "
+          + "FROM store s "
+          + "WHERE MBRContains(ST_MakeEnvelope(POINT(:minLongitude, :minLatitude), "
+          + "POINT(:maxLongitude, :maxLatitude)), s.coordinates) "
+          + "AND s.deleted_at IS NULL "
+          + "AND (:storeCategoryId IS NULL OR s.store_category_id = :storeCategoryId)"
+          + ") t "
+          + "WHERE t.distance <= t.deliveryRadius ";
+
+  @Query(value = NEARBY_STORES
+      + "AND (t.distance > :cursorDistance "
+      + "OR (t.distance = :cursorDistance AND t.storeId > :cursorId)) "
+      + "ORDER BY t.distance ASC, t.storeId ASC "
+      + "LIMIT :size",
+      nativeQuery = true)
+  List<NearbyStoreView> findNearbyOrderByDistance(
+      @Param("longitude") double longitude, @Param("latitude") double latitude,
+      @Param("minLongitude") double minLongitude, @Param("minLatitude") double minLatitude,
+      @Param("maxLongitude") double maxLongitude, @Param("maxLatitude") double maxLatitude,
+      @Param("defaultRadius") int defaultRadius,
+      @Param("storeCategoryId") Long storeCategoryId,
+      @Param("cursorDistance") double cursorDistance, @Param("cursorId") long cursorId,
+      @Param("size") int size);
+
+  @Query(value = NEARBY_STORES
+      + "AND (t.averageRating < :cursorRating "
+      + "OR (t.averageRating = :cursorRating AND t.storeId > :cursorId)) "
+      + "ORDER BY t.averageRating DESC, t.storeId ASC "
+      + "LIMIT :size",
+      nativeQuery = true)
+  List<NearbyStoreView> findNearbyOrderByRating(
+      @Param("longitude") double longitude, @Param("latitude") double latitude,
+      @Param("minLongitude") double minLongitude, @Param("minLatitude") double minLatitude,
+      @Param("maxLongitude") double maxLongitude, @Param("maxLatitude") double maxLatitude,
+      @Param("defaultRadius") int defaultRadius,
+      @Param("storeCategoryId") Long storeCategoryId,
+      @Param("cursorRating") double cursorRating, @Param("cursorId") long cursorId,
+      @Param("size") int size);
 }
@@ -0,0 +1,32 @@
+package jyang.deliverydotdot.repository;
+
+import java.util.List;
+import jyang.deliverydotdot.dto.store.StoreRatingDTO.RatingDelta;
+
+public interface StoreRepositoryCustom {
+
+  /**
+   * 가게 평점 / 리뷰 수 변경분 일괄 반영
+   *
+   * @param deltas 가게별 변경분
+   */
+  void applyRatingDeltas(List<RatingDelta> deltas);
+
+  /**
+   * 리뷰 테이블로부터 가게 평점 / 리뷰 수 재계산 (가게 ID 순 구간 단위)
+   *
+   * @param afterStoreId 이 ID 이후의 가게부터
+   * @param chunkSize    구간의 가게 수
+   * @return 재계산한 가게 ID, 더 이상 없으면 빈 목록
+   */
+  List<Long> rebuildRatings(long afterStoreId, int chunkSize);
+
+  /**
+   * 메뉴 카테고리 순서 버전 증가
+   *
+   * @param storeId         가게 ID
+   * @param expectedVersion 현재 버전이 이 값일 때만 증가, null 이면 항상 증가
+   * @return 증가했으면 true
+   */
+  boolean incrementMenuCategoryVersion(Long storeId, Long expectedVersion);
+}
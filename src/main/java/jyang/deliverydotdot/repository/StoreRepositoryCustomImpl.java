@@ -0,0 +1,76 @@
+package jyang.deliverydotdot.repository;
+
+import java.util.List;
+import jyang.deliverydotdot.dto.store.StoreRatingDTO.RatingDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
+
+  // SET 은 왼쪽부터 적용되므로 평균을 먼저 기존 리뷰 수로 계산한 뒤 리뷰 수를 갱신
+  private static final String APPLY_RATING_DELTA =
+      "UPDATE store SET "
+          + "average_rating = CASE WHEN COALESCE(review_count, 0) + ? <= 0 THEN 0 "
+          + "ELSE (COALESCE(average_rating, 0) * COALESCE(review_count, 0) + ?) "
+          + "/ (COALESCE(review_count, 0) + ?) END, "
+          + "review_count = GREATEST(COALESCE(review_count, 0) + ?, 0) "
+          + "WHERE store_id = ?";
+
+  private static final String SELECT_STORE_IDS =
+      "SELECT store_id FROM store WHERE store_id > ? ORDER BY store_id LIMIT ?";
+
+  private static final String REBUILD_RATINGS =
+      "UPDATE store s LEFT JOIN ("
+          + "SELECT o.store_id, COUNT(*) AS review_count, AVG(r.rating) AS average_rating "
+          + "FROM review r JOIN purchase_order o ON o.purchase_order_id = r.purchase_order_id "
+          + "WHERE r.deleted_at IS NULL AND o.store_id BETWEEN ? AND ? "
+          + "GROUP BY o.store_id) a ON a.store_id = s.store_id "
+          + "SET s.average_rating = COALESCE(a.average_rating, 0), "
+          + "s.review_count = COALESCE(a.review_count, 0) "
+          + "WHERE s.store_id BETWEEN ? AND ?";
+
+  private static final String INCREMENT_MENU_CATEGORY_VERSION =
+      "UPDATE store SET menu_category_version = COALESCE(menu_category_version, 0) + 1 "
+          + "WHERE store_id = ? AND (? IS NULL OR COALESCE(menu_category_version, 0) = ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  @Transactional
+  public void applyRatingDeltas(List<RatingDelta> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(APPLY_RATING_DELTA, deltas, deltas.size(), (ps, delta) -> {
+      ps.setLong(1, delta.getReviewCount());
+      ps.setDouble(2, delta.getRatingSum());
+      ps.setLong(3, delta.getReviewCount());
+      ps.setLong(4, delta.getReviewCount());
+      ps.setLong(5, delta.getStoreId());
+    });
+  }
+
+  @Override
+  @Transactional
+  public List<Long> rebuildRatings(long afterStoreId, int chunkSize) {
+    List<Long> storeIds =
+        jdbcTemplate.queryForList(SELECT_STORE_IDS, Long.class, afterStoreId, chunkSize);
+    if (storeIds.isEmpty()) {
+      return storeIds;
+    }
+
+    long first = storeIds.get(0);
+    long last = storeIds.get(storeIds.size() - 1);
+    jdbcTemplate.update(REBUILD_RATINGS, first, last, first, last);
+    return storeIds;
+  }
+
+  @Override
+  public boolean incrementMenuCategoryVersion(Long storeId, Long expectedVersion) {
+    return jdbcTemplate.update(INCREMENT_MENU_CATEGORY_VERSION, storeId, expectedVersion,
+        expectedVersion) > 0;
+  }
+}
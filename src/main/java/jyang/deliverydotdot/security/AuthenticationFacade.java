@@ -31,4 +31,16 @@ public class AuthenticationFacade {
     }
     return null;
   }
+
+  /**
+   * 토큰에 담긴 사용자 ID 조회 (DB 조회 없음)
+   *
+   * @return 사용자 ID, 토큰에 ID가 없으면 null
+   */
+  public Long getId() {
+    if (getCurrentUser() instanceof CommonUserDetails userDetails) {
+      return userDetails.getId();
+    }
+    return null;
+  }
 }
@@ -44,10 +44,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       if (token != null && !jwtTokenProvider.isExpired(token)) {
         String username = jwtTokenProvider.getUsername(token);
         String role = jwtTokenProvider.getRole(token);
+        Long id = jwtTokenProvider.getId(token);
 
         // 사용자 정보를 이용해 Authentication 객체 생성
         CommonUserDetails user =
-            new CommonUserDetails(username, "", UserRole.valueOf(role.toUpperCase()));
+            new CommonUserDetails(username, "", UserRole.valueOf(role.toUpperCase()), id);
 
         Authentication authentication =
             new UsernamePasswordAuthenticationToken(user, token, user.getAuthorities());
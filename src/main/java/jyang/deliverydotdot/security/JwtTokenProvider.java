@@ -25,10 +25,15 @@ public class JwtTokenProvider {
   }
 
   public String createToken(String username, String role) {
+    return createToken(username, role, null);
+  }
+
+  public String createToken(String username, String role, Long id) {
     long now = System.currentTimeMillis();
     return Jwts.builder()
         .claim("username", username)
         .claim("role", role)
+        .claim("id", id)
         .issuedAt(new Date(now))
         .expiration(new Date(now + expiration))
         .signWith(secretKey)
@@ -47,6 +52,10 @@ public class JwtTokenProvider {
     return getClaims(token).get("role", String.class);
   }
 
+  public Long getId(String token) {
+    return getClaims(token).get("id", Long.class);
+  }
+
   public Boolean isExpired(String token) {
     return getClaims(token).getExpiration().before(new Date());
   }
@@ -56,7 +56,7 @@ public class UserLoginFilter extends UsernamePasswordAuthenticationFilter {
 
     String role = auth.getAuthority();
 
-    String token = jwtTokenProvider.createToken(username, role);
+    String token = jwtTokenProvider.createToken(username, role, user.getId());
 
     response.addHeader("Authorization", "Bearer " + token);
   }
@@ -35,6 +35,8 @@ public class CartService {
 
   private final CartItemRepository cartItemRepository;
 
+  private final MenuAvailabilityRegistry menuAvailabilityRegistry;
+
   /**
    * 장바구니 추가
    *
@@ -51,6 +53,7 @@ public class CartService {
 
     for (CartItemDTO cartItemDTO : cartDTO.getCartItems()) {
       Menu menu = menuService.getMenuById(cartItemDTO.getMenuId());
+      menuAvailabilityRegistry.validateAvailable(menu.getMenuId(), cartItemDTO.getQuantity());
 
       if (cart.getStore() == null) {
         cart.setStore(menu.getStore());
@@ -76,7 +79,8 @@ public class CartService {
   public GetCartResponse getCart(User user) {
     Optional<Cart> cart = cartRepository.findByUser(user);
 
-    return cart.map(GetCartResponse::fromCart)
+    // 품절 여부는 메모리에서 조회
+    return cart.map(c -> GetCartResponse.fromCart(c, menuAvailabilityRegistry::isSoldOut))
         .orElseGet(GetCartResponse.builder()::build);
   }
 
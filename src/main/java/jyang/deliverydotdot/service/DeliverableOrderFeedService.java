@@ -0,0 +1,337 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.location.LocationEventDTO.ORDER_LOCATION_CHANNEL;
+import static jyang.deliverydotdot.dto.location.LocationEventDTO.RIDER_LOCATION_CHANNEL;
+import static jyang.deliverydotdot.dto.rider.DispatchDTO.DELIVERY_ASSIGNED_CHANNEL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import jyang.deliverydotdot.dto.location.LocationEventDTO.OrderLocationEvent;
+import jyang.deliverydotdot.dto.location.LocationEventDTO.RiderLocationEvent;
+import jyang.deliverydotdot.dto.location.LocationEventDTO.RiderLocationEvents;
+import jyang.deliverydotdot.dto.order.OrderDTO.RiderDeliverableOrders;
+import jyang.deliverydotdot.dto.rider.DispatchDTO.DeliveryAssignedEvent;
+import jyang.deliverydotdot.type.LocationEventType;
+import jyang.deliverydotdot.util.GeoDistance;
+import jyang.deliverydotdot.util.GeoHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 라이더 배달 가능 주문 실시간 피드 (SSE)
+ * <p>
+ * 라이더는 한 번 구독하면 반경 내 주문 목록(snapshot)을 받은 뒤, 주문 등록 / 삭제와 자신의 이동에 따라 added / removed 이벤트만
+ * 전달받는다. 자동 배차된 경우 assigned 이벤트를 받는다. 주문 / 라이더 위치 이벤트는 Redis pub/sub 으로 모든 노드에 전달되며, 각 노드는
+ * 자신에게 연결된 구독자에게만 전송한다.
+ */
+@Service
+@Slf4j
+public class DeliverableOrderFeedService {
+
+  private static final double RADIUS_KM = 5;
+
+  private static final int FEED_LIMIT = 100;
+
+  // 이 거리(km) 이상 이동했을 때만 주문 목록을 다시 계산
+  private static final double MOVE_THRESHOLD_KM = 0.05;
+
+  private static final int CELL_PRECISION = 5;
+
+  private final RedisService redisService;
+
+  private final ObjectMapper objectMapper;
+
+  private final long emitterTimeout;
+
+  private final Map<Long, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+  // 셀별 구독 중인 라이더
+  private final Map<String, Set<Long>> subscribersByCell = new ConcurrentHashMap<>();
+
+  // 주문별 해당 주문을 전달받은 라이더
+  private final Map<Long, Set<Long>> viewersByOrder = new ConcurrentHashMap<>();
+
+  public DeliverableOrderFeedService(
+      RedisService redisService,
+      ObjectMapper objectMapper,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      @Value("${rider.feed.timeout-ms:1800000}") long emitterTimeout) {
+    this.redisService = redisService;
+    this.objectMapper = objectMapper;
+    this.emitterTimeout = emitterTimeout;
+
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> onOrderLocationEvent(message),
+        new ChannelTopic(ORDER_LOCATION_CHANNEL));
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> onRiderLocationEvents(message),
+        new ChannelTopic(RIDER_LOCATION_CHANNEL));
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> onDeliveryAssignedEvent(message),
+        new ChannelTopic(DELIVERY_ASSIGNED_CHANNEL));
+  }
+
+  /**
+   * 배달 가능 주문 피드 구독
+   *
+   * @param riderId 라이더 ID
+   * @return SSE emitter
+   */
+  public SseEmitter subscribe(Long riderId) {
+    SseEmitter emitter = new SseEmitter(emitterTimeout);
+    Subscription subscription = new Subscription(riderId, emitter);
+
+    emitter.onCompletion(() -> unsubscribe(subscription));
+    emitter.onTimeout(() -> unsubscribe(subscription));
+    emitter.onError(e -> unsubscribe(subscription));
+
+    Subscription previous = subscriptions.put(riderId, subscription);
+    if (previous != null) {
+      unsubscribe(previous);
+      previous.emitter.complete();
+    }
+
+    Point location = redisService.getRiderLocation(riderId);
+    List<RiderDeliverableOrders> orders = List.of();
+    if (location != null) {
+      moveSubscription(subscription, location);
+      orders = redisService.getOrdersNearby(location, FEED_LIMIT);
+      orders.forEach(order -> addViewer(subscription, order.getPurchaseOrderId()));
+    }
+    send(subscription, "snapshot", orders);
+
+    return emitter;
+  }
+
+  /**
+   * 연결 유지를 위한 heartbeat 전송
+   */
+  @Scheduled(fixedDelayString = "${rider.feed.heartbeat-ms:30000}")
+  public void heartbeat() {
+    subscriptions.values().forEach(subscription -> {
+      synchronized (subscription) {
+        try {
+          subscription.emitter.send(SseEmitter.event().comment("heartbeat"));
+        } catch (IOException | IllegalStateException e) {
+          unsubscribe(subscription);
+        }
+      }
+    });
+  }
+
+  private void onOrderLocationEvent(Message message) {
+    OrderLocationEvent event = read(message, OrderLocationEvent.class);
+    if (event == null || subscriptions.isEmpty()) {
+      return;
+    }
+
+    if (event.getType() == LocationEventType.ADDED) {
+      onOrderAdded(event.getOrderId(), event.getLongitude(), event.getLatitude());
+    } else {
+      onOrderRemoved(event.getOrderId());
+    }
+  }
+
+  private void onOrderAdded(Long orderId, double longitude, double latitude) {
+    for (String cell : GeoHash.coveringCells(longitude, latitude, RADIUS_KM, CELL_PRECISION)) {
+      Set<Long> riderIds = subscribersByCell.get(cell);
+      if (riderIds == null) {
+        continue;
+      }
+      for (Long riderId : riderIds) {
+        Subscription subscription = subscriptions.get(riderId);
+        if (subscription == null || subscription.location == null) {
+          continue;
+        }
+        double distance = GeoDistance.haversineKm(subscription.location.getX(),
+            subscription.location.getY(), longitude, latitude);
+        if (distance <= RADIUS_KM && addViewer(subscription, orderId)) {
+          send(subscription, "added", RiderDeliverableOrders.builder()
+              .purchaseOrderId(orderId)
+              .distance(distance)
+              .build());
+        }
+      }
+    }
+  }
+
+  private void onOrderRemoved(Long orderId) {
+    Set<Long> riderIds = viewersByOrder.remove(orderId);
+    if (riderIds == null) {
+      return;
+    }
+    for (Long riderId : riderIds) {
+      Subscription subscription = subscriptions.get(riderId);
+      if (subscription != null && subscription.visibleOrders.remove(orderId)) {
+        send(subscription, "removed", RiderDeliverableOrders.builder()
+            .purchaseOrderId(orderId)
+            .build());
+      }
+    }
+  }
+
+  private void onRiderLocationEvents(Message message) {
+    RiderLocationEvents events = read(message, RiderLocationEvents.class);
+    if (events == null || events.getLocations() == null || subscriptions.isEmpty()) {
+      return;
+    }
+
+    for (RiderLocationEvent event : events.getLocations()) {
+      Subscription subscription = subscriptions.get(event.getRiderId());
+      if (subscription == null) {
+        continue;
+      }
+
+      Point location = new Point(event.getLongitude(), event.getLatitude());
+      Point previous = subscription.location;
+      if (previous != null && GeoDistance.haversineKm(previous.getX(), previous.getY(),
+          location.getX(), location.getY()) < MOVE_THRESHOLD_KM) {
+        continue;
+      }
+
+      moveSubscription(subscription, location);
+      refresh(subscription, location);
+    }
+  }
+
+  private void onDeliveryAssignedEvent(Message message) {
+    DeliveryAssignedEvent event = read(message, DeliveryAssignedEvent.class);
+    if (event == null) {
+      return;
+    }
+
+    Subscription subscription = subscriptions.get(event.getRiderId());
+    if (subscription != null) {
+      send(subscription, "assigned", event);
+    }
+  }
+
+  /**
+   * 라이더 이동 후 주문 목록을 다시 계산하여 변경분만 전송
+   */
+  private void refresh(Subscription subscription, Point location) {
+    List<RiderDeliverableOrders> orders = redisService.getOrdersNearby(location, FEED_LIMIT);
+    Set<Long> nearbyOrderIds = orders.stream()
+        .map(RiderDeliverableOrders::getPurchaseOrderId)
+        .collect(Collectors.toSet());
+
+    for (Long orderId : Set.copyOf(subscription.visibleOrders)) {
+      if (!nearbyOrderIds.contains(orderId)) {
+        removeViewer(subscription, orderId);
+        send(subscription, "removed", RiderDeliverableOrders.builder()
+            .purchaseOrderId(orderId)
+            .build());
+      }
+    }
+
+    for (RiderDeliverableOrders order : orders) {
+      if (addViewer(subscription, order.getPurchaseOrderId())) {
+        send(subscription, "added", order);
+      }
+    }
+  }
+
+  private void moveSubscription(Subscription subscription, Point location) {
+    String cell = GeoHash.encode(location.getX(), location.getY(), CELL_PRECISION);
+    if (!cell.equals(subscription.cell)) {
+      if (subscription.cell != null) {
+        removeFromCell(subscription.cell, subscription.riderId);
+      }
+      subscribersByCell.computeIfAbsent(cell, key -> ConcurrentHashMap.newKeySet())
+          .add(subscription.riderId);
+      subscription.cell = cell;
+    }
+    subscription.location = location;
+  }
+
+  private boolean addViewer(Subscription subscription, Long orderId) {
+    if (!subscription.visibleOrders.add(orderId)) {
+      return false;
+    }
+    viewersByOrder.computeIfAbsent(orderId, key -> ConcurrentHashMap.newKeySet())
+        .add(subscription.riderId);
+    return true;
+  }
+
+  private void removeViewer(Subscription subscription, Long orderId) {
+    subscription.visibleOrders.remove(orderId);
+    viewersByOrder.computeIfPresent(orderId, (key, riderIds) -> {
+      riderIds.remove(subscription.riderId);
+      return riderIds.isEmpty() ? null : riderIds;
+    });
+  }
+
+  private void removeFromCell(String cell, Long riderId) {
+    subscribersByCell.computeIfPresent(cell, (key, riderIds) -> {
+      riderIds.remove(riderId);
+      return riderIds.isEmpty() ? null : riderIds;
+    });
+  }
+
+  private void unsubscribe(Subscription subscription) {
+    if (!subscription.active.compareAndSet(true, false)) {
+      return;
+    }
+    subscriptions.remove(subscription.riderId, subscription);
+    if (subscription.cell != null) {
+      removeFromCell(subscription.cell, subscription.riderId);
+    }
+    for (Long orderId : Set.copyOf(subscription.visibleOrders)) {
+      removeViewer(subscription, orderId);
+    }
+  }
+
+  private void send(Subscription subscription, String eventName, Object data) {
+    synchronized (subscription) {
+      try {
+        subscription.emitter.send(SseEmitter.event().name(eventName).data(data));
+      } catch (IOException | IllegalStateException e) {
+        log.debug("Failed to send feed event. riderId : {}", subscription.riderId, e);
+        unsubscribe(subscription);
+      }
+    }
+  }
+
+  private <T> T read(Message message, Class<T> type) {
+    try {
+      return objectMapper.readValue(message.getBody(), type);
+    } catch (IOException e) {
+      log.error("Failed to read feed event. channel : {}",
+          new String(message.getChannel()), e);
+      return null;
+    }
+  }
+
+  private static class Subscription {
+
+    private final Long riderId;
+
+    private final SseEmitter emitter;
+
+    private final Set<Long> visibleOrders = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean active = new AtomicBoolean(true);
+
+    private volatile Point location;
+
+    private volatile String cell;
+
+    private Subscription(Long riderId, SseEmitter emitter) {
+      this.riderId = riderId;
+      this.emitter = emitter;
+    }
+  }
+}
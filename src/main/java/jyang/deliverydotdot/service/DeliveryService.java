@@ -1,18 +1,26 @@
 package jyang.deliverydotdot.service;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import jyang.deliverydotdot.domain.Delivery;
 import jyang.deliverydotdot.domain.PurchaseOrder;
 import jyang.deliverydotdot.domain.Rider;
 import jyang.deliverydotdot.dto.rider.CompleteDeliveryForm;
+import jyang.deliverydotdot.dto.rider.DeliveryEventDTO.DeliveryStatusChangedEvent;
 import jyang.deliverydotdot.exception.RestApiException;
 import jyang.deliverydotdot.repository.DeliveryRepository;
+import jyang.deliverydotdot.repository.RiderRepository;
 import jyang.deliverydotdot.type.DeliveryStatus;
 import jyang.deliverydotdot.type.ErrorCode;
+import jyang.deliverydotdot.type.OutboxEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.geo.Point;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -22,30 +30,54 @@ public class DeliveryService {
 
   private final DeliveryRepository deliveryRepository;
 
+  private final RiderRepository riderRepository;
+
   private final RedisService redisService;
 
   private final OrderService orderService;
 
   private final S3Service s3Service;
 
-
-  @Transactional
-  public void createDelivery(Rider rider, Long orderId) {
-
-    PurchaseOrder purchaseOrder = orderService.getOrderById(orderId);
-
-    if (deliveryRepository.existsByPurchaseOrder(purchaseOrder)) {
+  private final RiderTrackService riderTrackService;
+
+  private final OutboxService outboxService;
+
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * 배달 생성 (라이더의 주문 선점)
+   * <p>
+   * 토큰의 라이더 ID 로 Redis 에서 먼저 주문을 선점하므로 경쟁에서 진 라이더는 DB 에 접근하지 않고 실패한다. 선점에 성공한 경우에만
+   * 라이더를 조회하고 배달을 저장하며,
+   * purchase_order_id 유니크 제약으로 자동 배차 등 다른 경로와의 중복도 막는다. 배달과 배정 이벤트는 한 트랜잭션으로 저장한다.
+   *
+   * @param riderId 라이더 ID
+   * @param orderId 주문 ID
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void createDelivery(Long riderId, Long orderId) {
+    Point position = redisService.claimOrder(orderId, riderId);
+
+    try {
+      Rider rider = riderRepository.findById(riderId)
+          .orElseThrow(() -> new RestApiException(ErrorCode.RIDER_NOT_FOUND));
+      PurchaseOrder purchaseOrder = orderService.getOrderById(orderId);
+
+      transactionTemplate.executeWithoutResult(status -> {
+        Delivery delivery = deliveryRepository.saveAndFlush(
+            Delivery.builder()
+                .rider(rider)
+                .purchaseOrder(purchaseOrder)
+                .deliveryStatus(DeliveryStatus.ASSIGNED)
+                .build());
+        publishStatusChanged(delivery);
+      });
+    } catch (DataIntegrityViolationException e) {
       throw new RestApiException(ErrorCode.ALREADY_EXIST_DELIVERY);
+    } catch (RuntimeException e) {
+      redisService.releaseOrderClaim(orderId, position);
+      throw e;
     }
-
-    deliveryRepository.save(
-        Delivery.builder()
-            .rider(rider)
-            .purchaseOrder(purchaseOrder)
-            .deliveryStatus(DeliveryStatus.ASSIGNED)
-            .build());
-
-    redisService.deleteOrderLocation(orderId);
   }
 
   @Transactional
@@ -59,6 +91,9 @@ public class DeliveryService {
     }
 
     delivery.start();
+    publishStatusChanged(delivery);
+
+    riderTrackService.startTrack(rider.getRiderId(), deliveryId);
   }
 
 
@@ -80,6 +115,9 @@ public class DeliveryService {
     }
 
     delivery.complete(imageUrl);
+    publishStatusChanged(delivery);
+
+    riderTrackService.finishTrack(delivery);
   }
 
   @Transactional
@@ -89,6 +127,9 @@ public class DeliveryService {
     validateDeliveryOwner(rider, delivery);
 
     delivery.fail();
+    publishStatusChanged(delivery);
+
+    riderTrackService.finishTrack(delivery);
   }
 
   public void validateDeliveryOwner(Rider rider, Delivery delivery) {
@@ -97,6 +138,17 @@ public class DeliveryService {
     }
   }
 
+  private void publishStatusChanged(Delivery delivery) {
+    outboxService.append(OutboxEventType.DELIVERY_STATUS_CHANGED, delivery.getDeliveryId(),
+        DeliveryStatusChangedEvent.builder()
+            .deliveryId(delivery.getDeliveryId())
+            .purchaseOrderId(delivery.getPurchaseOrder().getPurchaseOrderId())
+            .riderId(delivery.getRider().getRiderId())
+            .deliveryStatus(delivery.getDeliveryStatus())
+            .occurredAt(LocalDateTime.now())
+            .build());
+  }
+
   private Delivery getDeliveryById(Long deliveryId) {
     return deliveryRepository.findById(deliveryId)
         .orElseThrow(() -> new RestApiException(ErrorCode.NOT_FOUND_DELIVERY));
@@ -0,0 +1,298 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.rider.DispatchDTO.DELIVERY_ASSIGNED_CHANNEL;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import jyang.deliverydotdot.domain.PurchaseOrder;
+import jyang.deliverydotdot.domain.Rider;
+import jyang.deliverydotdot.dto.rider.DispatchDTO.Assignment;
+import jyang.deliverydotdot.dto.rider.DispatchDTO.DeliveryAssignedEvent;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.repository.DeliveryRepository;
+import jyang.deliverydotdot.repository.OrderRepository;
+import jyang.deliverydotdot.repository.RiderRepository;
+import jyang.deliverydotdot.type.DeliveryMethod;
+import jyang.deliverydotdot.type.DeliveryStatus;
+import jyang.deliverydotdot.type.ErrorCode;
+import jyang.deliverydotdot.type.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 자동 배차
+ * <p>
+ * 짧은 주기(tick)마다 조리 중 / 조리 완료 상태의 미배정 주문과 근처의 대기 중인 라이더를 모아, 라이더의 배달 수단 속도를 반영한 가게 도착 예상
+ * 시간이 짧은 순으로 한 번에 배정한다. 배정은 라이더가 직접 잡을 때와 같은 경로({@link DeliveryService#createDelivery})로 한 건씩
+ * 저장하므로 Redis 선점으로 직접 잡기와 서로 배제되고 배달 상태 이벤트도 함께 저장된다 (배달 경로 기록은 두 경로 모두 배달 시작 시
+ * 시작한다). 여러 노드에서 실행되더라도 Redis 락으로 한 노드만 배차한다.
+ * <p>
+ * 라이더가 직접 주문을 잡는 흐름을 바꾸므로 dispatch.enabled=true 로 켠 경우에만 동작한다. 위치 갱신이 끊긴 라이더는
+ * 위치 키가 만료되어 {@link RedisService#getRidersNearby} 결과에서 빠지므로 후보가 되지 않는다.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "dispatch.enabled", havingValue = "true")
+public class DispatchService {
+
+  private static final List<OrderStatus> DISPATCHABLE_ORDER_STATUSES =
+      List.of(OrderStatus.COOKING, OrderStatus.COOKED);
+
+  private static final List<DeliveryStatus> ACTIVE_DELIVERY_STATUSES =
+      List.of(DeliveryStatus.ASSIGNED, DeliveryStatus.DELIVERING);
+
+  private static final double CANDIDATE_RADIUS_KM = 5;
+
+  // 주문마다 고려하는 가까운 라이더 수
+  private static final int RIDERS_PER_ORDER = 10;
+
+  private static final String LOCK_KEY = "dispatch:lock";
+
+  // KEYS[1] : 락 키, ARGV[1] : 토큰, 내 락일 때만 삭제
+  private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final OrderRepository orderRepository;
+
+  private final DeliveryRepository deliveryRepository;
+
+  private final RiderRepository riderRepository;
+
+  private final RedisService redisService;
+
+  private final DeliveryService deliveryService;
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  private final int batchSize;
+
+  private final Duration lockTimeout;
+
+  private final Counter assignedCounter;
+
+  private final Counter conflictCounter;
+
+  private final Timer tickTimer;
+
+  public DispatchService(
+      OrderRepository orderRepository,
+      DeliveryRepository deliveryRepository,
+      RiderRepository riderRepository,
+      RedisService redisService,
+      DeliveryService deliveryService,
+      RedisTemplate<String, String> stringRedisTemplate,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${dispatch.batch-size:200}") int batchSize,
+      @Value("${dispatch.lock-timeout-ms:10000}") long lockTimeoutMs) {
+    this.orderRepository = orderRepository;
+    this.deliveryRepository = deliveryRepository;
+    this.riderRepository = riderRepository;
+    this.redisService = redisService;
+    this.deliveryService = deliveryService;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.batchSize = batchSize;
+    this.lockTimeout = Duration.ofMillis(lockTimeoutMs);
+    this.assignedCounter = Counter.builder("dispatch.assigned")
+        .description("자동 배차된 주문 수")
+        .register(meterRegistry);
+    this.conflictCounter = Counter.builder("dispatch.conflicts")
+        .description("다른 라이더가 먼저 선점하여 건너뛴 배차 수")
+        .register(meterRegistry);
+    this.tickTimer = Timer.builder("dispatch.tick")
+        .description("배차 1회 소요 시간")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 배차 실행
+   */
+  @Scheduled(fixedDelayString = "${dispatch.tick-ms:2000}")
+  public void dispatch() {
+    String token = UUID.randomUUID().toString();
+    if (!Boolean.TRUE.equals(
+        stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lockTimeout))) {
+      return;
+    }
+
+    try {
+      tickTimer.record(this::tick);
+    } catch (RuntimeException e) {
+      log.error("Failed to dispatch orders", e);
+    } finally {
+      stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+    }
+  }
+
+  private void tick() {
+    List<PurchaseOrder> orders = orderRepository.findDispatchableOrders(
+        DISPATCHABLE_ORDER_STATUSES, PageRequest.of(0, batchSize));
+    if (orders.isEmpty()) {
+      return;
+    }
+
+    Map<Long, List<GeoResult<GeoLocation<String>>>> ridersByOrder = new HashMap<>();
+    Set<Long> riderIds = new HashSet<>();
+    for (PurchaseOrder order : orders) {
+      org.locationtech.jts.geom.Point storeCoordinate = order.getStore().getCoordinates();
+      List<GeoResult<GeoLocation<String>>> riders = redisService.getRidersNearby(
+          new Point(storeCoordinate.getX(), storeCoordinate.getY()),
+          CANDIDATE_RADIUS_KM, RIDERS_PER_ORDER).getContent();
+      ridersByOrder.put(order.getPurchaseOrderId(), riders);
+      riders.forEach(rider -> riderIds.add(Long.parseLong(rider.getContent().getName())));
+    }
+    if (riderIds.isEmpty()) {
+      return;
+    }
+
+    riderIds.removeAll(deliveryRepository.findRiderIdsByStatus(riderIds,
+        ACTIVE_DELIVERY_STATUSES));
+
+    Map<Long, DeliveryMethod> deliveryMethods = new HashMap<>();
+    for (Rider rider : riderRepository.findAllById(riderIds)) {
+      deliveryMethods.put(rider.getRiderId(), rider.getDeliveryMethod() != null
+          ? rider.getDeliveryMethod() : DeliveryMethod.ON_FOOT);
+    }
+
+    List<Candidate> candidates = new ArrayList<>();
+    for (PurchaseOrder order : orders) {
+      for (GeoResult<GeoLocation<String>> rider : ridersByOrder.get(
+          order.getPurchaseOrderId())) {
+        Long riderId = Long.parseLong(rider.getContent().getName());
+        DeliveryMethod deliveryMethod = deliveryMethods.get(riderId);
+        if (deliveryMethod != null) {
+          candidates.add(new Candidate(order.getPurchaseOrderId(), riderId,
+              rider.getDistance().getValue(), deliveryMethod));
+        }
+      }
+    }
+
+    int assigned = 0;
+    int conflicts = 0;
+    for (Assignment assignment : assign(candidates)) {
+      if (!createDelivery(assignment)) {
+        conflicts++;
+        continue;
+      }
+      assigned++;
+      publish(DeliveryAssignedEvent.builder()
+          .riderId(assignment.getRiderId())
+          .orderId(assignment.getOrderId())
+          .etaMinutes(assignment.getEtaMinutes())
+          .build());
+    }
+
+    assignedCounter.increment(assigned);
+    conflictCounter.increment(conflicts);
+    log.info("Dispatched orders. orders : {}, riders : {}, assigned : {}, conflicts : {}",
+        orders.size(), deliveryMethods.size(), assigned, conflicts);
+  }
+
+  /**
+   * 라이더가 직접 잡는 것과 같은 경로(Redis 선점, 배달 + 이벤트 저장)로 배정을 한 건씩 저장
+   * <p>
+   * 배정마다 따로 트랜잭션을 쓰므로, 라이더가 먼저 잡은 주문이 있어도 그 배정만 건너뛰고 나머지는 저장된다.
+   *
+   * @return 저장했으면 true, 이미 선점 / 배정된 주문이면 false
+   */
+  private boolean createDelivery(Assignment assignment) {
+    try {
+      deliveryService.createDelivery(assignment.getRiderId(), assignment.getOrderId());
+      return true;
+    } catch (RestApiException e) {
+      if (e.getErrorCode() != ErrorCode.ALREADY_EXIST_DELIVERY) {
+        log.warn("Failed to dispatch order. orderId : {}, riderId : {}, errorCode : {}",
+            assignment.getOrderId(), assignment.getRiderId(), e.getErrorCode());
+      }
+      return false;
+    }
+  }
+
+  /**
+   * 주문 - 라이더 일괄 배정
+   * <p>
+   * 모든 후보 쌍을 가게 도착 예상 시간 순으로 정렬한 뒤, 주문과 라이더가 모두 아직 배정되지 않은 쌍부터 배정한다. 예상 시간이 같으면 먼저 들어온
+   * 주문이 우선한다.
+   *
+   * @param candidates 주문 - 라이더 후보 (주문 접수 순)
+   * @return 배정 결과
+   */
+  static List<Assignment> assign(List<Candidate> candidates) {
+    List<Assignment> edges = new ArrayList<>(candidates.size());
+    for (Candidate candidate : candidates) {
+      edges.add(Assignment.builder()
+          .orderId(candidate.getOrderId())
+          .riderId(candidate.getRiderId())
+          .etaMinutes(candidate.getDistanceKm()
+              / candidate.getDeliveryMethod().getSpeedKmPerHour() * 60)
+          .build());
+    }
+    edges.sort(Comparator.comparingDouble(Assignment::getEtaMinutes));
+
+    Set<Long> assignedOrders = new HashSet<>();
+    Set<Long> assignedRiders = new HashSet<>();
+    List<Assignment> assignments = new ArrayList<>();
+    for (Assignment edge : edges) {
+      if (!assignedOrders.contains(edge.getOrderId())
+          && !assignedRiders.contains(edge.getRiderId())) {
+        assignedOrders.add(edge.getOrderId());
+        assignedRiders.add(edge.getRiderId());
+        assignments.add(edge);
+      }
+    }
+    return assignments;
+  }
+
+  private void publish(DeliveryAssignedEvent event) {
+    try {
+      stringRedisTemplate.convertAndSend(DELIVERY_ASSIGNED_CHANNEL,
+          objectMapper.writeValueAsString(event));
+    } catch (JsonProcessingException e) {
+      log.error("Failed to serialize delivery assigned event. orderId : {}",
+          event.getOrderId(), e);
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  static class Candidate {
+
+    private final Long orderId;
+
+    private final Long riderId;
+
+    private final double distanceKm;
+
+    private final DeliveryMethod deliveryMethod;
+  }
+}
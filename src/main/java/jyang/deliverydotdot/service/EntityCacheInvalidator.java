@@ -0,0 +1,143 @@
+package jyang.deliverydotdot.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 노드 간 엔티티 2차 캐시 무효화
+ * <p>
+ * 2차 캐시는 노드마다 따로 있으므로, 캐시 대상 엔티티가 수정 / 삭제되어 커밋되면 엔티티 이름과 ID 를 발행하고 다른 노드는 해당 항목을 캐시에서
+ * 제거한다. 변경한 노드의 캐시는 Hibernate 가 이미 갱신하므로 자신이 보낸 메시지는 무시한다.
+ */
+@Component
+@Slf4j
+public class EntityCacheInvalidator implements PostCommitUpdateEventListener,
+    PostCommitDeleteEventListener {
+
+  private static final String ENTITY_CACHE_CHANNEL = "entityCacheEvents";
+
+  // 메시지 형식 : {nodeId}|{entityName}|{id}
+  private static final String SEPARATOR = "|";
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final SessionFactoryImplementor sessionFactory;
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  public EntityCacheInvalidator(
+      EntityManagerFactory entityManagerFactory,
+      RedisTemplate<String, String> stringRedisTemplate,
+      RedisMessageListenerContainer redisMessageListenerContainer) {
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    this.stringRedisTemplate = stringRedisTemplate;
+
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> onEntityChanged(message.getBody()),
+        new ChannelTopic(ENTITY_CACHE_CHANNEL));
+  }
+
+  @PostConstruct
+  public void register() {
+    EventListenerRegistry registry =
+        sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+  }
+
+  /**
+   * JDBC 등 Hibernate 를 거치지 않고 변경한 엔티티를 모든 노드의 캐시에서 제거
+   * <p>
+   * 트랜잭션 안에서 호출되면 커밋 전에 다른 요청이 이전 값을 다시 캐시하지 않도록 커밋 후에 제거한다.
+   *
+   * @param entityClass 엔티티 클래스
+   * @param ids         엔티티 ID
+   */
+  public void evict(Class<?> entityClass, Collection<Long> ids) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictNow(entityClass, ids);
+        }
+      });
+    } else {
+      evictNow(entityClass, ids);
+    }
+  }
+
+  private void evictNow(Class<?> entityClass, Collection<Long> ids) {
+    EntityPersister persister = sessionFactory.getMappingMetamodel()
+        .getEntityDescriptor(entityClass);
+    for (Long id : ids) {
+      sessionFactory.getCache().evictEntityData(entityClass, id);
+      publish(persister, id);
+    }
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    publish(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    publish(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+  }
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return persister.canWriteToCache();
+  }
+
+  private void publish(EntityPersister persister, Object id) {
+    if (!persister.canWriteToCache()) {
+      return;
+    }
+    try {
+      stringRedisTemplate.convertAndSend(ENTITY_CACHE_CHANNEL,
+          nodeId + SEPARATOR + persister.getEntityName() + SEPARATOR + id);
+    } catch (RuntimeException e) {
+      log.error("Failed to publish entity cache event. entity : {}, id : {}",
+          persister.getEntityName(), id, e);
+    }
+  }
+
+  private void onEntityChanged(byte[] body) {
+    String[] parts = new String(body, StandardCharsets.UTF_8).split("\\|");
+    if (parts.length != 3 || nodeId.equals(parts[0])) {
+      return;
+    }
+    try {
+      sessionFactory.getCache().evictEntityData(parts[1], Long.parseLong(parts[2]));
+    } catch (RuntimeException e) {
+      log.error("Failed to evict entity cache. entity : {}, id : {}", parts[1], parts[2], e);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package jyang.deliverydotdot.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주소 좌표 캐시
+ * <p>
+ * 노드 로컬 LRU(최대 개수 / TTL 제한)와 Redis 공유 캐시 두 단계로 구성되며, 정규화한 주소를 키로 사용한다. 두 단계 모두 없을 때만 좌표
+ * 조회 API 를 호출한다.
+ */
+@Component
+@Slf4j
+public class GeocodeCache {
+
+  private static final String KEY_PREFIX = "geocode:";
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final GeometryFactory geometryFactory;
+
+  private final Duration redisTtl;
+
+  private final Cache<String, Coordinate> localCache;
+
+  private final Counter localHitCounter;
+
+  private final Counter redisHitCounter;
+
+  private final Counter missCounter;
+
+  public GeocodeCache(
+      RedisTemplate<String, String> stringRedisTemplate,
+      GeometryFactory geometryFactory,
+      MeterRegistry meterRegistry,
+      @Value("${geocode.cache.local.max-size:10000}") long localMaxSize,
+      @Value("${geocode.cache.local.ttl-minutes:60}") long localTtlMinutes,
+      @Value("${geocode.cache.redis.ttl-days:30}") long redisTtlDays) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.geometryFactory = geometryFactory;
+    this.redisTtl = Duration.ofDays(redisTtlDays);
+    this.localCache = Caffeine.newBuilder()
+        .maximumSize(localMaxSize)
+        .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+        .build();
+    this.localHitCounter = geocodeCounter(meterRegistry, "local_hit");
+    this.redisHitCounter = geocodeCounter(meterRegistry, "redis_hit");
+    this.missCounter = geocodeCounter(meterRegistry, "miss");
+  }
+
+  /**
+   * 주소 좌표 조회
+   *
+   * @param address 주소
+   * @param loader  캐시에 없을 때 좌표를 조회하는 함수
+   * @return 좌표
+   */
+  public Point get(String address, Function<String, Point> loader) {
+    String key = normalize(address);
+
+    Coordinate coordinate = localCache.getIfPresent(key);
+    if (coordinate != null) {
+      localHitCounter.increment();
+      return toPoint(coordinate);
+    }
+
+    // 같은 주소를 동시에 조회하면 한 번만 불러온다
+    return toPoint(localCache.get(key, k -> load(k, address, loader)));
+  }
+
+  private Coordinate load(String key, String address, Function<String, Point> loader) {
+    Coordinate coordinate = getFromRedis(key);
+    if (coordinate != null) {
+      redisHitCounter.increment();
+      return coordinate;
+    }
+
+    missCounter.increment();
+    Point point = loader.apply(address);
+    coordinate = new Coordinate(point.getX(), point.getY());
+    putToRedis(key, coordinate);
+    return coordinate;
+  }
+
+  private Coordinate getFromRedis(String key) {
+    try {
+      String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + key);
+      if (value == null) {
+        return null;
+      }
+      int comma = value.indexOf(',');
+      return new Coordinate(Double.parseDouble(value.substring(0, comma)),
+          Double.parseDouble(value.substring(comma + 1)));
+    } catch (RuntimeException e) {
+      log.warn("Failed to read geocode cache. key : {}", key, e);
+      return null;
+    }
+  }
+
+  private void putToRedis(String key, Coordinate coordinate) {
+    try {
+      stringRedisTemplate.opsForValue()
+          .set(KEY_PREFIX + key, coordinate.getX() + "," + coordinate.getY(), redisTtl);
+    } catch (RuntimeException e) {
+      log.warn("Failed to write geocode cache. key : {}", key, e);
+    }
+  }
+
+  private Point toPoint(Coordinate coordinate) {
+    return geometryFactory.createPoint(new Coordinate(coordinate));
+  }
+
+  /**
+   * 주소 정규화 (유니코드 NFKC, 공백 정리, 소문자)
+   */
+  static String normalize(String address) {
+    String normalized = Normalizer.normalize(address, Normalizer.Form.NFKC);
+    return WHITESPACE.matcher(normalized.trim()).replaceAll(" ").toLowerCase();
+  }
+
+  private static Counter geocodeCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("geocode.lookup")
+        .tag("result", result)
+        .description("주소 좌표 조회 캐시 적중 / 미스")
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,161 @@
+package jyang.deliverydotdot.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import jyang.deliverydotdot.domain.SnowflakeIdentifierGenerator;
+import jyang.deliverydotdot.util.Snowflake;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분산 ID / 주문 번호 생성
+ * <p>
+ * 노드마다 Redis 에서 노드 ID(0 ~ 1023)를 임대(idNode:{nodeId}, 값은 인스턴스 토큰, TTL)받아 Snowflake ID 를 만든다. 임대는 주기마다
+ * 연장하며, 다른 인스턴스에 넘어갔으면 새 노드 ID 를 받아 바꾼다. ID 발급 자체는 Redis 를 거치지 않는다. 연장은 다른 스케줄 작업에 밀리지
+ * 않도록 전용 스레드에서 수행하고, 연장하지 못한 채 임대 기간이 지나면 Snowflake 가 발급을 거부하여 다른 노드와 ID 가 겹치지 않는다.
+ */
+@Component
+@Slf4j
+public class IdGenerator {
+
+  private static final String KEY_PREFIX = "idNode:";
+
+  /*
+   * KEYS[1] : 노드 ID 키, ARGV[1] : 토큰, ARGV[2] : TTL(초)
+   * 내 임대이거나 비어 있으면 연장 / 획득하고 1, 다른 인스턴스가 가졌으면 0
+   */
+  private static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of("""
+      local owner = redis.call('GET', KEYS[1])
+      if owner == ARGV[1] then
+        redis.call('EXPIRE', KEYS[1], ARGV[2])
+        return 1
+      elseif not owner then
+        redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+        return 1
+      end
+      return 0
+      """, Long.class);
+
+  private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final Duration leaseTtl;
+
+  private final String token = UUID.randomUUID().toString();
+
+  private final long renewIntervalMillis;
+
+  private final Snowflake snowflake;
+
+  private final ScheduledExecutorService renewExecutor =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "id-node-renew");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  public IdGenerator(
+      RedisTemplate<String, String> stringRedisTemplate,
+      @Value("${id.node.lease-seconds:60}") long leaseSeconds,
+      @Value("${id.node.renew-interval-ms:20000}") long renewIntervalMillis) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.leaseTtl = Duration.ofSeconds(leaseSeconds);
+    this.renewIntervalMillis = renewIntervalMillis;
+    long leasedAt = System.currentTimeMillis();
+    this.snowflake = new Snowflake(acquire());
+    snowflake.setLeaseDeadline(leasedAt + leaseTtl.toMillis());
+    SnowflakeIdentifierGenerator.register(snowflake);
+    log.info("Leased snowflake node id : {}", snowflake.getNodeId());
+  }
+
+  @PostConstruct
+  public void start() {
+    renewExecutor.scheduleWithFixedDelay(this::renew, renewIntervalMillis, renewIntervalMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 다음 ID
+   */
+  public long nextId() {
+    return snowflake.nextId();
+  }
+
+  /**
+   * 새 주문 번호 ("OD" + 시간순 정렬되는 13자리)
+   */
+  public String nextOrderNumber() {
+    return Snowflake.toOrderNumber(snowflake.nextId());
+  }
+
+  /**
+   * 노드 ID 임대 연장 (TTL 의 1/3 주기)
+   * <p>
+   * 요청 전 시각을 기준으로 만료 시각을 갱신하므로 Redis 의 실제 만료보다 늦지 않다. 실패하면 만료 시각을 그대로 두어, 다음 연장까지 실패가
+   * 이어지면 발급이 멈춘다.
+   */
+  void renew() {
+    int nodeId = snowflake.getNodeId();
+    long renewedAt = System.currentTimeMillis();
+    try {
+      Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + nodeId),
+          token, String.valueOf(leaseTtl.getSeconds()));
+      if (renewed != null && renewed == 1) {
+        snowflake.setLeaseDeadline(renewedAt + leaseTtl.toMillis());
+      } else {
+        // 다른 인스턴스가 가져갔으므로 새 노드 ID 를 받을 때까지 발급 중지
+        snowflake.setLeaseDeadline(renewedAt);
+        snowflake.setNodeId(acquire());
+        snowflake.setLeaseDeadline(renewedAt + leaseTtl.toMillis());
+        log.warn("Snowflake node id {} was taken over, switched to {}", nodeId,
+            snowflake.getNodeId());
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to renew snowflake node id lease. nodeId : {}", nodeId, e);
+    }
+  }
+
+  @PreDestroy
+  public void release() {
+    renewExecutor.shutdownNow();
+    snowflake.setLeaseDeadline(System.currentTimeMillis());
+    try {
+      stringRedisTemplate.execute(RELEASE_SCRIPT,
+          List.of(KEY_PREFIX + snowflake.getNodeId()), token);
+    } catch (RuntimeException e) {
+      log.warn("Failed to release snowflake node id lease", e);
+    }
+  }
+
+  /**
+   * 비어 있는 노드 ID 임대 (노드끼리 겹치지 않도록 임의 위치부터 찾음)
+   */
+  private int acquire() {
+    int start = ThreadLocalRandom.current().nextInt(Snowflake.MAX_NODE_ID + 1);
+    for (int i = 0; i <= Snowflake.MAX_NODE_ID; i++) {
+      int nodeId = (start + i) & Snowflake.MAX_NODE_ID;
+      Boolean acquired = stringRedisTemplate.opsForValue()
+          .setIfAbsent(KEY_PREFIX + nodeId, token, leaseTtl);
+      if (Boolean.TRUE.equals(acquired)) {
+        return nodeId;
+      }
+    }
+    throw new IllegalStateException("No snowflake node id available");
+  }
+}
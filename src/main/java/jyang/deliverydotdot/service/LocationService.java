@@ -5,10 +5,17 @@ import static jyang.deliverydotdot.type.ErrorCode.INVALID_REQUEST;
 import static jyang.deliverydotdot.type.ErrorCode.NO_COORDINATES_FOUND_FOR_ADDRESS;
 import static jyang.deliverydotdot.type.ErrorCode.OUT_OF_DELIVERY_AREA;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import jyang.deliverydotdot.domain.Store;
 import jyang.deliverydotdot.dto.location.KakaoGeoResponse;
 import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.util.DeliveryZone;
+import jyang.deliverydotdot.util.GeoDistance;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -32,21 +39,47 @@ public class LocationService {
 
   private final GeometryFactory geometryFactory;
 
+  private final GeocodeCache geocodeCache;
+
+  private final CircuitBreaker circuitBreaker;
+
   //  @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
   private final String apiKey;
 
-  private static final double MAX_DELIVERY_DISTANCE = 5;
+  // 가게별 반경이 없을 때의 배달 가능 반경(m)
+  public static final int DEFAULT_DELIVERY_RADIUS = 5000;
+
+  // 가게 ID 별 배달 가능 영역
+  private final Cache<Long, DeliveryZone> deliveryZones = Caffeine.newBuilder()
+      .maximumSize(10_000)
+      .build();
 
   public LocationService(
       RestTemplate restTemplate,
       GeometryFactory geometryFactory,
+      GeocodeCache geocodeCache,
+      CircuitBreaker circuitBreaker,
       @Value("${spring.security.oauth2.client.registration.kakao.client-id}") String apiKey) {
     this.restTemplate = restTemplate;
     this.geometryFactory = geometryFactory;
+    this.geocodeCache = geocodeCache;
+    this.circuitBreaker = circuitBreaker;
     this.apiKey = apiKey;
   }
 
+  /**
+   * 주소로 좌표 조회 (캐시 우선)
+   * <p>
+   * 캐시에 없는 주소만 API 를 호출하므로, 서킷이 열려 있는 동안에도 캐시된 주소는 계속 조회된다.
+   *
+   * @param address 주소
+   * @return 좌표
+   */
   public Point getCoordinatesFromAddress(String address) {
+    return geocodeCache.get(address, this::requestCoordinates);
+  }
+
+  private Point requestCoordinates(String address) {
     URI uri = UriComponentsBuilder
         .fromHttpUrl("https://dapi.kakao.com/v2/local/search/address.json")
         .queryParam("query", address)
@@ -60,8 +93,8 @@ public class LocationService {
     HttpEntity<String> entity = new HttpEntity<>(headers);
 
     try {
-      ResponseEntity<KakaoGeoResponse> response = restTemplate.exchange(uri, HttpMethod.GET, entity,
-          KakaoGeoResponse.class);
+      ResponseEntity<KakaoGeoResponse> response = circuitBreaker.executeSupplier(
+          () -> restTemplate.exchange(uri, HttpMethod.GET, entity, KakaoGeoResponse.class));
 
       if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null
           && !response.getBody().getDocuments().isEmpty()) {
@@ -79,6 +112,9 @@ public class LocationService {
           "HttpClientErrorException occurred while fetching coordinates for address: {}, Status code: {}, Response body: {}",
           address, ex.getStatusCode(), ex.getResponseBodyAsString(), ex);
       throw new RestApiException(INVALID_REQUEST);
+    } catch (CallNotPermittedException ex) {
+      log.warn("Geocoding circuit is open. address: {}", address);
+      throw new RestApiException(EXTERNAL_API_ERROR);
     } catch (RestClientException ex) {
       log.error("RestClientException occurred while fetching coordinates for address: {}",
           address, ex);
@@ -86,17 +122,52 @@ public class LocationService {
     }
   }
 
-  public void validateDeliveryArea(Point storeCoordinate, Point deliveryCoordinate) {
-    double distance = calculateDistance(storeCoordinate, deliveryCoordinate);
-    if (distance > MAX_DELIVERY_DISTANCE) {
+  /**
+   * 배달 가능 지역 확인
+   *
+   * @param store              가게
+   * @param deliveryCoordinate 배송지 좌표
+   */
+  public void validateDeliveryArea(Store store, Point deliveryCoordinate) {
+    DeliveryZone deliveryZone = getDeliveryZone(store);
+    if (!deliveryZone.contains(deliveryCoordinate.getX(), deliveryCoordinate.getY())) {
       log.error(
-          "Delivery address is out of delivery area. Store coordinate: {}, Delivery coordinate: {}, Distance: {}",
-          storeCoordinate, deliveryCoordinate, distance);
+          "Delivery address is out of delivery area. Store id: {}, Delivery coordinate: {}, Distance(m): {}",
+          store.getStoreId(), deliveryCoordinate,
+          deliveryZone.distanceMeters(deliveryCoordinate.getX(), deliveryCoordinate.getY()));
       throw new RestApiException(OUT_OF_DELIVERY_AREA);
     }
   }
 
+  /**
+   * 가게 배달 가능 영역 조회
+   * <p>
+   * 가게 ID 별로 미리 계산한 영역을 재사용하며, 가게 좌표나 반경이 바뀌었으면 다시 계산한다.
+   *
+   * @param store 가게
+   * @return 배달 가능 영역
+   */
+  public DeliveryZone getDeliveryZone(Store store) {
+    Point coordinates = store.getCoordinates();
+    int radius = store.getDeliveryRadius() != null ? store.getDeliveryRadius()
+        : DEFAULT_DELIVERY_RADIUS;
+
+    DeliveryZone deliveryZone = store.getStoreId() != null
+        ? deliveryZones.getIfPresent(store.getStoreId()) : null;
+    if (deliveryZone == null
+        || !deliveryZone.matches(coordinates.getX(), coordinates.getY(), radius)) {
+      deliveryZone = DeliveryZone.of(coordinates.getX(), coordinates.getY(), radius);
+      if (store.getStoreId() != null) {
+        deliveryZones.put(store.getStoreId(), deliveryZone);
+      }
+    }
+    return deliveryZone;
+  }
+
+  /**
+   * 두 좌표 간 거리(km)
+   */
   public double calculateDistance(Point from, Point to) {
-    return from.distance(to);
+    return GeoDistance.haversineKm(from.getX(), from.getY(), to.getX(), to.getY());
   }
 }
@@ -0,0 +1,425 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.store.MenuAvailabilityDTO.MENU_AVAILABILITY_CHANNEL;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import jyang.deliverydotdot.domain.OrderItem;
+import jyang.deliverydotdot.dto.store.MenuAvailabilityDTO.MenuAvailabilityEvent;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.repository.MenuRepository;
+import jyang.deliverydotdot.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메뉴 품절 / 재고 레지스트리
+ * <p>
+ * 파트너가 지정한 품절 메뉴(DB)와 재고 제한 메뉴의 남은 재고(Redis 해시 menuStock)를 노드 메모리에 두고, 변경은 Redis 채널로 모든 노드에
+ * 전파한다. 주문 시에는 메모리에서 잠금 없이 품절 여부를 먼저 확인하고, 주문한 메뉴 전체를 Redis 스크립트 한 번으로 보내 재고 제한 메뉴의
+ * 재고를 원자적으로 차감한다(하나라도 부족하면 차감하지 않음). 재고 제한 여부는 메모리가 아닌 Redis 재고 해시로 판단하므로, 다른 노드가 방금
+ * 설정한 재고 제한을 이 노드가 아직 모르더라도 차감과 되돌리기가 빠지지 않는다. 메모리 상태는 주기적으로 다시 적재하여 유실된 알림을 보정하며,
+ * 품절 여부가 바뀌면 등록된 리스너(가게 메뉴 조회 캐시 무효화)에 가게 ID 를 알린다.
+ */
+@Component
+@Slf4j
+public class MenuAvailabilityRegistry {
+
+  private static final String MENU_STOCK = "menuStock";
+
+  // 재고를 되돌린 주문 (같은 취소 이벤트가 다시 전달되어도 한 번만 되돌림)
+  // 해시 태그 {menuStock} 은 재고 해시 키 전체와 같으므로 Redis Cluster 에서 재고 해시와 같은 슬롯에 있다
+  private static final String RELEASED_PREFIX = "{menuStock}:released:";
+
+  private static final Duration RELEASED_TTL = Duration.ofDays(7);
+
+  /*
+   * KEYS[1] : 재고 해시, ARGV : 메뉴 ID, 수량 쌍
+   * 재고 제한이 있는 메뉴 중 하나라도 부족하면 {0, 메뉴 ID, 남은 재고}, 아니면 모두 차감하고 {1, 남은 재고...} (제한 없으면 -1)
+   */
+  private static final RedisScript<List<Long>> RESERVE_SCRIPT = listScript("""
+      for i = 1, #ARGV, 2 do
+        local stock = redis.call('HGET', KEYS[1], ARGV[i])
+        if stock and tonumber(stock) < tonumber(ARGV[i + 1]) then
+          return {0, tonumber(ARGV[i]), tonumber(stock)}
+        end
+      end
+      local result = {1}
+      for i = 1, #ARGV, 2 do
+        if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then
+          result[#result + 1] = redis.call('HINCRBY', KEYS[1], ARGV[i], -tonumber(ARGV[i + 1]))
+        else
+          result[#result + 1] = -1
+        end
+      end
+      return result
+      """);
+
+  /*
+   * KEYS[1] : 재고 해시, KEYS[2] : 되돌림 기록 키 (없으면 기록하지 않음), ARGV[1] : 기록 유지 시간(초), ARGV[2~] : 메뉴 ID, 수량 쌍
+   * 이미 되돌린 기록이 있으면 nil, 아니면 재고 제한이 있는 메뉴만 되돌리고 {남은 재고...} (제한 없으면 -1)
+   */
+  private static final RedisScript<List<Long>> RELEASE_SCRIPT = listScript("""
+      if #KEYS > 1 and not redis.call('SET', KEYS[2], 1, 'NX', 'EX', ARGV[1]) then
+        return nil
+      end
+      local result = {}
+      for i = 2, #ARGV, 2 do
+        if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then
+          result[#result + 1] = redis.call('HINCRBY', KEYS[1], ARGV[i], tonumber(ARGV[i + 1]))
+        else
+          result[#result + 1] = -1
+        end
+      end
+      return result
+      """);
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final MenuRepository menuRepository;
+
+  private final ObjectMapper objectMapper;
+
+  // 파트너가 품절로 지정한 메뉴 (다시 적재할 때 새 Set 으로 교체)
+  private volatile Set<Long> soldOutMenus = ConcurrentHashMap.newKeySet();
+
+  // 재고 제한 메뉴의 남은 재고 (다시 적재할 때 새 Map 으로 교체)
+  private volatile Map<Long, Integer> stocks = new ConcurrentHashMap<>();
+
+  // 품절 여부가 바뀐 가게 ID 를 받는 리스너
+  private final List<Consumer<Long>> soldOutListeners = new CopyOnWriteArrayList<>();
+
+  private final Counter soldOutRejectedCounter;
+
+  public MenuAvailabilityRegistry(
+      RedisTemplate<String, String> stringRedisTemplate,
+      MenuRepository menuRepository,
+      ObjectMapper objectMapper,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      MeterRegistry meterRegistry) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.menuRepository = menuRepository;
+    this.objectMapper = objectMapper;
+    this.soldOutRejectedCounter = Counter.builder("menu.sold_out.rejected")
+        .description("품절로 거절된 주문 / 장바구니 요청 수")
+        .register(meterRegistry);
+
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> onAvailabilityChanged(message.getBody()),
+        new ChannelTopic(MENU_AVAILABILITY_CHANNEL));
+  }
+
+  /**
+   * 품절 여부 변경 리스너 등록
+   *
+   * @param listener 품절 여부가 바뀐 가게 ID 를 받는 리스너
+   */
+  public void addSoldOutListener(Consumer<Long> listener) {
+    soldOutListeners.add(listener);
+  }
+
+  /**
+   * 품절 여부 (지정 품절 또는 재고 소진)
+   *
+   * @param menuId 메뉴 ID
+   * @return 품절이면 true
+   */
+  public boolean isSoldOut(Long menuId) {
+    if (soldOutMenus.contains(menuId)) {
+      return true;
+    }
+    Integer stock = stocks.get(menuId);
+    return stock != null && stock <= 0;
+  }
+
+  /**
+   * 남은 재고
+   *
+   * @param menuId 메뉴 ID
+   * @return 남은 재고, 재고 제한이 없으면 null
+   */
+  public Integer getStock(Long menuId) {
+    return stocks.get(menuId);
+  }
+
+  /**
+   * 주문 가능 여부 검증 (메모리 조회만 수행)
+   *
+   * @param menuId   메뉴 ID
+   * @param quantity 수량
+   */
+  public void validateAvailable(Long menuId, int quantity) {
+    Integer stock = stocks.get(menuId);
+    if (soldOutMenus.contains(menuId) || (stock != null && stock < quantity)) {
+      soldOutRejectedCounter.increment();
+      throw new RestApiException(ErrorCode.MENU_SOLD_OUT);
+    }
+  }
+
+  /**
+   * 주문 수량만큼 재고 차감
+   * <p>
+   * 트랜잭션 안에서 호출되면 롤백 시 차감한 재고를 되돌린다.
+   *
+   * @param storeId    가게 ID
+   * @param quantities 메뉴 ID 별 수량
+   */
+  public void reserve(Long storeId, Map<Long, Integer> quantities) {
+    Map<Long, Integer> ordered = new LinkedHashMap<>(quantities);
+    ordered.forEach(this::validateAvailable);
+    if (ordered.isEmpty()) {
+      return;
+    }
+
+    List<Long> result = stringRedisTemplate.execute(RESERVE_SCRIPT, List.of(MENU_STOCK),
+        toArgs(ordered));
+    if (result == null || result.isEmpty()) {
+      throw new RestApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+    if (result.get(0) == 0) {
+      // 다른 노드의 주문으로 먼저 소진됨
+      Long menuId = result.get(1);
+      if (apply(new MenuAvailabilityEvent(storeId, menuId, soldOutMenus.contains(menuId),
+          result.get(2).intValue()))) {
+        notifySoldOutChanged(storeId);
+      }
+      soldOutRejectedCounter.increment();
+      throw new RestApiException(ErrorCode.MENU_SOLD_OUT);
+    }
+    stocksChanged(storeId, ordered.keySet(), result.subList(1, result.size()));
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            releaseNow(storeId, ordered);
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * 취소 / 거절된 주문의 재고 되돌리기 (상태 변경이 커밋된 후 호출)
+   * <p>
+   * 주문마다 한 번만 되돌리므로 같은 주문으로 다시 호출해도 재고가 늘지 않는다. 실패하면 예외를 던져 호출한 쪽에서 다시 시도한다.
+   *
+   * @param purchaseOrderId 주문 ID
+   * @param orderItems      주문 항목 조회
+   */
+  public void release(Long purchaseOrderId, Supplier<List<OrderItem>> orderItems) {
+    Long storeId = null;
+    Map<Long, Integer> ordered = new LinkedHashMap<>();
+    for (OrderItem orderItem : orderItems.get()) {
+      storeId = orderItem.getPurchaseOrder().getStore().getStoreId();
+      ordered.merge(orderItem.getMenu().getMenuId(), orderItem.getQuantity(), Integer::sum);
+    }
+    if (ordered.isEmpty()) {
+      return;
+    }
+
+    List<Long> result = stringRedisTemplate.execute(RELEASE_SCRIPT,
+        List.of(MENU_STOCK, RELEASED_PREFIX + purchaseOrderId),
+        toArgs(String.valueOf(RELEASED_TTL.getSeconds()), ordered));
+    if (result != null) {
+      stocksChanged(storeId, ordered.keySet(), result);
+    }
+  }
+
+  /**
+   * 파트너의 품절 / 재고 변경 반영 (트랜잭션 안에서 호출되면 커밋 후 수행)
+   *
+   * @param storeId 가게 ID
+   * @param menuId  메뉴 ID
+   * @param soldOut 품절 여부
+   * @param stock   남은 재고, 재고 제한이 없으면 null
+   */
+  public void availabilityChanged(Long storeId, Long menuId, boolean soldOut, Integer stock) {
+    Runnable apply = () -> {
+      try {
+        if (stock != null) {
+          stringRedisTemplate.opsForHash().put(MENU_STOCK, menuId.toString(), stock.toString());
+        } else {
+          stringRedisTemplate.opsForHash().delete(MENU_STOCK, menuId.toString());
+        }
+      } catch (RuntimeException e) {
+        log.error("Failed to update menu stock. menuId : {}", menuId, e);
+      }
+      MenuAvailabilityEvent event = new MenuAvailabilityEvent(storeId, menuId, soldOut, stock);
+      boolean soldOutChanged = apply(event);
+      publish(event);
+      if (soldOutChanged) {
+        notifySoldOutChanged(storeId);
+      }
+    };
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          apply.run();
+        }
+      });
+    } else {
+      apply.run();
+    }
+  }
+
+  /**
+   * 품절 메뉴(DB)와 재고(Redis) 다시 적재
+   * <p>
+   * 새로 읽은 상태로 Set / Map 을 통째로 교체하므로, 조회 쪽은 적재 중간 상태를 보지 않는다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${menu.availability.reload-interval-ms:60000}",
+      initialDelayString = "${menu.availability.reload-interval-ms:60000}")
+  public void load() {
+    try {
+      Set<Long> soldOut = ConcurrentHashMap.newKeySet();
+      soldOut.addAll(menuRepository.findSoldOutMenuIds());
+      Map<Long, Integer> loadedStocks = new ConcurrentHashMap<>();
+      stringRedisTemplate.opsForHash().entries(MENU_STOCK).forEach((menuId, stock) ->
+          loadedStocks.put(Long.parseLong(menuId.toString()),
+              Integer.parseInt(stock.toString())));
+
+      soldOutMenus = soldOut;
+      stocks = loadedStocks;
+    } catch (RuntimeException e) {
+      log.error("Failed to load menu availability", e);
+    }
+  }
+
+  private void releaseNow(Long storeId, Map<Long, Integer> quantities) {
+    try {
+      List<Long> result = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(MENU_STOCK),
+          toArgs("0", quantities));
+      if (result != null) {
+        stocksChanged(storeId, quantities.keySet(), result);
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to release menu stock. storeId : {}, quantities : {}", storeId,
+          quantities, e);
+    }
+  }
+
+  /**
+   * 차감 / 되돌린 재고를 메모리에 반영하고 다른 노드에 알림
+   */
+  private void stocksChanged(Long storeId, Set<Long> menuIds, List<Long> remaining) {
+    boolean soldOutChanged = false;
+    int i = 0;
+    for (Long menuId : menuIds) {
+      long stock = remaining.get(i++);
+      // 음수면 재고 제한이 없는 메뉴, 이 노드도 제한 없음으로 알고 있으면 바뀐 것이 없다
+      if (stock < 0 && !stocks.containsKey(menuId)) {
+        continue;
+      }
+      MenuAvailabilityEvent event = new MenuAvailabilityEvent(storeId, menuId,
+          soldOutMenus.contains(menuId), stock < 0 ? null : (int) stock);
+      soldOutChanged |= apply(event);
+      publish(event);
+    }
+    if (soldOutChanged) {
+      notifySoldOutChanged(storeId);
+    }
+  }
+
+  private void onAvailabilityChanged(byte[] body) {
+    try {
+      MenuAvailabilityEvent event = objectMapper.readValue(body, MenuAvailabilityEvent.class);
+      if (apply(event)) {
+        notifySoldOutChanged(event.getStoreId());
+      }
+    } catch (IOException e) {
+      log.error("Failed to read menu availability event", e);
+    }
+  }
+
+  /**
+   * 메모리에 반영
+   *
+   * @return 품절 여부가 바뀌었으면 true
+   */
+  private boolean apply(MenuAvailabilityEvent event) {
+    Long menuId = event.getMenuId();
+    boolean wasSoldOut = isSoldOut(menuId);
+    if (event.isSoldOut()) {
+      soldOutMenus.add(menuId);
+    } else {
+      soldOutMenus.remove(menuId);
+    }
+    if (event.getStock() != null) {
+      stocks.put(menuId, event.getStock());
+    } else {
+      stocks.remove(menuId);
+    }
+    return wasSoldOut != isSoldOut(menuId);
+  }
+
+  private void notifySoldOutChanged(Long storeId) {
+    for (Consumer<Long> listener : soldOutListeners) {
+      try {
+        listener.accept(storeId);
+      } catch (RuntimeException e) {
+        log.error("Failed to notify sold out change. storeId : {}", storeId, e);
+      }
+    }
+  }
+
+  private void publish(MenuAvailabilityEvent event) {
+    try {
+      stringRedisTemplate.convertAndSend(MENU_AVAILABILITY_CHANNEL,
+          objectMapper.writeValueAsString(event));
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.error("Failed to publish menu availability event. menuId : {}", event.getMenuId(), e);
+    }
+  }
+
+  private static Object[] toArgs(Map<Long, Integer> quantities) {
+    return toArgs(null, quantities);
+  }
+
+  private static Object[] toArgs(String first, Map<Long, Integer> quantities) {
+    List<String> args = new ArrayList<>(quantities.size() * 2 + 1);
+    if (first != null) {
+      args.add(first);
+    }
+    quantities.forEach((menuId, quantity) -> {
+      args.add(menuId.toString());
+      args.add(quantity.toString());
+    });
+    return args.toArray();
+  }
+
+  // Lua 정수 배열은 Long 목록으로 반환된다
+  @SuppressWarnings("unchecked")
+  private static RedisScript<List<Long>> listScript(String script) {
+    DefaultRedisScript<List<Long>> redisScript = new DefaultRedisScript<>(script);
+    redisScript.setResultType((Class<List<Long>>) (Class<?>) List.class);
+    return redisScript;
+  }
+}
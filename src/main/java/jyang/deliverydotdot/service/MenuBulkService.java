@@ -0,0 +1,506 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.store.MenuBulkDTO.IMAGE_FILE_NAME;
+import static jyang.deliverydotdot.dto.store.MenuBulkDTO.MENU_CATEGORY_ID;
+import static jyang.deliverydotdot.dto.store.MenuBulkDTO.MENU_DESCRIPTION;
+import static jyang.deliverydotdot.dto.store.MenuBulkDTO.MENU_NAME;
+import static jyang.deliverydotdot.dto.store.MenuBulkDTO.PRICE;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import jyang.deliverydotdot.domain.Menu;
+import jyang.deliverydotdot.domain.MenuCategory;
+import jyang.deliverydotdot.domain.Partner;
+import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.dto.store.MenuBulkDTO.MenuImportResponse;
+import jyang.deliverydotdot.dto.store.MenuBulkDTO.RowResult;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.repository.MenuCategoryRepository;
+import jyang.deliverydotdot.repository.MenuRepository;
+import jyang.deliverydotdot.type.ErrorCode;
+import jyang.deliverydotdot.type.MenuFileFormat;
+import jyang.deliverydotdot.util.CsvReader;
+import jyang.deliverydotdot.util.CsvWriter;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 메뉴 일괄 가져오기 / 내보내기
+ * <p>
+ * 가져오기는 CSV / JSON 파일을 한 행씩 읽어 검증하고, 일정 개수마다 메뉴 사진을 병렬로 업로드한 뒤 JDBC batch insert 로 등록한다. 가게 /
+ * 소유자 / 메뉴 카테고리는 처음에 한 번만 확인하며, 잘못된 행은 건너뛰고 행별 결과로 알려준다. 내보내기는 메뉴를 한 행씩 읽어 바로 응답에
+ * 쓴다.
+ */
+@Service
+@Slf4j
+public class MenuBulkService {
+
+  private static final List<String> EXPORT_COLUMNS = List.of("menuId", MENU_CATEGORY_ID,
+      MENU_NAME, PRICE, MENU_DESCRIPTION, "menuImageUrl");
+
+  private final MenuRepository menuRepository;
+
+  private final MenuCategoryRepository menuCategoryRepository;
+
+  private final StoreService storeService;
+
+  private final S3Service s3Service;
+
+  private final StoreSearchService storeSearchService;
+
+  private final StoreMenuService storeMenuService;
+
+  private final ObjectMapper objectMapper;
+
+  private final int chunkSize;
+
+  private final ExecutorService uploadExecutor;
+
+  public MenuBulkService(
+      MenuRepository menuRepository,
+      MenuCategoryRepository menuCategoryRepository,
+      StoreService storeService,
+      S3Service s3Service,
+      StoreSearchService storeSearchService,
+      StoreMenuService storeMenuService,
+      ObjectMapper objectMapper,
+      @Value("${menu.bulk.chunk-size:200}") int chunkSize,
+      @Value("${menu.bulk.upload-threads:8}") int uploadThreads) {
+    this.menuRepository = menuRepository;
+    this.menuCategoryRepository = menuCategoryRepository;
+    this.storeService = storeService;
+    this.s3Service = s3Service;
+    this.storeSearchService = storeSearchService;
+    this.storeMenuService = storeMenuService;
+    this.objectMapper = objectMapper;
+    this.chunkSize = chunkSize;
+    this.uploadExecutor = Executors.newFixedThreadPool(uploadThreads);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    uploadExecutor.shutdown();
+  }
+
+  /**
+   * 메뉴 일괄 가져오기
+   * <p>
+   * 사진 업로드 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 수행하며, batch insert 는 묶음마다 따로 커밋한다.
+   *
+   * @param partner 파트너
+   * @param storeId 가게 ID
+   * @param file    메뉴 파일 (CSV 는 첫 행이 열 이름, JSON 은 객체 배열)
+   * @param images  메뉴 사진 (행의 imageFileName 과 파일 이름으로 연결)
+   * @param format  파일 형식, 없으면 파일 이름으로 판단
+   * @return 행별 결과
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public MenuImportResponse importMenus(Partner partner, Long storeId, MultipartFile file,
+      List<MultipartFile> images, MenuFileFormat format) {
+    Store store = storeService.findStore(storeId);
+    storeService.validateStoreOwner(partner, store);
+
+    Set<Long> menuCategoryIds =
+        menuCategoryRepository.findAllByStoreStoreIdOrderByDisplayOrderAsc(storeId).stream()
+            .map(MenuCategory::getMenuCategoryId)
+            .collect(Collectors.toSet());
+
+    Map<String, MultipartFile> imagesByName = new HashMap<>();
+    if (images != null) {
+      images.forEach(image -> imagesByName.put(image.getOriginalFilename(), image));
+    }
+
+    List<RowResult> results = new ArrayList<>();
+    List<PendingMenu> chunk = new ArrayList<>(chunkSize);
+    int succeeded = 0;
+
+    try (RowSource rows = open(file, format != null ? format : detectFormat(file))) {
+      Map<String, String> row;
+      int rowNumber = 0;
+      while ((row = rows.next()) != null) {
+        rowNumber++;
+        RowResult result = RowResult.builder()
+            .row(rowNumber)
+            .menuName(row.get(MENU_NAME))
+            .build();
+        results.add(result);
+
+        String error = validate(row, menuCategoryIds, imagesByName);
+        if (error != null) {
+          result.setMessage(error);
+          continue;
+        }
+
+        chunk.add(new PendingMenu(result, toMenu(store, row),
+            imagesByName.get(row.get(IMAGE_FILE_NAME))));
+        if (chunk.size() == chunkSize) {
+          succeeded += flush(chunk);
+          chunk.clear();
+        }
+      }
+      succeeded += flush(chunk);
+    } catch (IOException e) {
+      log.warn("Failed to read menu file. storeId : {}", storeId, e);
+      throw new RestApiException(ErrorCode.INVALID_MENU_FILE);
+    } finally {
+      if (succeeded > 0) {
+        storeSearchService.storeChanged(storeId);
+        storeMenuService.storeMenuChanged(storeId);
+      }
+    }
+
+    return MenuImportResponse.builder()
+        .total(results.size())
+        .succeeded(succeeded)
+        .failed(results.size() - succeeded)
+        .results(results)
+        .build();
+  }
+
+  /**
+   * 메뉴 내보내기
+   *
+   * @param partner 파트너
+   * @param storeId 가게 ID
+   * @param format  파일 형식
+   * @return 메뉴를 한 행씩 쓰는 응답 본문
+   */
+  public StreamingResponseBody exportMenus(Partner partner, Long storeId,
+      MenuFileFormat format) {
+    Store store = storeService.findStore(storeId);
+    storeService.validateStoreOwner(partner, store);
+
+    return format == MenuFileFormat.JSON
+        ? out -> exportJson(storeId, out)
+        : out -> exportCsv(storeId, out);
+  }
+
+  /**
+   * 묶음 등록: 사진을 병렬로 업로드한 뒤 업로드에 성공한 메뉴만 batch insert
+   *
+   * @return 등록한 메뉴 수
+   */
+  private int flush(List<PendingMenu> chunk) {
+    if (chunk.isEmpty()) {
+      return 0;
+    }
+
+    List<CompletableFuture<Void>> uploads = new ArrayList<>();
+    for (PendingMenu pending : chunk) {
+      if (pending.getImage() != null) {
+        uploads.add(CompletableFuture.runAsync(() -> upload(pending), uploadExecutor));
+      }
+    }
+    CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+
+    List<PendingMenu> uploaded = new ArrayList<>(chunk.size());
+    for (PendingMenu pending : chunk) {
+      if (pending.getImage() != null && pending.getImageUrl() == null) {
+        pending.getResult().setMessage(ErrorCode.FILE_UPLOAD_FAILED.getDescription());
+      } else {
+        uploaded.add(pending);
+      }
+    }
+
+    try {
+      menuRepository.insertAll(uploaded.stream().map(PendingMenu::toMenu).toList());
+    } catch (RuntimeException e) {
+      log.error("Failed to insert menus. size : {}", uploaded.size(), e);
+      for (PendingMenu pending : uploaded) {
+        pending.getResult().setMessage(ErrorCode.INTERNAL_SERVER_ERROR.getDescription());
+        if (pending.getImageUrl() != null) {
+          deleteImage(pending.getImageUrl());
+        }
+      }
+      return 0;
+    }
+
+    uploaded.forEach(pending -> pending.getResult().setSuccess(true));
+    return uploaded.size();
+  }
+
+  /**
+   * 행 검증
+   *
+   * @return 실패 사유, 문제가 없으면 null
+   */
+  private static String validate(Map<String, String> row, Set<Long> menuCategoryIds,
+      Map<String, MultipartFile> imagesByName) {
+    Long menuCategoryId = parseLong(row.get(MENU_CATEGORY_ID));
+    if (menuCategoryId == null || !menuCategoryIds.contains(menuCategoryId)) {
+      return ErrorCode.MENU_CATEGORY_DOES_NOT_BELONG_TO_STORE.getDescription();
+    }
+    if (isBlank(row.get(MENU_NAME))) {
+      return "메뉴 이름을 입력해 주세요.";
+    }
+    Long price = parseLong(row.get(PRICE));
+    if (price == null || price <= 0 || price > Integer.MAX_VALUE) {
+      return ErrorCode.INVALID_PRICE.getDescription();
+    }
+    String imageFileName = row.get(IMAGE_FILE_NAME);
+    if (!isBlank(imageFileName) && !imagesByName.containsKey(imageFileName)) {
+      return ErrorCode.FILE_NOT_FOUND.getDescription() + " (" + imageFileName + ")";
+    }
+    return null;
+  }
+
+  private static Menu toMenu(Store store, Map<String, String> row) {
+    return Menu.builder()
+        .store(store)
+        .menuCategory(MenuCategory.builder()
+            .menuCategoryId(Long.parseLong(row.get(MENU_CATEGORY_ID).trim()))
+            .build())
+        .menuName(row.get(MENU_NAME).trim())
+        .price(Integer.parseInt(row.get(PRICE).trim()))
+        .menuDescription(isBlank(row.get(MENU_DESCRIPTION)) ? null : row.get(MENU_DESCRIPTION))
+        .build();
+  }
+
+  private void exportCsv(Long storeId, OutputStream out) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    CsvWriter csv = new CsvWriter(writer);
+    csv.write(EXPORT_COLUMNS.toArray());
+    streamMenus(storeId, menu -> csv.write(menu.getMenuId(),
+        menu.getMenuCategory().getMenuCategoryId(), menu.getMenuName(), menu.getPrice(),
+        menu.getMenuDescription(), menu.getMenuImageUrl()));
+    writer.flush();
+  }
+
+  private void exportJson(Long storeId, OutputStream out) throws IOException {
+    try (JsonGenerator generator = objectMapper.getFactory()
+        .createGenerator(out, JsonEncoding.UTF8)) {
+      generator.writeStartArray();
+      streamMenus(storeId, menu -> {
+        generator.writeStartObject();
+        generator.writeNumberField(EXPORT_COLUMNS.get(0), menu.getMenuId());
+        generator.writeNumberField(MENU_CATEGORY_ID, menu.getMenuCategory().getMenuCategoryId());
+        generator.writeStringField(MENU_NAME, menu.getMenuName());
+        generator.writeNumberField(PRICE, menu.getPrice());
+        generator.writeStringField(MENU_DESCRIPTION, menu.getMenuDescription());
+        generator.writeStringField(EXPORT_COLUMNS.get(5), menu.getMenuImageUrl());
+        generator.writeEndObject();
+      });
+      generator.writeEndArray();
+    }
+  }
+
+  private void streamMenus(Long storeId, MenuWriter writer) throws IOException {
+    try {
+      menuRepository.streamByStoreId(storeId, menu -> {
+        try {
+          writer.write(menu);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private void upload(PendingMenu pending) {
+    try {
+      pending.setImageUrl(s3Service.uploadMenuImage(pending.getImage()));
+    } catch (RuntimeException e) {
+      log.warn("Failed to upload menu image. fileName : {}",
+          pending.getImage().getOriginalFilename(), e);
+    }
+  }
+
+  private void deleteImage(String imageUrl) {
+    try {
+      s3Service.delete(imageUrl);
+    } catch (RuntimeException e) {
+      log.warn("Failed to delete menu image. url : {}", imageUrl, e);
+    }
+  }
+
+  private RowSource open(MultipartFile file, MenuFileFormat format) throws IOException {
+    InputStream in = file.getInputStream();
+    return format == MenuFileFormat.JSON ? new JsonRowSource(objectMapper.createParser(in))
+        : new CsvRowSource(new CsvReader(new BufferedReader(
+            new InputStreamReader(in, StandardCharsets.UTF_8))), in);
+  }
+
+  private static MenuFileFormat detectFormat(MultipartFile file) {
+    String fileName = file.getOriginalFilename();
+    return fileName != null && fileName.toLowerCase().endsWith(MenuFileFormat.JSON.getExtension())
+        ? MenuFileFormat.JSON : MenuFileFormat.CSV;
+  }
+
+  private static Long parseLong(String value) {
+    if (isBlank(value)) {
+      return null;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+
+  @FunctionalInterface
+  private interface MenuWriter {
+
+    void write(Menu menu) throws IOException;
+  }
+
+  /**
+   * 파일에서 한 행씩 읽기 (열 이름 -> 값)
+   */
+  private interface RowSource extends Closeable {
+
+    Map<String, String> next() throws IOException;
+  }
+
+  private static class CsvRowSource implements RowSource {
+
+    private final CsvReader reader;
+
+    private final InputStream in;
+
+    private List<String> header;
+
+    CsvRowSource(CsvReader reader, InputStream in) {
+      this.reader = reader;
+      this.in = in;
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+      if (header == null) {
+        header = reader.next();
+        if (header == null) {
+          return null;
+        }
+        header = header.stream().map(String::trim).toList();
+      }
+
+      List<String> values;
+      do {
+        values = reader.next();
+        // 빈 줄은 건너뛴다
+      } while (values != null && values.size() == 1 && values.get(0).isBlank());
+      if (values == null) {
+        return null;
+      }
+
+      Map<String, String> row = new HashMap<>();
+      for (int i = 0; i < header.size() && i < values.size(); i++) {
+        row.put(header.get(i), values.get(i));
+      }
+      return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+  }
+
+  private static class JsonRowSource implements RowSource {
+
+    private final JsonParser parser;
+
+    JsonRowSource(JsonParser parser) throws IOException {
+      this.parser = parser;
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new IOException("Menu file must be a JSON array");
+      }
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.END_ARRAY || token == null) {
+        return null;
+      }
+
+      // 행마다 트리로 읽어 값의 타입이 잘못된 행도 행 단위로 실패 처리
+      JsonNode node = parser.readValueAsTree();
+      Map<String, String> row = new HashMap<>();
+      if (node != null && node.isObject()) {
+        node.fields().forEachRemaining(field -> {
+          if (!field.getValue().isNull()) {
+            row.put(field.getKey(), field.getValue().asText());
+          }
+        });
+      }
+      return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+      parser.close();
+    }
+  }
+
+  @Getter
+  private static class PendingMenu {
+
+    private final RowResult result;
+
+    private final Menu menu;
+
+    private final MultipartFile image;
+
+    // 업로드 스레드에서 설정
+    private volatile String imageUrl;
+
+    PendingMenu(RowResult result, Menu menu, MultipartFile image) {
+      this.result = result;
+      this.menu = menu;
+      this.image = image;
+    }
+
+    void setImageUrl(String imageUrl) {
+      this.imageUrl = imageUrl;
+    }
+
+    Menu toMenu() {
+      return Menu.builder()
+          .store(menu.getStore())
+          .menuCategory(menu.getMenuCategory())
+          .menuName(menu.getMenuName())
+          .price(menu.getPrice())
+          .menuDescription(menu.getMenuDescription())
+          .menuImageUrl(imageUrl)
+          .build();
+    }
+  }
+}
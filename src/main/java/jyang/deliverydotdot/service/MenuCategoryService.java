@@ -1,13 +1,16 @@
 package jyang.deliverydotdot.service;
 
+import java.util.HashSet;
 import java.util.List;
 import jyang.deliverydotdot.domain.MenuCategory;
 import jyang.deliverydotdot.domain.Partner;
 import jyang.deliverydotdot.domain.Store;
 import jyang.deliverydotdot.dto.store.MenuCategoryDTO;
 import jyang.deliverydotdot.dto.store.MenuCategoryRegisterForm;
+import jyang.deliverydotdot.dto.store.MenuOrderDTO.MenuCategoryOrderRequest;
 import jyang.deliverydotdot.exception.RestApiException;
 import jyang.deliverydotdot.repository.MenuCategoryRepository;
+import jyang.deliverydotdot.repository.StoreRepository;
 import jyang.deliverydotdot.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,7 +22,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class MenuCategoryService {
 
   private final MenuCategoryRepository menuCategoryRepository;
+  private final StoreRepository storeRepository;
   private final StoreService storeService;
+  private final StoreMenuService storeMenuService;
+  private final EntityCacheInvalidator entityCacheInvalidator;
 
   /**
    * 메뉴 카테고리 등록
@@ -46,6 +52,7 @@ public class MenuCategoryService {
           .build();
       menuCategoryRepository.save(menuCategory);
     }
+    storeMenuService.storeMenuChanged(storeId);
   }
 
   /**
@@ -77,8 +84,10 @@ public class MenuCategoryService {
 
     menuCategoryRepository.save(menuCategory);
 
-    reorderMenuCategories(store, menuCategory, displayOrder);
-
+    // 새로운 순서보다 크거나 같은 카테고리들의 순서를 1씩 증가시킴
+    menuCategoryRepository.shiftDisplayOrder(storeId, displayOrder, Integer.MAX_VALUE, 1,
+        menuCategory.getMenuCategoryId());
+    menuCategoryOrderChanged(storeId);
   }
 
   /**
@@ -101,9 +110,38 @@ public class MenuCategoryService {
     menuCategoryRepository.delete(menuCategory);
 
     // 삭제된 카테고리 이후의 카테고리들의 순서를 1씩 감소시킴
-    store.getMenuCategories().stream()
-        .filter(mc -> mc.getDisplayOrder() > menuCategory.getDisplayOrder())
-        .forEach(mc -> mc.updateDisplayOrder(mc.getDisplayOrder() - 1));
+    menuCategoryRepository.shiftDisplayOrder(storeId, menuCategory.getDisplayOrder() + 1,
+        Integer.MAX_VALUE, -1, menuCategoryId);
+    menuCategoryOrderChanged(storeId);
+  }
+
+  /**
+   * 메뉴 카테고리 순서 일괄 변경
+   * <p>
+   * 가게의 메뉴 카테고리 순서 버전이 요청의 버전과 같을 때만 변경하며(다른 기기에서 먼저 변경했으면 실패), 전체 순서를 한 문장으로 다시
+   * 매긴다.
+   *
+   * @param partner 파트너
+   * @param storeId 가게 ID
+   * @param request 순서 버전과 원하는 순서의 전체 메뉴 카테고리 ID
+   */
+  @Transactional
+  public void reorderMenuCategories(Partner partner, Long storeId,
+      MenuCategoryOrderRequest request) {
+    Store store = storeService.findStore(storeId);
+    storeService.validateStoreOwner(partner, store);
+
+    // 버전 증가로 가게 행을 잠가 같은 가게의 순서 변경을 직렬화
+    if (!storeRepository.incrementMenuCategoryVersion(storeId, request.getVersion())) {
+      throw new RestApiException(ErrorCode.MENU_ORDER_CONFLICT);
+    }
+
+    validateSameIds(menuCategoryRepository.findIdsByStoreId(storeId),
+        request.getMenuCategoryIds());
+
+    menuCategoryRepository.renumber(storeId, request.getMenuCategoryIds());
+    entityCacheInvalidator.evict(Store.class, List.of(storeId));
+    storeMenuService.storeMenuChanged(storeId);
   }
 
   /**
@@ -123,6 +161,7 @@ public class MenuCategoryService {
 
     MenuCategory menuCategory = getMenuCategoryById(menuCategoryId);
     updateMenuCategoryDetails(menuCategory, menuCategoryDTO, store);
+    storeMenuService.storeMenuChanged(storeId);
   }
 
   /**
@@ -193,23 +232,56 @@ public class MenuCategoryService {
 
     // 메뉴 카테고리 순서 변경
     if (!menuCategory.getDisplayOrder().equals(updateForm.getDisplayOrder())) {
+      int oldOrder = menuCategory.getDisplayOrder();
       menuCategory.updateDisplayOrder(updateForm.getDisplayOrder());
-      reorderMenuCategories(store, menuCategory, updateForm.getDisplayOrder());
+      moveMenuCategory(store, menuCategory, oldOrder, updateForm.getDisplayOrder());
+      storeRepository.incrementMenuCategoryVersion(store.getStoreId(), null);
+      entityCacheInvalidator.evict(Store.class, List.of(store.getStoreId()));
     }
   }
 
   /**
-   * 메뉴 카테고리 순서 재정렬
+   * 메뉴 카테고리 순서 이동
+   * <p>
+   * 이동한 카테고리와 새 순서 사이의 카테고리들만 한 칸씩 밀거나 당긴다.
    *
    * @param store           가게
    * @param updatedCategory 업데이트된 카테고리
+   * @param oldOrder        기존 순서
    * @param newOrder        새로운 순서
    */
-  private void reorderMenuCategories(Store store, MenuCategory updatedCategory, int newOrder) {
-    // 새로운 순서보다 크거나 같은 카테고리들의 순서를 1씩 증가시킴
-    store.getMenuCategories().stream()
-        .filter(mc -> !mc.getMenuCategoryId().equals(updatedCategory.getMenuCategoryId()))
-        .filter(mc -> mc.getDisplayOrder() >= newOrder)
-        .forEach(mc -> mc.updateDisplayOrder(mc.getDisplayOrder() + 1));
+  private void moveMenuCategory(Store store, MenuCategory updatedCategory, int oldOrder,
+      int newOrder) {
+    if (newOrder < oldOrder) {
+      menuCategoryRepository.shiftDisplayOrder(store.getStoreId(), newOrder, oldOrder - 1, 1,
+          updatedCategory.getMenuCategoryId());
+    } else {
+      menuCategoryRepository.shiftDisplayOrder(store.getStoreId(), oldOrder + 1, newOrder, -1,
+          updatedCategory.getMenuCategoryId());
+    }
+  }
+
+  /**
+   * 메뉴 카테고리 순서가 바뀐 뒤 순서 버전 증가 및 캐시 무효화
+   *
+   * @param storeId 가게 ID
+   */
+  private void menuCategoryOrderChanged(Long storeId) {
+    storeRepository.incrementMenuCategoryVersion(storeId, null);
+    entityCacheInvalidator.evict(Store.class, List.of(storeId));
+    storeMenuService.storeMenuChanged(storeId);
+  }
+
+  /**
+   * 요청한 순서가 현재 항목 전체를 한 번씩 포함하는지 검증
+   *
+   * @param currentIds   현재 항목 ID
+   * @param requestedIds 요청한 순서의 항목 ID
+   */
+  static void validateSameIds(List<Long> currentIds, List<Long> requestedIds) {
+    if (currentIds.size() != requestedIds.size()
+        || !new HashSet<>(currentIds).equals(new HashSet<>(requestedIds))) {
+      throw new RestApiException(ErrorCode.INVALID_MENU_ORDER);
+    }
   }
 }
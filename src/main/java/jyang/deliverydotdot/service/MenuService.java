@@ -3,12 +3,16 @@ package jyang.deliverydotdot.service;
 import static jyang.deliverydotdot.type.ErrorCode.MENU_CATEGORY_DOES_NOT_BELONG_TO_STORE;
 import static jyang.deliverydotdot.type.ErrorCode.MENU_DOES_NOT_BELONG_TO_STORE;
 
+import java.util.List;
 import jyang.deliverydotdot.domain.Menu;
 import jyang.deliverydotdot.domain.MenuCategory;
 import jyang.deliverydotdot.domain.Partner;
 import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.dto.store.MenuAvailabilityDTO.MenuAvailabilityRequest;
+import jyang.deliverydotdot.dto.store.MenuOrderDTO.MenuOrderRequest;
 import jyang.deliverydotdot.dto.store.MenuRegisterForm;
 import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.repository.MenuCategoryRepository;
 import jyang.deliverydotdot.repository.MenuRepository;
 import jyang.deliverydotdot.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +33,16 @@ public class MenuService {
 
   private final S3Service s3Service;
 
+  private final StoreSearchService storeSearchService;
+
+  private final StoreMenuService storeMenuService;
+
+  private final MenuCategoryRepository menuCategoryRepository;
+
+  private final EntityCacheInvalidator entityCacheInvalidator;
+
+  private final MenuAvailabilityRegistry menuAvailabilityRegistry;
+
 
   /**
    * 메뉴 등록
@@ -67,6 +81,8 @@ public class MenuService {
         .menuDescription(menuRegisterForm.getMenuDescription())
         .menuImageUrl(menuImageURL)
         .build());
+    storeSearchService.storeChanged(storeId);
+    storeMenuService.storeMenuChanged(storeId);
   }
 
   /**
@@ -96,6 +112,8 @@ public class MenuService {
 
     // 메뉴 삭제
     menuRepository.delete(menu);
+    storeSearchService.storeChanged(storeId);
+    storeMenuService.storeMenuChanged(storeId);
 
   }
 
@@ -133,7 +151,84 @@ public class MenuService {
 
     // 메뉴 수정
     menu.updateMenu(menuUpdateForm, menuImageURL);
+    storeSearchService.storeChanged(storeId);
+    storeMenuService.storeMenuChanged(storeId);
+
+  }
+
+  /**
+   * 메뉴 품절 / 재고 변경
+   * <p>
+   * 품절 여부는 메뉴에 저장하고, 재고는 커밋 후 모든 노드의 메뉴 품절 레지스트리에 반영한다. 재고를 지정하면 주문마다 차감되어 0 이 되면
+   * 품절로 표시되고, 재고를 비우면 재고 제한이 해제된다.
+   *
+   * @param partner 파트너
+   * @param storeId 가게 ID
+   * @param menuId  메뉴 ID
+   * @param request 품절 여부와 남은 재고
+   */
+  @Transactional
+  public void updateMenuAvailability(Partner partner, Long storeId, Long menuId,
+      MenuAvailabilityRequest request) {
+
+    // 가게 조회
+    Store store = storeService.findStore(storeId);
+
+    // 가게 소유자인지 확인
+    storeService.validateStoreOwner(partner, store);
+
+    // 메뉴 조회
+    Menu menu = getMenuById(menuId);
+
+    // 메뉴가 가게에 속해 있는지 확인
+    if (!menu.getStore().getStoreId().equals(storeId)) {
+      throw new RestApiException(MENU_DOES_NOT_BELONG_TO_STORE);
+    }
+
+    menu.updateSoldOut(request.getSoldOut());
+    menuAvailabilityRegistry.availabilityChanged(storeId, menuId, request.getSoldOut(),
+        request.getStock());
+  }
+
+  /**
+   * 카테고리 안 메뉴 순서 일괄 변경
+   * <p>
+   * 메뉴 카테고리의 메뉴 순서 버전이 요청의 버전과 같을 때만 변경하며(다른 기기에서 먼저 변경했으면 실패), 전체 순서를 한 문장으로 다시
+   * 매긴다.
+   *
+   * @param partner        파트너
+   * @param storeId        가게 ID
+   * @param menuCategoryId 메뉴 카테고리 ID
+   * @param request        순서 버전과 원하는 순서의 전체 메뉴 ID
+   */
+  @Transactional
+  public void reorderMenus(Partner partner, Long storeId, Long menuCategoryId,
+      MenuOrderRequest request) {
+
+    // 가게 조회
+    Store store = storeService.findStore(storeId);
+
+    // 가게 소유자인지 확인
+    storeService.validateStoreOwner(partner, store);
+
+    // 메뉴 카테고리가 가게에 속해 있는지 확인
+    MenuCategory menuCategory = menuCategoryService.getMenuCategoryById(menuCategoryId);
+    if (!menuCategory.getStore().getStoreId().equals(storeId)) {
+      throw new RestApiException(MENU_CATEGORY_DOES_NOT_BELONG_TO_STORE);
+    }
+
+    // 버전 증가로 메뉴 카테고리 행을 잠가 같은 카테고리의 순서 변경을 직렬화
+    if (!menuCategoryRepository.incrementMenuOrderVersion(menuCategoryId,
+        request.getVersion())) {
+      throw new RestApiException(ErrorCode.MENU_ORDER_CONFLICT);
+    }
+
+    List<Long> menuIds = menuRepository.findIdsByMenuCategoryId(menuCategoryId);
+    MenuCategoryService.validateSameIds(menuIds, request.getMenuIds());
 
+    menuRepository.renumber(menuCategoryId, request.getMenuIds());
+    entityCacheInvalidator.evict(Menu.class, menuIds);
+    storeMenuService.storeMenuChanged(storeId);
   }
 
   /**
@@ -0,0 +1,42 @@
+package jyang.deliverydotdot.service;
+
+import jyang.deliverydotdot.domain.OutboxEvent;
+import jyang.deliverydotdot.dto.order.OrderEventDTO.OrderStatusChangedEvent;
+import jyang.deliverydotdot.repository.OrderRepository;
+import jyang.deliverydotdot.type.OrderStatus;
+import jyang.deliverydotdot.type.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거절 / 취소된 주문의 메뉴 재고 되돌리기 (주문마다 한 번만 되돌림)
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuStockEventConsumer implements OutboxEventConsumer {
+
+  private final MenuAvailabilityRegistry menuAvailabilityRegistry;
+
+  private final OrderRepository orderRepository;
+
+  private final OutboxService outboxService;
+
+  @Override
+  public boolean supports(OutboxEventType eventType) {
+    return eventType == OutboxEventType.ORDER_STATUS_CHANGED;
+  }
+
+  @Override
+  public void consume(OutboxEvent event) {
+    OrderStatusChangedEvent changed =
+        outboxService.readPayload(event, OrderStatusChangedEvent.class);
+    if (changed.getOrderStatus() != OrderStatus.REJECTED
+        && changed.getOrderStatus() != OrderStatus.CANCELED) {
+      return;
+    }
+
+    Long purchaseOrderId = changed.getPurchaseOrderId();
+    menuAvailabilityRegistry.release(purchaseOrderId,
+        () -> orderRepository.findItemsByPurchaseOrderId(purchaseOrderId));
+  }
+}
@@ -0,0 +1,350 @@
+package jyang.deliverydotdot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import jyang.deliverydotdot.domain.PurchaseOrder;
+import jyang.deliverydotdot.domain.User;
+import jyang.deliverydotdot.dto.order.CreateOrder.Request;
+import jyang.deliverydotdot.dto.order.OrderIntakeDTO.OrderDraft;
+import jyang.deliverydotdot.dto.order.OrderIntakeDTO.OrderIntakeResponse;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.type.ErrorCode;
+import jyang.deliverydotdot.type.OrderIntakeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 접수 큐
+ * <p>
+ * 접수 모드(order.intake.enabled)에서는 요청 스레드가 장바구니 / 배송지만 검증하고 주문 번호를 발급한 뒤 노드 로컬의 크기 제한 큐에 넣고
+ * 바로 응답한다. 작업자는 큐에서 여러 주문을 꺼내 좌표 조회를 트랜잭션 밖에서 마친 뒤 한 트랜잭션으로 저장하고, 실패하면 주문마다 따로
+ * 저장하여 실패한 주문만 제외한다. 큐가 가득 차면 접수를 거절하여 몰리는 요청이 Tomcat 스레드와 DB 커넥션을 점유하지 않도록 한다.
+ * 접수 상태는 Redis(orderIntake:{orderNumber})에 두어 어느 노드에서든 조회할 수 있다.
+ */
+@Service
+@Slf4j
+public class OrderIntakeService {
+
+  private static final String KEY_PREFIX = "orderIntake:";
+
+  private static final String USER_ID = "userId";
+
+  private static final String STATUS = "status";
+
+  private static final String PURCHASE_ORDER_ID = "purchaseOrderId";
+
+  private static final String FAILURE_REASON = "failureReason";
+
+  // KEYS[1] : 접수 상태 키, ARGV[1] : 유지 시간(초), ARGV[2~] : 필드, 값 쌍, 만료 시간 없이 남는 상태가 없도록 함께 기록
+  private static final RedisScript<Long> SAVE_STATUS_SCRIPT = RedisScript.of("""
+      for i = 2, #ARGV, 2 do
+        redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+      end
+      redis.call('EXPIRE', KEYS[1], ARGV[1])
+      return 1
+      """, Long.class);
+
+  private final OrderService orderService;
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final boolean enabled;
+
+  private final int workers;
+
+  private final int batchSize;
+
+  private final long offerTimeoutMillis;
+
+  private final Duration statusTtl;
+
+  private final BlockingQueue<OrderCommand> queue;
+
+  private final ExecutorService workerExecutor;
+
+  private final Counter acceptedCounter;
+
+  private final Counter rejectedCounter;
+
+  private final Counter placedCounter;
+
+  private final Counter failedCounter;
+
+  private final Timer batchTimer;
+
+  private volatile boolean running = true;
+
+  public OrderIntakeService(
+      OrderService orderService,
+      RedisTemplate<String, String> stringRedisTemplate,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${order.intake.enabled:false}") boolean enabled,
+      @Value("${order.intake.queue-capacity:1000}") int queueCapacity,
+      @Value("${order.intake.workers:4}") int workers,
+      @Value("${order.intake.batch-size:20}") int batchSize,
+      @Value("${order.intake.offer-timeout-ms:0}") long offerTimeoutMillis,
+      @Value("${order.intake.status-ttl-minutes:60}") long statusTtlMinutes) {
+    this.orderService = orderService;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.enabled = enabled;
+    this.workers = workers;
+    this.batchSize = batchSize;
+    this.offerTimeoutMillis = offerTimeoutMillis;
+    this.statusTtl = Duration.ofMinutes(statusTtlMinutes);
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.workerExecutor = Executors.newFixedThreadPool(workers);
+
+    Gauge.builder("order.intake.queue.depth", queue, BlockingQueue::size)
+        .description("접수 큐에서 대기 중인 주문 수")
+        .register(meterRegistry);
+    this.acceptedCounter = intakeCounter(meterRegistry, "accepted");
+    this.rejectedCounter = intakeCounter(meterRegistry, "rejected");
+    this.placedCounter = intakeCounter(meterRegistry, "placed");
+    this.failedCounter = intakeCounter(meterRegistry, "failed");
+    this.batchTimer = Timer.builder("order.intake.batch")
+        .description("접수 주문 묶음 저장 소요 시간")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    for (int i = 0; i < workers; i++) {
+      workerExecutor.execute(this::work);
+    }
+  }
+
+  /**
+   * 큐에 남은 주문을 모두 저장한 뒤 종료
+   */
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    running = false;
+    workerExecutor.shutdown();
+    if (!workerExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+      log.error("Order intake workers did not finish. remaining : {}", queue.size());
+      workerExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * 접수 모드 사용 여부
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 주문 접수
+   *
+   * @param user    주문자
+   * @param request 주문 요청
+   * @return 주문 번호와 접수 상태
+   */
+  public OrderIntakeResponse submit(User user, Request request) {
+    orderService.validateOrderRequest(user, request);
+
+    String orderNumber = orderService.newOrderNumber();
+    // 작업자가 먼저 끝내도 상태를 덮어쓰지 않도록 큐에 넣기 전에 기록
+    saveStatus(orderNumber, Map.of(
+        USER_ID, user.getUserId().toString(),
+        STATUS, OrderIntakeStatus.QUEUED.name()));
+
+    if (!offer(new OrderCommand(user, request, orderNumber))) {
+      stringRedisTemplate.delete(KEY_PREFIX + orderNumber);
+      rejectedCounter.increment();
+      throw new RestApiException(ErrorCode.ORDER_INTAKE_BUSY);
+    }
+    acceptedCounter.increment();
+
+    return OrderIntakeResponse.builder()
+        .orderNumber(orderNumber)
+        .status(OrderIntakeStatus.QUEUED)
+        .build();
+  }
+
+  /**
+   * 접수 상태 조회
+   *
+   * @param user        주문자
+   * @param orderNumber 주문 번호
+   * @return 접수 상태
+   */
+  public OrderIntakeResponse getStatus(User user, String orderNumber) {
+    Map<Object, Object> status = stringRedisTemplate.opsForHash().entries(KEY_PREFIX + orderNumber);
+    if (status.isEmpty() || !user.getUserId().toString().equals(status.get(USER_ID))) {
+      throw new RestApiException(ErrorCode.ORDER_NOT_FOUND);
+    }
+
+    Object purchaseOrderId = status.get(PURCHASE_ORDER_ID);
+    return OrderIntakeResponse.builder()
+        .orderNumber(orderNumber)
+        .status(OrderIntakeStatus.valueOf((String) status.get(STATUS)))
+        .purchaseOrderId(purchaseOrderId != null ? Long.parseLong((String) purchaseOrderId) : null)
+        .failureReason((String) status.get(FAILURE_REASON))
+        .build();
+  }
+
+  private boolean offer(OrderCommand command) {
+    if (offerTimeoutMillis <= 0) {
+      return queue.offer(command);
+    }
+    try {
+      return queue.offer(command, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void work() {
+    List<OrderCommand> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        OrderCommand first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        batchTimer.record(() -> process(batch));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("Failed to process order intake batch. size : {}", batch.size(), e);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  /**
+   * 접수 주문 묶음 저장
+   * <p>
+   * 좌표 조회를 모두 마친 뒤 한 트랜잭션으로 저장하고, 실패하면 주문마다 따로 저장한다.
+   */
+  void process(List<OrderCommand> batch) {
+    List<OrderDraft> drafts = new ArrayList<>(batch.size());
+    for (OrderCommand command : batch) {
+      try {
+        drafts.add(orderService.prepareOrder(command.getUser(), command.getRequest(),
+            command.getOrderNumber()));
+      } catch (RuntimeException e) {
+        failed(command.getOrderNumber(), e);
+      }
+    }
+    if (drafts.isEmpty()) {
+      return;
+    }
+
+    Map<String, Long> placed = new HashMap<>();
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        for (OrderDraft draft : drafts) {
+          PurchaseOrder purchaseOrder = orderService.placeOrder(draft);
+          placed.put(draft.getOrderNumber(), purchaseOrder.getPurchaseOrderId());
+        }
+      });
+      placed.forEach(this::placed);
+      return;
+    } catch (RuntimeException e) {
+      if (drafts.size() == 1) {
+        failed(drafts.get(0).getOrderNumber(), e);
+        return;
+      }
+      log.info("Order intake batch rolled back, retrying one by one. size : {}", drafts.size());
+    }
+
+    for (OrderDraft draft : drafts) {
+      try {
+        PurchaseOrder purchaseOrder = transactionTemplate.execute(status ->
+            orderService.placeOrder(draft));
+        placed(draft.getOrderNumber(), purchaseOrder.getPurchaseOrderId());
+      } catch (RuntimeException e) {
+        failed(draft.getOrderNumber(), e);
+      }
+    }
+  }
+
+  private void placed(String orderNumber, Long purchaseOrderId) {
+    placedCounter.increment();
+    saveStatus(orderNumber, Map.of(
+        STATUS, OrderIntakeStatus.PLACED.name(),
+        PURCHASE_ORDER_ID, purchaseOrderId.toString()));
+  }
+
+  private void failed(String orderNumber, RuntimeException e) {
+    failedCounter.increment();
+    ErrorCode errorCode;
+    if (e instanceof RestApiException restApiException) {
+      errorCode = restApiException.getErrorCode();
+    } else {
+      log.error("Failed to place order. orderNumber : {}", orderNumber, e);
+      errorCode = ErrorCode.INTERNAL_SERVER_ERROR;
+    }
+    saveStatus(orderNumber, Map.of(
+        STATUS, OrderIntakeStatus.FAILED.name(),
+        FAILURE_REASON, errorCode.getDescription()));
+  }
+
+  private void saveStatus(String orderNumber, Map<String, String> fields) {
+    List<String> args = new ArrayList<>(fields.size() * 2 + 1);
+    args.add(String.valueOf(statusTtl.getSeconds()));
+    fields.forEach((field, value) -> {
+      args.add(field);
+      args.add(value);
+    });
+    try {
+      stringRedisTemplate.execute(SAVE_STATUS_SCRIPT, List.of(KEY_PREFIX + orderNumber),
+          args.toArray());
+    } catch (RuntimeException e) {
+      log.error("Failed to save order intake status. orderNumber : {}", orderNumber, e);
+    }
+  }
+
+  private static Counter intakeCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("order.intake")
+        .tag("result", result)
+        .description("주문 접수 / 거절 / 저장 / 실패 수")
+        .register(meterRegistry);
+  }
+
+  @Getter
+  @AllArgsConstructor
+  static class OrderCommand {
+
+    private final User user;
+
+    private final Request request;
+
+    private final String orderNumber;
+  }
+}
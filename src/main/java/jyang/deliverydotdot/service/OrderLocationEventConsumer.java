@@ -0,0 +1,65 @@
+package jyang.deliverydotdot.service;
+
+import jyang.deliverydotdot.domain.OutboxEvent;
+import jyang.deliverydotdot.dto.order.OrderEventDTO.OrderPlacedEvent;
+import jyang.deliverydotdot.dto.order.OrderEventDTO.OrderStatusChangedEvent;
+import jyang.deliverydotdot.repository.DeliveryRepository;
+import jyang.deliverydotdot.repository.OrderRepository;
+import jyang.deliverydotdot.type.OrderStatus;
+import jyang.deliverydotdot.type.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배달 대기 주문 위치 반영
+ * <p>
+ * 생성된 주문은 가게 좌표로 위치 인덱스에 등록하고, 거절 / 취소된 주문은 뺀다. 등록 / 삭제 모두 같은 결과로 덮어쓰므로 다시 전달되어도 된다.
+ * 생성 이벤트가 늦게 다시 전달되어도 이미 라이더가 잡았거나 거절 / 취소된 주문은 되살리지 않도록, 주문이 아직 배달 대기 중일 때만 등록한다
+ * (선점 중인 주문은 Redis 에서 선점 키로 한 번 더 거른다).
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderLocationEventConsumer implements OutboxEventConsumer {
+
+  private final RedisService redisService;
+
+  private final OutboxService outboxService;
+
+  private final OrderRepository orderRepository;
+
+  private final DeliveryRepository deliveryRepository;
+
+  @Override
+  public boolean supports(OutboxEventType eventType) {
+    return eventType == OutboxEventType.ORDER_PLACED
+        || eventType == OutboxEventType.ORDER_STATUS_CHANGED;
+  }
+
+  @Override
+  public void consume(OutboxEvent event) {
+    if (event.getEventType() == OutboxEventType.ORDER_PLACED) {
+      OrderPlacedEvent placed = outboxService.readPayload(event, OrderPlacedEvent.class);
+      if (!isAwaitingRider(placed.getPurchaseOrderId())) {
+        return;
+      }
+      redisService.addOrUpdateOrderLocation(placed.getPurchaseOrderId(),
+          placed.getStoreLongitude(), placed.getStoreLatitude());
+      return;
+    }
+
+    OrderStatusChangedEvent changed =
+        outboxService.readPayload(event, OrderStatusChangedEvent.class);
+    if (changed.getOrderStatus() == OrderStatus.REJECTED
+        || changed.getOrderStatus() == OrderStatus.CANCELED) {
+      redisService.deleteOrderLocation(changed.getPurchaseOrderId());
+    }
+  }
+
+  private boolean isAwaitingRider(Long orderId) {
+    return orderRepository.findById(orderId)
+        .filter(order -> order.getOrderStatus() != OrderStatus.REJECTED
+            && order.getOrderStatus() != OrderStatus.CANCELED)
+        .filter(order -> !deliveryRepository.existsByPurchaseOrder(order))
+        .isPresent();
+  }
+}
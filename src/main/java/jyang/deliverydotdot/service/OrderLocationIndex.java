@@ -0,0 +1,268 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.location.LocationEventDTO.ORDER_LOCATION_CHANNEL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jyang.deliverydotdot.dto.location.LocationEventDTO.OrderLocationEvent;
+import jyang.deliverydotdot.dto.order.OrderDTO.RiderDeliverableOrders;
+import jyang.deliverydotdot.type.LocationEventType;
+import jyang.deliverydotdot.util.GeoDistance;
+import jyang.deliverydotdot.util.GeoHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 주문 위치 인덱스
+ * <p>
+ * 배달 대기 주문을 geohash 셀 단위 격자에 보관하여 반경 조회를 Redis 왕복 없이 처리한다. Redis 가 원본이며, 기동 시와 주기적으로
+ * 주문마다 해시 태그를 가진 멤버 키({orderLocation:member:{id}})를 읽어 재구성하고, 그 사이의 변경은 주문 위치 이벤트(pub/sub)로 반영한다.
+ */
+@Component
+@Slf4j
+public class OrderLocationIndex {
+
+  private static final int CELL_PRECISION = 5;
+
+  // 멤버 키 : {orderLocation:member:{id}}, 값 : "경도,위도,셀"
+  private static final String MEMBER_KEY_PREFIX = "{orderLocation:member:";
+
+  private static final String MEMBER_KEY_SUFFIX = "}";
+
+  private static final int SCAN_BATCH_SIZE = 1000;
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  private volatile Grid current;
+
+  // 재구성 중인 격자, 재구성 동안의 변경은 양쪽에 모두 반영
+  private volatile Grid building;
+
+  public OrderLocationIndex(
+      RedisTemplate<String, String> stringRedisTemplate,
+      ObjectMapper objectMapper,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      MeterRegistry meterRegistry) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> onOrderLocationEvent(message.getBody()),
+        new ChannelTopic(ORDER_LOCATION_CHANNEL));
+
+    Gauge.builder("order.location.index.size", this, index -> index.size())
+        .description("로컬 주문 위치 인덱스의 주문 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 인덱스 사용 가능 여부 (최초 적재 완료 후 true)
+   */
+  public boolean isReady() {
+    return current != null;
+  }
+
+  public int size() {
+    Grid grid = current;
+    return grid == null ? 0 : grid.positions.size();
+  }
+
+  public void put(Long orderId, double longitude, double latitude) {
+    Grid grid = building;
+    if (grid != null) {
+      grid.put(orderId, new Point(longitude, latitude));
+    }
+    grid = current;
+    if (grid != null) {
+      grid.put(orderId, new Point(longitude, latitude));
+    }
+  }
+
+  public void remove(Long orderId) {
+    Grid grid = building;
+    if (grid != null) {
+      grid.remove(orderId);
+      grid.removedWhileBuilding.add(orderId);
+    }
+    grid = current;
+    if (grid != null) {
+      grid.remove(orderId);
+    }
+  }
+
+  /**
+   * 반경 내 주문 조회
+   *
+   * @param center   중심 좌표
+   * @param radiusKm 반경(km)
+   * @param limit    최대 개수
+   * @return 거리순 주문 목록
+   */
+  public List<RiderDeliverableOrders> search(Point center, double radiusKm, int limit) {
+    Grid grid = current;
+    if (grid == null) {
+      return List.of();
+    }
+
+    List<RiderDeliverableOrders> result = new ArrayList<>();
+    for (String cell : GeoHash.coveringCells(center.getX(), center.getY(), radiusKm,
+        CELL_PRECISION)) {
+      Map<Long, Point> orders = grid.cells.get(cell);
+      if (orders == null) {
+        continue;
+      }
+      orders.forEach((orderId, point) -> {
+        double distance = GeoDistance.haversineKm(center.getX(), center.getY(), point.getX(),
+            point.getY());
+        if (distance <= radiusKm) {
+          result.add(RiderDeliverableOrders.builder()
+              .purchaseOrderId(orderId)
+              .distance(distance)
+              .build());
+        }
+      });
+    }
+
+    result.sort(Comparator.comparingDouble(RiderDeliverableOrders::getDistance));
+    return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    rebuild();
+  }
+
+  /**
+   * Redis 로부터 인덱스 재구성 (pub/sub 메시지 유실 보정)
+   */
+  @Scheduled(initialDelayString = "${order.location.index.rebuild-interval-ms:300000}",
+      fixedDelayString = "${order.location.index.rebuild-interval-ms:300000}")
+  public synchronized void rebuild() {
+    Grid grid = new Grid();
+    building = grid;
+    try {
+      ScanOptions options = ScanOptions.scanOptions()
+          .match(MEMBER_KEY_PREFIX + "*" + MEMBER_KEY_SUFFIX)
+          .count(SCAN_BATCH_SIZE)
+          .build();
+
+      List<String> keys = new ArrayList<>(SCAN_BATCH_SIZE);
+      try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+        while (cursor.hasNext()) {
+          keys.add(cursor.next());
+          if (keys.size() == SCAN_BATCH_SIZE) {
+            loadBatch(grid, keys);
+            keys.clear();
+          }
+        }
+      }
+      loadBatch(grid, keys);
+
+      grid.removedWhileBuilding.clear();
+      current = grid;
+      log.info("Order location index rebuilt. size : {}", grid.positions.size());
+    } catch (RuntimeException e) {
+      log.error("Failed to rebuild order location index", e);
+    } finally {
+      building = null;
+    }
+  }
+
+  private void loadBatch(Grid grid, List<String> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    List<String> positions = stringRedisTemplate.opsForValue().multiGet(keys);
+    if (positions == null) {
+      return;
+    }
+    for (int i = 0; i < keys.size(); i++) {
+      String position = positions.get(i);
+      if (position == null) {
+        continue;
+      }
+      String key = keys.get(i);
+      Long orderId = Long.parseLong(key.substring(MEMBER_KEY_PREFIX.length(),
+          key.length() - MEMBER_KEY_SUFFIX.length()));
+      if (grid.removedWhileBuilding.contains(orderId)) {
+        continue;
+      }
+      String[] parts = position.split(",");
+      grid.positions.computeIfAbsent(orderId, id -> {
+        Point point = new Point(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]));
+        grid.cellFor(point).put(id, point);
+        return point;
+      });
+    }
+  }
+
+  private void onOrderLocationEvent(byte[] body) {
+    try {
+      OrderLocationEvent event = objectMapper.readValue(body, OrderLocationEvent.class);
+      if (event.getType() == LocationEventType.ADDED) {
+        put(event.getOrderId(), event.getLongitude(), event.getLatitude());
+      } else {
+        remove(event.getOrderId());
+      }
+    } catch (IOException e) {
+      log.error("Failed to read order location event", e);
+    }
+  }
+
+  private static class Grid {
+
+    private final Map<String, Map<Long, Point>> cells = new ConcurrentHashMap<>();
+
+    private final Map<Long, Point> positions = new ConcurrentHashMap<>();
+
+    private final Set<Long> removedWhileBuilding = ConcurrentHashMap.newKeySet();
+
+    private Map<Long, Point> cellFor(Point point) {
+      return cells.computeIfAbsent(
+          GeoHash.encode(point.getX(), point.getY(), CELL_PRECISION),
+          key -> new ConcurrentHashMap<>());
+    }
+
+    private void put(Long orderId, Point point) {
+      Point previous = positions.put(orderId, point);
+      if (previous != null) {
+        removeFromCell(orderId, previous);
+      }
+      cellFor(point).put(orderId, point);
+    }
+
+    private void remove(Long orderId) {
+      Point previous = positions.remove(orderId);
+      if (previous != null) {
+        removeFromCell(orderId, previous);
+      }
+    }
+
+    private void removeFromCell(Long orderId, Point point) {
+      cells.computeIfPresent(GeoHash.encode(point.getX(), point.getY(), CELL_PRECISION),
+          (key, orders) -> {
+            orders.remove(orderId);
+            return orders.isEmpty() ? null : orders;
+          });
+    }
+  }
+}
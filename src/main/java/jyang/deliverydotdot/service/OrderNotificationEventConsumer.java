@@ -0,0 +1,101 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.order.OrderEventDTO.ORDER_NOTIFICATION_CHANNEL;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import jyang.deliverydotdot.domain.OutboxEvent;
+import jyang.deliverydotdot.dto.order.OrderEventDTO.OrderNotification;
+import jyang.deliverydotdot.type.DeliveryStatus;
+import jyang.deliverydotdot.type.OrderStatus;
+import jyang.deliverydotdot.type.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 / 배달 상태 알림 발행
+ * <p>
+ * 아웃박스 이벤트 ID 를 알림 ID 로 사용하므로, 다시 전달되어 같은 알림이 발행되어도 받는 쪽에서 중복을 거를 수 있다. 같은 대상의 이벤트가
+ * 다른 노드에서 잇달아 저장되면 전달 순서가 바뀔 수 있으므로(OutboxRelay), 대상마다 마지막으로 알린 상태의 진행 단계를 기록해 두고 그보다
+ * 앞선 단계의 상태는 알리지 않는다. 같은 단계는 다시 알리므로 발행 후 기록 전에 실패한 이벤트도 다시 전달되면 발행된다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderNotificationEventConsumer implements OutboxEventConsumer {
+
+  // 대상별 마지막으로 알린 진행 단계
+  private static final String NOTIFIED_STAGE_PREFIX = "orderNotification:stage:";
+
+  private static final Duration NOTIFIED_STAGE_TTL = Duration.ofDays(7);
+
+  // KEYS[1] : 진행 단계 키, ARGV[1] : 진행 단계, ARGV[2] : 유지 시간(초), 더 뒤의 단계를 이미 알렸으면 0
+  private static final RedisScript<Long> ADVANCE_STAGE_SCRIPT = RedisScript.of("""
+      local stage = redis.call('GET', KEYS[1])
+      if stage and tonumber(stage) > tonumber(ARGV[1]) then
+        return 0
+      end
+      redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+      return 1
+      """, Long.class);
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public boolean supports(OutboxEventType eventType) {
+    return eventType == OutboxEventType.ORDER_STATUS_CHANGED
+        || eventType == OutboxEventType.DELIVERY_STATUS_CHANGED;
+  }
+
+  @Override
+  public void consume(OutboxEvent event) {
+    JsonNode payload;
+    try {
+      payload = objectMapper.readTree(event.getPayload());
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(
+          "Invalid outbox event payload. outboxEventId : " + event.getOutboxEventId(), e);
+    }
+
+    Long advanced = stringRedisTemplate.execute(ADVANCE_STAGE_SCRIPT,
+        List.of(NOTIFIED_STAGE_PREFIX + event.aggregateKey()),
+        String.valueOf(stageOf(event, payload)),
+        String.valueOf(NOTIFIED_STAGE_TTL.getSeconds()));
+    if (advanced != null && advanced == 0) {
+      log.info("Skipped stale notification. outboxEventId : {}, aggregate : {}",
+          event.getOutboxEventId(), event.aggregateKey());
+      return;
+    }
+
+    try {
+      stringRedisTemplate.convertAndSend(ORDER_NOTIFICATION_CHANNEL,
+          objectMapper.writeValueAsString(OrderNotification.builder()
+              .eventId(event.getOutboxEventId())
+              .eventType(event.getEventType())
+              .aggregateId(event.getAggregateId())
+              .payload(payload)
+              .build()));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(
+          "Invalid outbox event payload. outboxEventId : " + event.getOutboxEventId(), e);
+    }
+  }
+
+  /**
+   * 변경 후 상태의 진행 단계
+   */
+  private static int stageOf(OutboxEvent event, JsonNode payload) {
+    if (event.getEventType() == OutboxEventType.ORDER_STATUS_CHANGED) {
+      return OrderStatus.valueOf(payload.path("orderStatus").asText()).getStage();
+    }
+    return DeliveryStatus.valueOf(payload.path("deliveryStatus").asText()).getStage();
+  }
+}
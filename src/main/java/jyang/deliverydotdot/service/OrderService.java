@@ -4,11 +4,12 @@ import static jyang.deliverydotdot.type.ErrorCode.ADDRESS_NOT_FOUND;
 import static jyang.deliverydotdot.type.ErrorCode.CART_NOT_FOUND;
 import static jyang.deliverydotdot.type.ErrorCode.INVALID_QUANTITY;
 import static jyang.deliverydotdot.type.ErrorCode.INVALID_REQUEST;
-import static jyang.deliverydotdot.type.ErrorCode.STORE_CLOSED;
 import static jyang.deliverydotdot.type.OrderStatus.PENDING;
 
-import java.time.LocalTime;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import jyang.deliverydotdot.domain.Cart;
 import jyang.deliverydotdot.domain.CartItem;
 import jyang.deliverydotdot.domain.Delivery;
@@ -20,18 +21,26 @@ import jyang.deliverydotdot.domain.UserDeliveryAddress;
 import jyang.deliverydotdot.dto.order.CreateOrder.Request;
 import jyang.deliverydotdot.dto.order.OrderDTO.GetOrderDetailResponse;
 import jyang.deliverydotdot.dto.order.OrderDTO.OrderListResponse;
+import jyang.deliverydotdot.dto.order.OrderEventDTO.OrderPlacedEvent;
+import jyang.deliverydotdot.dto.order.OrderEventDTO.OrderStatusChangedEvent;
+import jyang.deliverydotdot.dto.order.OrderIntakeDTO.OrderDraft;
 import jyang.deliverydotdot.exception.RestApiException;
 import jyang.deliverydotdot.repository.CartRepository;
 import jyang.deliverydotdot.repository.OrderRepository;
+import jyang.deliverydotdot.repository.UserRepository;
 import jyang.deliverydotdot.type.ErrorCode;
 import jyang.deliverydotdot.type.OrderStatus;
+import jyang.deliverydotdot.type.OrderTransition;
+import jyang.deliverydotdot.type.OutboxEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Point;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -45,40 +54,112 @@ public class OrderService {
 
   private final OrderRepository orderRepository;
 
+  private final UserRepository userRepository;
+
   private final CartRepository cartRepository;
 
   private final StoreService storeService;
 
-  private final RedisService redisService;
+  private final StoreScheduleIndex storeScheduleIndex;
+
+  private final MenuAvailabilityRegistry menuAvailabilityRegistry;
+
+  private final IdGenerator idGenerator;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final OutboxService outboxService;
 
   /**
    * 주문 생성
+   * <p>
+   * 배송지 좌표 조회는 트랜잭션 밖에서 수행하여, 외부 API 지연 동안 DB 커넥션을 점유하지 않는다.
    *
    * @param user    주문자
    * @param request 주문 요청
    */
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public void createOrder(User user, Request request) {
+    OrderDraft draft = prepareOrder(user, request, newOrderNumber());
+
+    transactionTemplate.executeWithoutResult(status -> placeOrder(draft));
+  }
+
+  /**
+   * 주문 요청 검증 (장바구니, 배송지)
+   * <p>
+   * 좌표 조회 없이 확인할 수 있는 항목만 검증한다.
+   *
+   * @param user    주문자
+   * @param request 주문 요청
+   */
+  public void validateOrderRequest(User user, Request request) {
     if (user.getCart() == null) {
       throw new RestApiException(CART_NOT_FOUND);
     }
+    resolveDeliveryAddress(findSavedDeliveryAddress(user, request), request);
+  }
 
-    Cart cart = getCart(user);
+  /**
+   * 저장할 주문 준비 (배송지 / 연락처 확정, 좌표 조회)
+   *
+   * @param user        주문자
+   * @param request     주문 요청
+   * @param orderNumber 주문 번호
+   * @return 저장할 주문
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public OrderDraft prepareOrder(User user, Request request, String orderNumber) {
+    if (user.getCart() == null) {
+      throw new RestApiException(CART_NOT_FOUND);
+    }
 
-    Store store = cart.getStore();
-    Point storeCoordinate = store.getCoordinates();
-    validateStoreHours(store);
+    UserDeliveryAddress savedAddress = findSavedDeliveryAddress(user, request);
+    String deliveryAddress = resolveDeliveryAddress(savedAddress, request);
+    // 저장된 배송지는 등록 시 조회한 좌표를 그대로 사용
+    Point deliveryCoordinate = savedAddress != null ? savedAddress.getCoordinates()
+        : locationService.getCoordinatesFromAddress(deliveryAddress);
+
+    return OrderDraft.builder()
+        .userId(user.getUserId())
+        .cartId(user.getCart().getCartId())
+        .orderNumber(orderNumber)
+        .phone(resolvePhone(user, request))
+        .deliveryAddress(deliveryAddress)
+        .deliveryCoordinate(deliveryCoordinate)
+        .deliveryRequest(request.getDeliveryRequest())
+        .build();
+  }
 
-    String deliveryAddress = resolveDeliveryAddress(user, request);
-    Point deliveryCoordinate = locationService.getCoordinatesFromAddress(deliveryAddress);
-    String phone = resolvePhone(user, request);
+  /**
+   * 주문 번호 생성
+   */
+  public String newOrderNumber() {
+    return idGenerator.nextOrderNumber();
+  }
+
+  /**
+   * 주문 저장 (호출한 쪽의 트랜잭션에서 수행)
+   * <p>
+   * 장바구니는 가게 / 항목 / 메뉴를 한 번에 조회하고, 주문 / 주문 항목은 Snowflake ID 로 insert batch 에 묶고, 장바구니는 일괄 삭제로
+   * 처리하여 주문 항목 수와 관계없이 일정한 수의 문장으로 끝낸다 (장바구니 조회 1, 주문 / 주문 항목 / 이벤트 batch 3, 장바구니
+   * 삭제 2).
+   *
+   * @param draft 저장할 주문
+   * @return 저장한 주문
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public PurchaseOrder placeOrder(OrderDraft draft) {
+    Cart cart = getCart(draft.getCartId());
 
-    locationService.validateDeliveryArea(storeCoordinate, deliveryCoordinate);
+    Store store = cart.getStore();
+    Point storeCoordinate = store.getCoordinates();
+    storeScheduleIndex.validateOrderable(store);
 
-    PurchaseOrder purchaseOrder = orderRepository.save(
-        buildOrder(user, store, phone, deliveryAddress, deliveryCoordinate,
-            request.getDeliveryRequest()));
+    locationService.validateDeliveryArea(store, draft.getDeliveryCoordinate());
 
+    int totalPrice = 0;
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
     for (CartItem cartItem : cart.getCartItems()) {
       if (cartItem.getQuantity() <= 0) {
         throw new RestApiException(INVALID_QUANTITY);
@@ -86,42 +167,58 @@ public class OrderService {
       if (cartItem.getMenu().getPrice() <= 0) {
         throw new RestApiException(ErrorCode.INVALID_PRICE);
       }
-      purchaseOrder.addOrderItem(cartItem);
+      totalPrice += cartItem.getMenu().getPrice() * cartItem.getQuantity();
+      quantities.merge(cartItem.getMenu().getMenuId(), cartItem.getQuantity(), Integer::sum);
     }
 
-    purchaseOrder.calculateTotalPrice();
+    // 품절 확인 및 재고 차감 (롤백 시 되돌림)
+    menuAvailabilityRegistry.reserve(store.getStoreId(), quantities);
 
-    cartRepository.delete(cart);
-
-    redisService.addOrUpdateOrderLocation(purchaseOrder.getPurchaseOrderId(),
-        storeCoordinate.getX(), storeCoordinate.getY());
+    PurchaseOrder purchaseOrder = buildOrder(draft, store, totalPrice);
+    for (CartItem cartItem : cart.getCartItems()) {
+      purchaseOrder.addOrderItem(cartItem);
+    }
+    // ID 는 저장 시점에 만들어지고 insert 는 커밋 시 batch 로 수행된다
+    orderRepository.save(purchaseOrder);
+
+    cartRepository.deleteItemsByCartId(cart.getCartId());
+    cartRepository.deleteByCartId(cart.getCartId());
+
+    // 배달 대기 위치 / 순위는 커밋된 주문만 이벤트로 전달받아 반영
+    outboxService.append(OutboxEventType.ORDER_PLACED, purchaseOrder.getPurchaseOrderId(),
+        OrderPlacedEvent.builder()
+            .purchaseOrderId(purchaseOrder.getPurchaseOrderId())
+            .storeId(store.getStoreId())
+            .storeLongitude(storeCoordinate.getX())
+            .storeLatitude(storeCoordinate.getY())
+            .quantities(quantities)
+            .occurredAt(LocalDateTime.now())
+            .build());
+    return purchaseOrder;
   }
 
-
-  private Cart getCart(User user) {
-    Cart cart = cartRepository.findByIdWithStore(user.getCart().getCartId());
-    if (cart == null) {
+  private Cart getCart(Long cartId) {
+    Cart cart = cartRepository.findByIdWithItems(cartId);
+    if (cart == null || cart.getCartItems().isEmpty()) {
       throw new RestApiException(CART_NOT_FOUND);
     }
     return cart;
   }
 
-  private void validateStoreHours(Store store) {
-    LocalTime currentTime = LocalTime.now();
-    if (currentTime.isBefore(store.getOpenTime()) || currentTime.isAfter(store.getCloseTime())) {
-      throw new RestApiException(STORE_CLOSED);
-    }
-  }
-
   private String resolvePhone(User user, Request request) {
     return (request.getOptionalPhone() != null) ? request.getOptionalPhone() : user.getPhone();
   }
 
-  private String resolveDeliveryAddress(User user, Request request) {
-    if (request.getDeliveryAddressId() != null) {
-      UserDeliveryAddress userDeliveryAddress =
-          userService.getUserDeliveryAddress(user, request.getDeliveryAddressId());
-      return userDeliveryAddress.getAddress();
+  private UserDeliveryAddress findSavedDeliveryAddress(User user, Request request) {
+    if (request.getDeliveryAddressId() == null) {
+      return null;
+    }
+    return userService.getUserDeliveryAddress(user, request.getDeliveryAddressId());
+  }
+
+  private String resolveDeliveryAddress(UserDeliveryAddress savedAddress, Request request) {
+    if (savedAddress != null) {
+      return savedAddress.getAddress();
     } else if (request.getOptionalAddress() != null) {
       return request.getOptionalAddress();
     } else {
@@ -129,18 +226,18 @@ public class OrderService {
     }
   }
 
-  private PurchaseOrder buildOrder(User user, Store store, String phone, String deliveryAddress,
-      Point coordinate, String deliveryRequest) {
+  private PurchaseOrder buildOrder(OrderDraft draft, Store store, int totalPrice) {
     return PurchaseOrder.builder()
-        .user(user)
+        .user(userRepository.getReferenceById(draft.getUserId()))
         .store(store)
         .orderStatus(PENDING)
-        .orderNumber("OD" + System.currentTimeMillis())
-        .deliveryAddress(deliveryAddress)
-        .coordinate(coordinate)
-        .phone(phone)
+        .orderNumber(draft.getOrderNumber())
+        .deliveryAddress(draft.getDeliveryAddress())
+        .coordinate(draft.getDeliveryCoordinate())
+        .phone(draft.getPhone())
         .orderItems(new ArrayList<>())
-        .deliveryRequest(deliveryRequest)
+        .totalPrice(totalPrice)
+        .deliveryRequest(draft.getDeliveryRequest())
         .build();
   }
 
@@ -166,79 +263,90 @@ public class OrderService {
 
   @Transactional
   public void approveOrder(Partner partner, Long storeId, Long orderId) {
-    Store store = storeService.findStore(storeId);
-    storeService.validateStoreOwner(partner, store);
-
-    PurchaseOrder order = getOrderById(orderId);
-
-    if (order.getOrderStatus() != OrderStatus.PENDING) {
-      throw new RestApiException(ErrorCode.CAN_NOT_CHANGE_ORDER_STATUS);
-    }
-
-    order.approve();
+    transitionByPartner(partner, storeId, orderId, OrderTransition.APPROVE);
   }
 
   @Transactional
   public void rejectOrder(Partner partner, Long storeId, Long orderId) {
-    Store store = storeService.findStore(storeId);
-    storeService.validateStoreOwner(partner, store);
-    PurchaseOrder order = getOrderById(orderId);
-    if (order.getOrderStatus() != OrderStatus.PENDING) {
-      throw new RestApiException(ErrorCode.CAN_NOT_CHANGE_ORDER_STATUS);
-    }
-    order.reject();
+    transitionByPartner(partner, storeId, orderId, OrderTransition.REJECT);
   }
 
   @Transactional
   public void cancelOrderByPartner(Partner partner, Long storeId, Long orderId) {
-    Store store = storeService.findStore(storeId);
-    storeService.validateStoreOwner(partner, store);
-    PurchaseOrder order = getOrderById(orderId);
-    if (order.getOrderStatus() != OrderStatus.PENDING) {
-      throw new RestApiException(ErrorCode.CAN_NOT_CHANGE_ORDER_STATUS);
-    }
-    order.cancel();
-    redisService.deleteOrderLocation(order.getPurchaseOrderId());
+    transitionByPartner(partner, storeId, orderId, OrderTransition.CANCEL_BY_PARTNER);
   }
 
   @Transactional
   public void cancelOrderByUser(User user, Long orderId) {
-    PurchaseOrder order = getOrderById(orderId);
-
-    if (!order.getUser().equals(user)) {
-      throw new RestApiException(ErrorCode.CAN_NOT_CHANGE_ORDER_STATUS);
-    }
-
-    OrderStatus orderStatus = order.getOrderStatus();
-    if (orderStatus != OrderStatus.PENDING && orderStatus != OrderStatus.APPROVED) {
-      throw new RestApiException(ErrorCode.CAN_NOT_CHANGE_ORDER_STATUS);
+    if (!orderRepository.transitionByUser(orderId, user.getUserId(),
+        OrderTransition.CANCEL_BY_USER)) {
+      // 실패한 경우에만 주문을 조회하여 원인 확인
+      PurchaseOrder order = getOrderById(orderId);
+      if (!order.getUser().getUserId().equals(user.getUserId())) {
+        throw new RestApiException(ErrorCode.CAN_NOT_CHANGE_ORDER_STATUS);
+      }
+      throw transitionFailed(order, OrderTransition.CANCEL_BY_USER);
     }
-    order.cancel();
-    redisService.deleteOrderLocation(order.getPurchaseOrderId());
+    publishStatusChanged(orderId, OrderTransition.CANCEL_BY_USER, user.getUserId());
   }
 
   @Transactional
   public void cookOrder(Partner partner, Long storeId, Long orderId) {
-    Store store = storeService.findStore(storeId);
-    storeService.validateStoreOwner(partner, store);
-    PurchaseOrder order = getOrderById(orderId);
-    if (order.getOrderStatus() != OrderStatus.APPROVED) {
-      throw new RestApiException(ErrorCode.CAN_NOT_CHANGE_ORDER_STATUS);
-    }
-    order.cook();
+    transitionByPartner(partner, storeId, orderId, OrderTransition.COOK);
   }
 
   @Transactional
   public void completeOrder(Partner partner, Long storeId, Long orderId) {
-    Store store = storeService.findStore(storeId);
-    storeService.validateStoreOwner(partner, store);
-    PurchaseOrder order = getOrderById(orderId);
-    if (order.getOrderStatus() != OrderStatus.COOKING) {
-      throw new RestApiException(ErrorCode.CAN_NOT_CHANGE_ORDER_STATUS);
+    transitionByPartner(partner, storeId, orderId, OrderTransition.COMPLETE);
+  }
+
+  /**
+   * 파트너의 주문 상태 전이
+   * <p>
+   * 가게 소유자 / 가게의 주문 / 이전 상태를 조건으로 한 UPDATE 한 문장으로 전이하여, 동시에 들어온 파트너 / 사용자 요청이 서로의 변경을
+   * 덮어쓰지 않는다. 실패한 경우에만 가게와 주문을 조회하여 원인에 맞는 오류를 응답한다.
+   */
+  private void transitionByPartner(Partner partner, Long storeId, Long orderId,
+      OrderTransition transition) {
+    if (!orderRepository.transitionByPartner(orderId, storeId, partner.getPartnerId(),
+        transition)) {
+      Store store = storeService.findStore(storeId);
+      storeService.validateStoreOwner(partner, store);
+      PurchaseOrder order = getOrderById(orderId);
+      if (!order.getStore().getStoreId().equals(storeId)) {
+        throw new RestApiException(ErrorCode.ORDER_NOT_FOUND);
+      }
+      throw transitionFailed(order, transition);
+    }
+    publishStatusChanged(orderId, transition, partner.getPartnerId());
+  }
+
+  /**
+   * 소유자 확인 후에도 전이에 실패한 원인 기록
+   * <p>
+   * 지금 상태에서 전이할 수 없으면 이미 다른 상태로 바뀐 주문이고, 전이할 수 있으면 UPDATE 와 조회 사이에 다른 요청이 상태를 바꾼 경우다.
+   */
+  private RestApiException transitionFailed(PurchaseOrder order, OrderTransition transition) {
+    if (transition.canTransitionFrom(order.getOrderStatus())) {
+      log.warn("Order transition lost to concurrent update. orderId : {}, status : {}, "
+          + "transition : {}", order.getPurchaseOrderId(), order.getOrderStatus(), transition);
+    } else {
+      log.info("Order transition failed. orderId : {}, status : {}, transition : {}",
+          order.getPurchaseOrderId(), order.getOrderStatus(), transition);
     }
-    order.complete();
+    return new RestApiException(ErrorCode.CAN_NOT_CHANGE_ORDER_STATUS);
   }
 
+  private void publishStatusChanged(Long orderId, OrderTransition transition, Long actorId) {
+    outboxService.append(OutboxEventType.ORDER_STATUS_CHANGED, orderId,
+        OrderStatusChangedEvent.builder()
+            .purchaseOrderId(orderId)
+            .transition(transition)
+            .orderStatus(transition.getTo())
+            .actorId(actorId)
+            .occurredAt(LocalDateTime.now())
+            .build());
+  }
 
   public PurchaseOrder getOrderById(Long orderId) {
     return orderRepository.findById(orderId)
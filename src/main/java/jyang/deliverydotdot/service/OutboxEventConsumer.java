@@ -0,0 +1,17 @@
+package jyang.deliverydotdot.service;
+
+import jyang.deliverydotdot.domain.OutboxEvent;
+import jyang.deliverydotdot.type.OutboxEventType;
+
+/**
+ * 아웃박스 이벤트 소비자
+ * <p>
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로(at-least-once) 여러 번 처리해도 결과가 같아야 한다. 처리하지 못하면 예외를 던져 다음 주기에
+ * 다시 전달받는다.
+ */
+public interface OutboxEventConsumer {
+
+  boolean supports(OutboxEventType eventType);
+
+  void consume(OutboxEvent event);
+}
@@ -0,0 +1,268 @@
+package jyang.deliverydotdot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import jyang.deliverydotdot.domain.OutboxEvent;
+import jyang.deliverydotdot.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스 이벤트 전달
+ * <p>
+ * 짧은 주기마다 전달되지 않은 이벤트를 ID 순서대로 묶어 읽고, 이벤트를 처리하는 소비자(Redis 위치 인덱스, 재고, 순위, 알림)에 전달한 뒤
+ * 전달 결과를 한 트랜잭션으로 기록한다. 여러 노드에서 실행되더라도 Redis 락으로 한 노드만 전달하며, 이벤트 전달에 실패하면 같은 주문 / 배달의
+ * 이후 이벤트는 건너뛰어 순서를 지킨다. 실패한 이벤트는 실패 횟수에 따라 지수적으로 늘어나는 간격(최대 간격까지) 뒤에 다시 전달하고, 그동안
+ * 같은 대상의 이후 이벤트도 기다린다. 최대 횟수를 넘으면 더 이상 전달하지 않고(parked) 그 수를 지표로 남긴다. 전달 후 기록 전에 멈추면
+ * 같은 이벤트를 다시 전달하므로(at-least-once) 소비자는 멱등하게 처리한다.
+ * <p>
+ * ID(Snowflake)는 노드 안에서만 저장 순서와 같으므로, 같은 주문 / 배달의 이벤트가 다른 노드에서 시계 차이 이내로 잇달아 저장되면 순서가
+ * 바뀌어 전달될 수 있다. 실패한 이벤트의 이후 이벤트를 기다리는 것은 ID 순서를 지킬 뿐이므로 소비자는 순서에 기대지 않는다. 순위 / 재고는
+ * 주문마다 한 번만 반영하고, 위치 인덱스는 주문의 현재 상태를 DB 에서 확인하며, 알림은 이미 알린 상태보다 앞선 단계의 상태를 건너뛴다.
+ * <p>
+ * 다음 전달 시각은 각 노드의 시계로 기록 / 비교하므로, 노드 간 시계 차이만큼 재시도가 앞당겨지거나 늦어질 수 있다. 재시도 간격에만 영향이
+ * 있고 순서 / 중복에는 영향이 없으므로 NTP 로 맞춘 수준의 차이는 허용한다. 락 만료는 Redis 서버 시계를 따르므로, 락 유지 시간은 한 번의
+ * 전달(최대 묶음 수 x 묶음 처리 시간)보다 충분히 길게 둔다.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+  private static final String LOCK_KEY = "outbox:lock";
+
+  // KEYS[1] : 락 키, ARGV[1] : 토큰, 내 락일 때만 삭제
+  private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  // 오래된 이벤트 삭제 시 한 번에 지우는 건수
+  private static final int DELETE_CHUNK_SIZE = 1000;
+
+  private final OutboxEventRepository outboxEventRepository;
+
+  private final List<OutboxEventConsumer> consumers;
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final int batchSize;
+
+  private final int maxBatches;
+
+  private final int maxAttempts;
+
+  private final Duration retention;
+
+  private final Duration lockTimeout;
+
+  private final Duration retryBackoff;
+
+  private final Duration maxRetryBackoff;
+
+  private final AtomicLong parked = new AtomicLong();
+
+  private final Counter publishedCounter;
+
+  private final Counter failedCounter;
+
+  private final Timer relayTimer;
+
+  public OutboxRelay(
+      OutboxEventRepository outboxEventRepository,
+      List<OutboxEventConsumer> consumers,
+      RedisTemplate<String, String> stringRedisTemplate,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${outbox.relay.batch-size:200}") int batchSize,
+      @Value("${outbox.relay.max-batches:10}") int maxBatches,
+      @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+      @Value("${outbox.retention-hours:24}") long retentionHours,
+      @Value("${outbox.relay.lock-timeout-ms:10000}") long lockTimeoutMs,
+      @Value("${outbox.relay.retry-backoff-ms:1000}") long retryBackoffMs,
+      @Value("${outbox.relay.max-retry-backoff-ms:600000}") long maxRetryBackoffMs) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.consumers = consumers;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.maxBatches = maxBatches;
+    this.maxAttempts = maxAttempts;
+    this.retention = Duration.ofHours(retentionHours);
+    this.lockTimeout = Duration.ofMillis(lockTimeoutMs);
+    this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+    this.maxRetryBackoff = Duration.ofMillis(maxRetryBackoffMs);
+    this.publishedCounter = relayCounter(meterRegistry, "published");
+    this.failedCounter = relayCounter(meterRegistry, "failed");
+    this.relayTimer = Timer.builder("outbox.relay")
+        .description("아웃박스 이벤트 전달 1회 소요 시간")
+        .register(meterRegistry);
+    Gauge.builder("outbox.relay.parked", parked, AtomicLong::get)
+        .description("최대 횟수를 넘어 더 이상 전달하지 않는 아웃박스 이벤트 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 이벤트 전달 (가득 찬 묶음이면 최대 묶음 수까지 이어서 전달)
+   */
+  @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+  public void relay() {
+    String token = UUID.randomUUID().toString();
+    if (!Boolean.TRUE.equals(
+        stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lockTimeout))) {
+      return;
+    }
+
+    try {
+      relayTimer.record(() -> {
+        boolean more = true;
+        for (int i = 0; more && i < maxBatches; i++) {
+          more = relayBatch();
+        }
+      });
+    } catch (RuntimeException e) {
+      log.error("Failed to relay outbox events", e);
+    } finally {
+      stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+    }
+  }
+
+  /**
+   * 더 이상 전달하지 않는 이벤트 수 갱신
+   */
+  @Scheduled(fixedDelayString = "${outbox.relay.parked-check-interval-ms:60000}")
+  public void updateParkedCount() {
+    try {
+      parked.set(outboxEventRepository.countParked(maxAttempts));
+    } catch (RuntimeException e) {
+      log.warn("Failed to count parked outbox events", e);
+    }
+  }
+
+  /**
+   * 전달된 지 보관 기간이 지난 이벤트 삭제
+   */
+  @Scheduled(cron = "${outbox.cleanup-cron:0 30 * * * *}")
+  public void cleanup() {
+    LocalDateTime before = LocalDateTime.now().minus(retention);
+    try {
+      int deleted;
+      do {
+        deleted = transactionTemplate.execute(status ->
+            outboxEventRepository.deletePublishedBefore(before, DELETE_CHUNK_SIZE));
+      } while (deleted == DELETE_CHUNK_SIZE);
+    } catch (RuntimeException e) {
+      log.error("Failed to delete published outbox events", e);
+    }
+  }
+
+  /**
+   * 이벤트 한 묶음 전달
+   *
+   * @return 가득 찬 묶음을 모두 전달하여 남은 이벤트가 더 있을 수 있으면 true
+   */
+  boolean relayBatch() {
+    LocalDateTime now = LocalDateTime.now();
+    List<OutboxEvent> events = outboxEventRepository.findPending(maxAttempts, now,
+        PageRequest.of(0, batchSize));
+    if (events.isEmpty()) {
+      return false;
+    }
+
+    // 앞선 이벤트가 재시도를 기다리는 주문 / 배달의 이벤트는 그 이벤트가 전달된 뒤 순서대로 전달
+    Set<String> blocked = new HashSet<>();
+    for (OutboxEvent event : outboxEventRepository.findBackingOff(maxAttempts, now)) {
+      blocked.add(event.aggregateKey());
+    }
+
+    List<Long> published = new ArrayList<>(events.size());
+    List<OutboxEvent> failed = new ArrayList<>();
+    for (OutboxEvent event : events) {
+      if (blocked.contains(event.aggregateKey())) {
+        continue;
+      }
+      if (deliver(event)) {
+        published.add(event.getOutboxEventId());
+      } else {
+        failed.add(event);
+        blocked.add(event.aggregateKey());
+      }
+    }
+
+    transactionTemplate.executeWithoutResult(status -> {
+      if (!published.isEmpty()) {
+        outboxEventRepository.markPublished(published, LocalDateTime.now());
+      }
+      for (OutboxEvent event : failed) {
+        outboxEventRepository.scheduleRetry(event.getOutboxEventId(),
+            now.plus(retryDelay(event.getAttempts())));
+      }
+    });
+    publishedCounter.increment(published.size());
+    failedCounter.increment(failed.size());
+
+    return events.size() == batchSize && failed.isEmpty();
+  }
+
+  private boolean deliver(OutboxEvent event) {
+    for (OutboxEventConsumer consumer : consumers) {
+      if (!consumer.supports(event.getEventType())) {
+        continue;
+      }
+      try {
+        consumer.consume(event);
+      } catch (RuntimeException e) {
+        if (event.getAttempts() + 1 >= maxAttempts) {
+          log.error("Gave up relaying outbox event. outboxEventId : {}, eventType : {}",
+              event.getOutboxEventId(), event.getEventType(), e);
+        } else {
+          log.warn("Failed to relay outbox event. outboxEventId : {}, eventType : {}",
+              event.getOutboxEventId(), event.getEventType(), e);
+        }
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 재시도 간격 (실패할 때마다 두 배, 최대 간격까지)
+   *
+   * @param attempts 지금까지의 실패 횟수
+   */
+  Duration retryDelay(int attempts) {
+    if (attempts >= 30) {
+      return maxRetryBackoff;
+    }
+    Duration delay = retryBackoff.multipliedBy(1L << attempts);
+    return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+  }
+
+  private static Counter relayCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("outbox.relay.events")
+        .tag("result", result)
+        .description("전달 / 실패한 아웃박스 이벤트 수")
+        .register(meterRegistry);
+  }
+}
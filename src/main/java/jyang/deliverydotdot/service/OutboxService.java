@@ -0,0 +1,70 @@
+package jyang.deliverydotdot.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import jyang.deliverydotdot.domain.OutboxEvent;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.repository.OutboxEventRepository;
+import jyang.deliverydotdot.type.ErrorCode;
+import jyang.deliverydotdot.type.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트 기록 (트랜잭셔널 아웃박스)
+ * <p>
+ * 주문 / 배달 상태 변경과 같은 트랜잭션에서 이벤트를 저장하여, 커밋된 변경만 이벤트로 남고 커밋된 변경의 이벤트는 유실되지 않는다. Redis 위치
+ * 인덱스 / 재고 / 순위 / 알림 반영은 {@link OutboxRelay} 가 커밋 후 비동기로 전달하므로 요청 처리 시간에 더해지지 않는다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxService {
+
+  private final OutboxEventRepository outboxEventRepository;
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 이벤트 저장 (호출한 쪽의 트랜잭션에서 수행, insert 는 커밋 시 batch 로 수행된다)
+   *
+   * @param eventType   이벤트 종류
+   * @param aggregateId 주문 ID 또는 배달 ID
+   * @param payload     이벤트 내용 (JSON 으로 저장)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(OutboxEventType eventType, Long aggregateId, Object payload) {
+    String json;
+    try {
+      json = objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      log.error("Failed to serialize outbox event. eventType : {}, aggregateId : {}", eventType,
+          aggregateId, e);
+      throw new RestApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    outboxEventRepository.save(OutboxEvent.builder()
+        .eventType(eventType)
+        .aggregateId(aggregateId)
+        .payload(json)
+        .attempts(0)
+        .createdAt(LocalDateTime.now())
+        .build());
+  }
+
+  /**
+   * 이벤트 내용 읽기
+   */
+  public <T> T readPayload(OutboxEvent event, Class<T> type) {
+    try {
+      return objectMapper.readValue(event.getPayload(), type);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(
+          "Invalid outbox event payload. outboxEventId : " + event.getOutboxEventId(), e);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package jyang.deliverydotdot.service;
+
+import jyang.deliverydotdot.domain.OutboxEvent;
+import jyang.deliverydotdot.dto.order.OrderEventDTO.OrderPlacedEvent;
+import jyang.deliverydotdot.type.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 생성된 주문을 인기 메뉴 / 가게 순위에 반영 (주문마다 한 번만 반영)
+ * <p>
+ * 주문 생성 이벤트만 다루고 주문마다 한 번만 반영하므로, 같은 주문의 다른 이벤트와 전달 순서가 바뀌어도 결과가 같다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingEventConsumer implements OutboxEventConsumer {
+
+  private final RankingService rankingService;
+
+  private final OutboxService outboxService;
+
+  @Override
+  public boolean supports(OutboxEventType eventType) {
+    return eventType == OutboxEventType.ORDER_PLACED;
+  }
+
+  @Override
+  public void consume(OutboxEvent event) {
+    rankingService.orderPlaced(outboxService.readPayload(event, OrderPlacedEvent.class));
+  }
+}
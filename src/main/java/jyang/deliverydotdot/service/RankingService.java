@@ -0,0 +1,329 @@
+package jyang.deliverydotdot.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import jyang.deliverydotdot.domain.Menu;
+import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.dto.order.OrderEventDTO.OrderPlacedEvent;
+import jyang.deliverydotdot.dto.store.RankingDTO.PopularMenuResponse;
+import jyang.deliverydotdot.dto.store.RankingDTO.TrendingStoreResponse;
+import jyang.deliverydotdot.repository.MenuRepository;
+import jyang.deliverydotdot.repository.StoreRepository;
+import jyang.deliverydotdot.util.DeliveryZone;
+import jyang.deliverydotdot.util.GeoHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 인기 메뉴 / 주변 인기 가게 순위
+ * <p>
+ * 주문 생성 이벤트가 전달되면 가게별 메뉴 순위({ranking:menu:가게 ID})에 메뉴별 수량을, 가게 위치의 geohash 셀별 가게
+ * 순위({ranking:store:셀})에 주문 1건을 순위마다 스크립트 한 번으로 더한다. 반영 기록은 순위 키의 해시 태그를 그대로 가져 Redis Cluster
+ * 에서 순위와 같은 슬롯에 있으므로, 순위는 가게 / 셀마다 다른 슬롯으로 나뉘고 각 순위는 독립적으로 한 번만 반영된다. 매 시간 모든 순위의
+ * 점수에 감쇠 계수를 곱하여 최근 주문일수록 큰 비중을 갖도록 하고, 기준 점수 아래로 떨어진 항목과 최대 개수를 넘는 하위 항목은 제거한다. 조회는
+ * 상위 K개만 읽으므로 주문 항목 테이블을 집계하지 않는다.
+ */
+@Service
+@Slf4j
+public class RankingService {
+
+  private static final String MENU_RANKING = "menu";
+
+  private static final String STORE_RANKING = "store";
+
+  // 감쇠 대상 순위 키 목록 (순위 키와 다른 슬롯이므로 스크립트 밖에서 갱신)
+  private static final String RANKING_KEYS = "ranking:keys";
+
+  // 시간대별 감쇠 수행 여부 (여러 노드 중 한 노드만 수행)
+  private static final String DECAY_LOCK_PREFIX = "ranking:decayed:";
+
+  // 순위에 반영한 주문 (순위 키 + 접미사 + 주문 ID, 같은 이벤트가 다시 전달되어도 한 번만 반영)
+  private static final String COUNTED_SUFFIX = ":counted:";
+
+  private static final Duration COUNTED_TTL = Duration.ofDays(7);
+
+  // geohash 5자리 셀 (약 4.9km x 4.9km)
+  private static final int CELL_PRECISION = 5;
+
+  /*
+   * KEYS[1] : 반영 기록 키, KEYS[2] : 순위 키 (같은 슬롯)
+   * ARGV[1] : 기록 유지 시간(초), ARGV[2~] : 항목, 더할 점수 쌍
+   * 이미 반영한 주문이면 0, 아니면 항목별 점수를 더하고 1
+   */
+  private static final RedisScript<Long> RECORD_SCRIPT = RedisScript.of("""
+      if not redis.call('SET', KEYS[1], 1, 'NX', 'EX', ARGV[1]) then
+        return 0
+      end
+      for i = 2, #ARGV, 2 do
+        redis.call('ZINCRBY', KEYS[2], ARGV[i + 1], ARGV[i])
+      end
+      return 1
+      """, Long.class);
+
+  /*
+   * KEYS[1] : 순위 키, ARGV[1] : 감쇠 계수, ARGV[2] : 최소 점수, ARGV[3] : 최대 개수
+   * 점수에 감쇠 계수를 곱하고 최소 점수 미만 / 최대 개수 초과 항목을 제거한 뒤 남은 개수 (키가 없으면 0)
+   */
+  private static final RedisScript<Long> DECAY_SCRIPT = RedisScript.of("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return 0
+      end
+      redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', ARGV[1])
+      redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[2])
+      redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[3]) - 1)
+      return redis.call('ZCARD', KEYS[1])
+      """, Long.class);
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final StoreRepository storeRepository;
+
+  private final MenuRepository menuRepository;
+
+  private final double decayFactor;
+
+  private final double minScore;
+
+  private final long maxSize;
+
+  private final Timer decayTimer;
+
+  public RankingService(
+      RedisTemplate<String, String> stringRedisTemplate,
+      StoreRepository storeRepository,
+      MenuRepository menuRepository,
+      MeterRegistry meterRegistry,
+      @Value("${ranking.half-life-hours:24}") double halfLifeHours,
+      @Value("${ranking.min-score:0.01}") double minScore,
+      @Value("${ranking.max-size:1000}") long maxSize) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.storeRepository = storeRepository;
+    this.menuRepository = menuRepository;
+    this.decayFactor = Math.pow(0.5, 1 / halfLifeHours);
+    this.minScore = minScore;
+    this.maxSize = maxSize;
+    this.decayTimer = Timer.builder("ranking.decay")
+        .description("순위 점수 감쇠 소요 시간")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 주문 반영 (주문 생성 이벤트 전달 시)
+   * <p>
+   * 메뉴 순위와 가게 순위는 슬롯이 다르므로 따로 반영하고, 각각 주문마다 한 번만 반영하므로 같은 이벤트가 다시 전달되어도 점수가 늘지
+   * 않는다(앞의 반영만 성공하고 실패했으면 다시 전달될 때 남은 순위만 반영된다). 감쇠 대상 키 목록에는 반영한 뒤에 등록한다.
+   *
+   * @param event 주문 생성 이벤트
+   */
+  public void orderPlaced(OrderPlacedEvent event) {
+    String menuKey = rankingKey(MENU_RANKING, event.getStoreId().toString());
+    String storeKey = rankingKey(STORE_RANKING,
+        GeoHash.encode(event.getStoreLongitude(), event.getStoreLatitude(), CELL_PRECISION));
+
+    Map<String, String> menuScores = new LinkedHashMap<>();
+    event.getQuantities().forEach((menuId, quantity) ->
+        menuScores.put(menuId.toString(), quantity.toString()));
+
+    record(menuKey, event.getPurchaseOrderId(), menuScores);
+    record(storeKey, event.getPurchaseOrderId(), Map.of(event.getStoreId().toString(), "1"));
+    stringRedisTemplate.opsForSet().add(RANKING_KEYS, menuKey, storeKey);
+  }
+
+  /**
+   * 가게 인기 메뉴 조회
+   *
+   * @param storeId 가게 ID
+   * @param size    조회 개수
+   * @return 점수 내림차순 메뉴
+   */
+  public List<PopularMenuResponse> getPopularMenus(Long storeId, int size) {
+    Set<TypedTuple<String>> ranking = stringRedisTemplate.opsForZSet()
+        .reverseRangeWithScores(rankingKey(MENU_RANKING, storeId.toString()), 0, size - 1);
+    if (ranking == null || ranking.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, Double> scores = new LinkedHashMap<>();
+    ranking.forEach(tuple -> scores.put(Long.parseLong(tuple.getValue()), tuple.getScore()));
+    Map<Long, Menu> menus = menuRepository.findAllById(scores.keySet()).stream()
+        .collect(Collectors.toMap(Menu::getMenuId, Function.identity()));
+
+    List<PopularMenuResponse> result = new ArrayList<>(scores.size());
+    scores.forEach((menuId, score) -> {
+      Menu menu = menus.get(menuId);
+      // 삭제된 메뉴는 감쇠되어 사라질 때까지 건너뛴다
+      if (menu != null) {
+        result.add(PopularMenuResponse.builder()
+            .menuId(menuId)
+            .menuName(menu.getMenuName())
+            .price(menu.getPrice())
+            .score(score)
+            .build());
+      }
+    });
+    return result;
+  }
+
+  /**
+   * 주변 인기 가게 조회
+   * <p>
+   * 좌표 주변 셀마다 상위 가게를 읽어 합친 뒤 배달 가능한 가게만 반환한다.
+   *
+   * @param longitude 경도
+   * @param latitude  위도
+   * @param size      조회 개수
+   * @return 점수 내림차순 가게
+   */
+  public List<TrendingStoreResponse> getTrendingStores(double longitude, double latitude,
+      int size) {
+    Set<String> cells = GeoHash.coveringCells(longitude, latitude,
+        LocationService.DEFAULT_DELIVERY_RADIUS / 1000.0, CELL_PRECISION);
+
+    // 배달 불가 가게가 걸러질 수 있으므로 셀마다 여유 있게 읽는다
+    long perCell = size * 2L;
+    List<Object> cellRankings = stringRedisTemplate.executePipelined(
+        (RedisCallback<Object>) connection -> {
+          for (String cell : cells) {
+            connection.zSetCommands().zRevRangeWithScores(
+                rawKey(rankingKey(STORE_RANKING, cell)), 0, perCell - 1);
+          }
+          return null;
+        });
+
+    // 가게는 자기 위치의 셀 하나에만 있으므로 셀 간 중복이 없다
+    Map<Long, Double> scores = new HashMap<>();
+    for (Object cellRanking : cellRankings) {
+      if (cellRanking instanceof Set<?> tuples) {
+        for (Object tuple : tuples) {
+          TypedTuple<?> typedTuple = (TypedTuple<?>) tuple;
+          scores.put(Long.parseLong(String.valueOf(typedTuple.getValue())),
+              typedTuple.getScore());
+        }
+      }
+    }
+    if (scores.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> candidates = scores.entrySet().stream()
+        .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+        .limit(perCell)
+        .map(Map.Entry::getKey)
+        .toList();
+
+    Map<Long, Store> stores = storeRepository.findAllById(candidates).stream()
+        .collect(Collectors.toMap(Store::getStoreId, Function.identity()));
+
+    List<TrendingStoreResponse> result = new ArrayList<>(size);
+    for (Long storeId : candidates) {
+      Store store = stores.get(storeId);
+      if (store == null) {
+        continue;
+      }
+      int radius = store.getDeliveryRadius() != null
+          ? store.getDeliveryRadius() : LocationService.DEFAULT_DELIVERY_RADIUS;
+      DeliveryZone zone = DeliveryZone.of(store.getCoordinates().getX(),
+          store.getCoordinates().getY(), radius);
+      if (!zone.contains(longitude, latitude)) {
+        continue;
+      }
+      result.add(TrendingStoreResponse.builder()
+          .storeId(storeId)
+          .storeName(store.getStoreName())
+          .storeCategoryId(store.getStoreCategory() != null
+              ? store.getStoreCategory().getStoreCategoryId() : null)
+          .averageRating(store.getAverageRating())
+          .distance(zone.distanceMeters(longitude, latitude))
+          .score(scores.get(storeId))
+          .build());
+      if (result.size() == size) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 순위 점수 감쇠
+   * <p>
+   * 시간마다 한 노드만 수행하며, 키마다 스크립트 한 번으로 감쇠와 정리를 처리한다. 비어서 키 목록에서 뺀 순위에 그 사이 주문이 반영되었으면
+   * 다시 등록한다.
+   */
+  @Scheduled(cron = "0 0 * * * *")
+  public void decay() {
+    String lock = DECAY_LOCK_PREFIX + Instant.now().getEpochSecond() / 3600;
+    Boolean acquired = stringRedisTemplate.opsForValue()
+        .setIfAbsent(lock, "1", Duration.ofHours(2));
+    if (!Boolean.TRUE.equals(acquired)) {
+      return;
+    }
+
+    List<String> keys = new ArrayList<>();
+    try (Cursor<String> cursor = stringRedisTemplate.opsForSet()
+        .scan(RANKING_KEYS, ScanOptions.scanOptions().count(500).build())) {
+      cursor.forEachRemaining(keys::add);
+    } catch (RuntimeException e) {
+      log.error("Failed to scan ranking keys", e);
+      return;
+    }
+
+    decayTimer.record(() -> {
+      for (String key : keys) {
+        try {
+          Long size = stringRedisTemplate.execute(DECAY_SCRIPT, List.of(key),
+              Double.toString(decayFactor), Double.toString(minScore), Long.toString(maxSize));
+          if (size != null && size == 0) {
+            stringRedisTemplate.opsForSet().remove(RANKING_KEYS, key);
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+              stringRedisTemplate.opsForSet().add(RANKING_KEYS, key);
+            }
+          }
+        } catch (RuntimeException e) {
+          log.error("Failed to decay ranking. key : {}", key, e);
+        }
+      }
+    });
+    log.info("Rankings decayed. keys : {}", keys.size());
+  }
+
+  /**
+   * 순위 키 (순위마다 자기 해시 태그를 가진다)
+   */
+  private static String rankingKey(String type, String id) {
+    return "{ranking:" + type + ":" + id + "}";
+  }
+
+  private void record(String rankingKey, Long purchaseOrderId, Map<String, String> scores) {
+    List<String> args = new ArrayList<>(scores.size() * 2 + 1);
+    args.add(String.valueOf(COUNTED_TTL.getSeconds()));
+    scores.forEach((member, score) -> {
+      args.add(member);
+      args.add(score);
+    });
+    stringRedisTemplate.execute(RECORD_SCRIPT,
+        List.of(rankingKey + COUNTED_SUFFIX + purchaseOrderId, rankingKey), args.toArray());
+  }
+
+  private static byte[] rawKey(String key) {
+    return key.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -1,75 +1,504 @@
 package jyang.deliverydotdot.service;
 
+import static jyang.deliverydotdot.dto.location.LocationEventDTO.ORDER_LOCATION_CHANNEL;
+import static jyang.deliverydotdot.dto.location.LocationEventDTO.RIDER_LOCATION_CHANNEL;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.function.Function;
+import jyang.deliverydotdot.dto.location.LocationEventDTO.OrderLocationEvent;
+import jyang.deliverydotdot.dto.location.LocationEventDTO.RiderLocationEvent;
+import jyang.deliverydotdot.dto.location.LocationEventDTO.RiderLocationEvents;
 import jyang.deliverydotdot.dto.order.OrderDTO.RiderDeliverableOrders;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.type.ErrorCode;
+import jyang.deliverydotdot.type.LocationEventType;
+import jyang.deliverydotdot.util.GeoHash;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Metrics;
 import org.springframework.data.geo.Point;
-import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
 import org.springframework.data.redis.connection.RedisGeoCommands.GeoRadiusCommandArgs;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 주문 / 라이더 위치 GEO 인덱스
+ * <p>
+ * 위치는 geohash 셀마다 따로 해시 태그를 가진 키({orderLocation:{cell}}, {riderLocation:{cell}})에 저장되어 Redis Cluster 에서
+ * 셀 단위로 슬롯이 나뉜다. 멤버별 현재 좌표와 셀은 멤버마다 해시 태그를 가진 키({orderLocation:member:{id}})에 "경도,위도,셀" 형태로
+ * 보관한다. 반경 조회는 반경을 덮는 셀들에만 파이프라인으로 질의한 뒤 결과를 병합한다.
+ * <p>
+ * 위치 갱신은 멤버 키의 좌표 / 셀 교체(Lua, 멤버 슬롯), 새 셀에 GEOADD, 셀이 바뀌었으면 이전 셀에서 ZREM 으로 나누어 수행하므로 한
+ * 스크립트가 여러 슬롯에 걸치지 않는다. 같은 멤버의 갱신이 동시에 일어나면 셀에 이전 항목이 남거나 현재 항목이 빠질 수 있으므로, 반경 조회
+ * 결과는 멤버 키에 기록된 셀과 대조하여 맞지 않는 항목을 버리고(셀에서도 제거) 빠진 항목은 멤버의 다음 갱신 때 다시 추가된다. 라이더 멤버
+ * 키는 유지 시간이 있어, 위치 갱신이 끊긴 라이더는 키가 만료되면서 조회 결과에서 빠진다.
+ * <p>
+ * 주문 위치 등록 / 삭제와 라이더 위치 일괄 반영은 Redis pub/sub 채널로 발행되어 모든 노드가 구독할 수 있다. 주문 반경 조회는
+ * 노드 로컬 인덱스({@link OrderLocationIndex})가 적재된 뒤에는 로컬에서 처리하고, 그 전에는 Redis 에 질의한다.
+ */
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class RedisService {
 
   private final RedisTemplate<String, String> stringRedisTemplate;
 
+  private final ObjectMapper objectMapper;
+
+  private final OrderLocationIndex orderLocationIndex;
+
+  private final MeterRegistry meterRegistry;
+
   private static final int RADIUS = 5;
 
+  private static final int NEARBY_ORDER_LIMIT = 20;
+
+  // geohash 5자리 셀 (약 4.9km x 4.9km)
+  private static final int CELL_PRECISION = 5;
+
+  private static final String ORDER_LOCATION = "orderLocation";
+
+  private static final String RIDER_LOCATION = "riderLocation";
+
+  private static final Duration ORDER_CLAIM_TTL = Duration.ofMinutes(1);
+
+  // 이 시간 동안 위치를 보내지 않은 라이더는 오프라인으로 보고 멤버 키를 만료시킨다
+  private static final Duration RIDER_LOCATION_TTL = Duration.ofMinutes(5);
+
+  private static final String CLAIM_CONTENDED = "CONTENDED";
+
+  private static final String CLAIM_NOT_INDEXED = "NOT_INDEXED";
+
+  /*
+   * KEYS[1] : 멤버 키, KEYS[2] : 선점 키 (멤버 키와 같은 슬롯)
+   * ARGV[1] : 라이더 ID, ARGV[2] : 선점 유지 시간(ms)
+   * 이미 선점된 주문이면 CONTENDED, 멤버 키가 없으면 선점만 기록하고 NOT_INDEXED, 그 외에는 멤버 키를 지우고 "경도,위도,셀" 반환
+   */
+  private static final RedisScript<String> CLAIM_ORDER_SCRIPT = RedisScript.of("""
+      if redis.call('EXISTS', KEYS[2]) == 1 then
+        return 'CONTENDED'
+      end
+      redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+      local position = redis.call('GET', KEYS[1])
+      if not position then
+        return 'NOT_INDEXED'
+      end
+      redis.call('DEL', KEYS[1])
+      return position
+      """, String.class);
+
+  /*
+   * KEYS[1] : 멤버 키, KEYS[2] : (선택) 선점 키 (멤버 키와 같은 슬롯)
+   * ARGV[1] : "경도,위도,셀", ARGV[2] : 유지 시간(ms), 0 이면 만료 없음
+   * 선점 키가 있으면 nil, 그 외에는 멤버 키를 교체하고 이전 셀 반환 (없었으면 빈 문자열)
+   */
+  private static final byte[] MOVE_SCRIPT = """
+      if KEYS[2] and redis.call('EXISTS', KEYS[2]) == 1 then
+        return false
+      end
+      local previous = redis.call('GET', KEYS[1])
+      if tonumber(ARGV[2]) > 0 then
+        redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+      else
+        redis.call('SET', KEYS[1], ARGV[1])
+      end
+      if previous then
+        return string.match(previous, '[^,]*$')
+      end
+      return ''
+      """.getBytes(StandardCharsets.UTF_8);
+
   @Transactional
   public void addOrUpdateRiderLocation(Long riderId, double longitude, double latitude) {
-    stringRedisTemplate.opsForGeo()
-        .add("riderLocation", new Point(longitude, latitude), riderId.toString());
+    moveLocations(RIDER_LOCATION, Map.of(riderId.toString(), new Point(longitude, latitude)),
+        RIDER_LOCATION_TTL, null);
+  }
+
+  /**
+   * 라이더 위치 일괄 저장 (멤버 키 교체 / 셀 갱신을 각각 한 번의 파이프라인으로 처리)
+   *
+   * @param locations 라이더 ID 별 최신 위치
+   */
+  public void addOrUpdateRiderLocations(Map<Long, Point> locations) {
+    Map<String, Point> members = new LinkedHashMap<>();
+    locations.forEach((riderId, point) -> members.put(riderId.toString(), point));
+    moveLocations(RIDER_LOCATION, members, RIDER_LOCATION_TTL, null);
+
+    publish(RIDER_LOCATION_CHANNEL, RiderLocationEvents.builder()
+        .locations(locations.entrySet().stream()
+            .map(entry -> RiderLocationEvent.builder()
+                .riderId(entry.getKey())
+                .longitude(entry.getValue().getX())
+                .latitude(entry.getValue().getY())
+                .build())
+            .toList())
+        .build());
   }
 
+  /**
+   * 배달 대기 주문 위치 저장
+   * <p>
+   * 라이더가 선점 중인 주문은 이벤트가 다시 전달되더라도 인덱스에 되살리지 않는다.
+   *
+   * @param orderId   주문 ID
+   * @param longitude 경도
+   * @param latitude  위도
+   * @return 저장했으면 true, 선점 중이라 건너뛰었으면 false
+   */
   @Transactional
-  public void addOrUpdateOrderLocation(Long orderId, double longitude, double latitude) {
-    stringRedisTemplate.opsForGeo()
-        .add("orderLocation", new Point(longitude, latitude), orderId.toString());
+  public boolean addOrUpdateOrderLocation(Long orderId, double longitude, double latitude) {
+    if (moveLocations(ORDER_LOCATION, Map.of(orderId.toString(), new Point(longitude, latitude)),
+        null, member -> claimKey(orderId)) == 0) {
+      return false;
+    }
+    orderLocationIndex.put(orderId, longitude, latitude);
+
+    publish(ORDER_LOCATION_CHANNEL, OrderLocationEvent.builder()
+        .type(LocationEventType.ADDED)
+        .orderId(orderId)
+        .longitude(longitude)
+        .latitude(latitude)
+        .build());
+    return true;
   }
 
   @Transactional
   public void deleteRiderLocation(Long riderId) {
-    stringRedisTemplate.opsForGeo().remove("riderLocation", riderId.toString());
+    deleteLocation(RIDER_LOCATION, riderId.toString());
   }
 
   @Transactional
   public void deleteOrderLocation(Long orderId) {
-    stringRedisTemplate.opsForGeo().remove("orderLocation", orderId.toString());
+    deleteLocation(ORDER_LOCATION, orderId.toString());
+    onOrderLocationRemoved(orderId);
+  }
+
+  /**
+   * 주문 선점
+   * <p>
+   * 선점 키 기록과 멤버 키 삭제를 하나의 Lua 스크립트로 처리하여, 동시에 선점을 시도한 라이더 중 한 명만 성공한다. 선점 키는 멤버 키와
+   * 같은 해시 태그를 가져 Redis Cluster 에서 같은 슬롯에 있으며, 셀에서의 제거는 스크립트 뒤에 셀 슬롯에서 따로 수행한다.
+   *
+   * @param orderId 주문 ID
+   * @param riderId 라이더 ID
+   * @return 선점 전 주문 좌표, 인덱스에 없던 주문이면 null
+   * @throws RestApiException 다른 라이더가 이미 선점한 경우
+   */
+  public Point claimOrder(Long orderId, Long riderId) {
+    String result = stringRedisTemplate.execute(CLAIM_ORDER_SCRIPT,
+        List.of(memberKey(ORDER_LOCATION, orderId.toString()), claimKey(orderId)),
+        riderId.toString(), String.valueOf(ORDER_CLAIM_TTL.toMillis()));
+
+    if (CLAIM_CONTENDED.equals(result)) {
+      meterRegistry.counter("order.claim", "result", "contended").increment();
+      throw new RestApiException(ErrorCode.ALREADY_EXIST_DELIVERY);
+    }
+    if (CLAIM_NOT_INDEXED.equals(result)) {
+      meterRegistry.counter("order.claim", "result", "not_indexed").increment();
+      return null;
+    }
+    meterRegistry.counter("order.claim", "result", "claimed").increment();
+
+    stringRedisTemplate.opsForZSet().remove(cellKey(ORDER_LOCATION, cellOf(result)),
+        orderId.toString());
+    onOrderLocationRemoved(orderId);
+    return parsePosition(result);
+  }
+
+  /**
+   * 주문 선점 해제 (배달 저장 실패 시)
+   *
+   * @param orderId  주문 ID
+   * @param position 선점 전 주문 좌표, 있으면 다시 등록
+   */
+  public void releaseOrderClaim(Long orderId, Point position) {
+    stringRedisTemplate.delete(claimKey(orderId));
+    if (position != null) {
+      addOrUpdateOrderLocation(orderId, position.getX(), position.getY());
+    }
+  }
+
+  /**
+   * 라이더의 현재 위치 조회
+   *
+   * @param riderId 라이더 ID
+   * @return 라이더 위치, 없으면 null
+   */
+  public Point getRiderLocation(Long riderId) {
+    return parsePosition(
+        stringRedisTemplate.opsForValue().get(memberKey(RIDER_LOCATION, riderId.toString())));
   }
 
   @Transactional
   public List<RiderDeliverableOrders> getOrdersNearby(Long riderId) {
-    GeoRadiusCommandArgs args =
-        GeoRadiusCommandArgs.
-            newGeoRadiusArgs().includeCoordinates().includeDistance();
-
-    Point riderLocation = Objects.requireNonNull(stringRedisTemplate.opsForGeo()
-        .position("riderLocation", riderId.toString())).get(0);
+    Point riderLocation = getRiderLocation(riderId);
 
     if (riderLocation == null) {
       return List.of();
     }
 
-    Distance radius = new Distance(RADIUS, Metrics.KILOMETERS);
-    Circle within = new Circle(riderLocation, radius);
+    return getOrdersNearby(riderLocation);
+  }
 
-    int count = 20;
-    GeoResults<RedisGeoCommands.GeoLocation<String>> geoResults = stringRedisTemplate.opsForGeo()
-        .radius("orderLocation", within, RedisGeoCommands.GeoRadiusCommandArgs.newGeoRadiusArgs()
-            .includeDistance().includeCoordinates().sortAscending().limit(count));
+  /**
+   * 좌표 기준 배달 가능 주문 조회
+   *
+   * @param location 좌표
+   * @return 반경 내 주문 목록 (거리순, 최대 20개)
+   */
+  public List<RiderDeliverableOrders> getOrdersNearby(Point location) {
+    return getOrdersNearby(location, NEARBY_ORDER_LIMIT);
+  }
 
-    if (geoResults == null) {
-      return List.of();
+  public List<RiderDeliverableOrders> getOrdersNearby(Point location, int limit) {
+    if (orderLocationIndex.isReady()) {
+      return orderLocationIndex.search(location, RADIUS, limit);
+    }
+    return RiderDeliverableOrders.fromGeoResults(
+        searchNearby(ORDER_LOCATION, location, RADIUS, limit));
+  }
+
+  /**
+   * 좌표 기준 반경 내 라이더 조회
+   *
+   * @param location 좌표
+   * @param radiusKm 반경(km)
+   * @param limit    최대 개수
+   * @return 거리순 라이더 목록 (멤버 이름은 라이더 ID)
+   */
+  public GeoResults<GeoLocation<String>> getRidersNearby(Point location, double radiusKm,
+      int limit) {
+    return searchNearby(RIDER_LOCATION, location, radiusKm, limit);
+  }
+
+  /**
+   * 반경 내 멤버 조회
+   * <p>
+   * 반경을 덮는 셀 키마다 GEORADIUS 를 한 번의 파이프라인으로 실행하고, 멤버 키에 기록된 셀과 맞는 결과만 거리순으로 병합하여 limit 개를
+   * 반환한다. 셀에 남은 이전 항목(동시 갱신, 만료된 라이더)은 결과에서 빼고 셀에서도 제거한다.
+   *
+   * @param index    인덱스 이름 (orderLocation / riderLocation)
+   * @param center   중심 좌표
+   * @param radiusKm 반경(km)
+   * @param limit    최대 개수
+   * @return 거리순 결과
+   */
+  public GeoResults<GeoLocation<String>> searchNearby(String index, Point center,
+      double radiusKm, int limit) {
+    List<String> cells = new ArrayList<>(
+        GeoHash.coveringCells(center.getX(), center.getY(), radiusKm, CELL_PRECISION));
+
+    Circle within = new Circle(center, new Distance(radiusKm, Metrics.KILOMETERS));
+    GeoRadiusCommandArgs args = GeoRadiusCommandArgs.newGeoRadiusArgs()
+        .includeDistance().includeCoordinates().sortAscending().limit(limit);
+
+    List<Object> cellResults = stringRedisTemplate.executePipelined(
+        (RedisCallback<Object>) connection -> {
+          for (String cell : cells) {
+            connection.geoCommands().geoRadius(rawKey(cellKey(index, cell)), within, args);
+          }
+          return null;
+        });
+
+    // 후보와 후보를 찾은 셀
+    List<GeoResult<GeoLocation<String>>> candidates = new ArrayList<>();
+    List<String> foundIn = new ArrayList<>();
+    for (int i = 0; i < cellResults.size(); i++) {
+      if (cellResults.get(i) instanceof GeoResults<?> geoResults) {
+        for (GeoResult<?> geoResult : geoResults) {
+          GeoLocation<?> location = (GeoLocation<?>) geoResult.getContent();
+          candidates.add(new GeoResult<>(
+              new GeoLocation<>(memberName(location.getName()), location.getPoint()),
+              geoResult.getDistance()));
+          foundIn.add(cells.get(i));
+        }
+      }
     }
+    if (candidates.isEmpty()) {
+      return new GeoResults<>(candidates, Metrics.KILOMETERS);
+    }
+
+    List<String> positions = stringRedisTemplate.opsForValue().multiGet(candidates.stream()
+        .map(candidate -> memberKey(index, candidate.getContent().getName()))
+        .toList());
+    List<GeoResult<GeoLocation<String>>> merged = new ArrayList<>();
+    Map<String, List<String>> stale = new LinkedHashMap<>();
+    for (int i = 0; i < candidates.size(); i++) {
+      String position = positions == null ? null : positions.get(i);
+      String member = candidates.get(i).getContent().getName();
+      if (position != null && cellOf(position).equals(foundIn.get(i))) {
+        merged.add(candidates.get(i));
+      } else {
+        stale.computeIfAbsent(foundIn.get(i), cell -> new ArrayList<>()).add(member);
+      }
+    }
+    removeStale(index, stale);
+
+    merged.sort(Comparator.comparingDouble(result -> result.getDistance().getValue()));
+
+    return new GeoResults<>(merged.subList(0, Math.min(limit, merged.size())),
+        Metrics.KILOMETERS);
+  }
+
+  /**
+   * 위치 저장
+   * <p>
+   * 멤버마다 멤버 키의 좌표 / 셀을 교체하고(멤버 슬롯), 새 셀에 추가한 뒤 셀이 바뀐 경우 이전 셀에서 제거한다(셀 슬롯). 교체와 셀 갱신은
+   * 각각 한 번의 파이프라인으로 보낸다.
+   *
+   * @param ttl      멤버 키 유지 시간, null 이면 만료 없음
+   * @param claimKey 멤버별 선점 키, 선점 중이면 건너뜀 (null 이면 확인하지 않음)
+   * @return 저장한 멤버 수
+   */
+  private int moveLocations(String index, Map<String, Point> members, Duration ttl,
+      Function<String, String> claimKey) {
+    if (members.isEmpty()) {
+      return 0;
+    }
+
+    List<Map.Entry<String, Point>> entries = new ArrayList<>(members.entrySet());
+    List<String> cells = entries.stream()
+        .map(entry -> GeoHash.encode(entry.getValue().getX(), entry.getValue().getY(),
+            CELL_PRECISION))
+        .toList();
+    byte[] ttlMs = rawKey(Long.toString(ttl == null ? 0 : ttl.toMillis()));
+
+    List<Object> previousCells = stringRedisTemplate.executePipelined(
+        (RedisCallback<Object>) connection -> {
+          for (int i = 0; i < entries.size(); i++) {
+            String member = entries.get(i).getKey();
+            Point point = entries.get(i).getValue();
+            byte[] position = rawKey(point.getX() + "," + point.getY() + "," + cells.get(i));
+            if (claimKey == null) {
+              connection.scriptingCommands().eval(MOVE_SCRIPT, ReturnType.VALUE, 1,
+                  rawKey(memberKey(index, member)), position, ttlMs);
+            } else {
+              connection.scriptingCommands().eval(MOVE_SCRIPT, ReturnType.VALUE, 2,
+                  rawKey(memberKey(index, member)), rawKey(claimKey.apply(member)), position,
+                  ttlMs);
+            }
+          }
+          return null;
+        });
+
+    List<Integer> moved = new ArrayList<>(entries.size());
+    for (int i = 0; i < entries.size(); i++) {
+      // nil : 선점 중인 멤버
+      if (previousCells.get(i) != null) {
+        moved.add(i);
+      }
+    }
+    if (moved.isEmpty()) {
+      return 0;
+    }
+
+    stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      for (int i : moved) {
+        byte[] member = rawKey(entries.get(i).getKey());
+        connection.geoCommands().geoAdd(rawKey(cellKey(index, cells.get(i))),
+            entries.get(i).getValue(), member);
+        String previous = String.valueOf(previousCells.get(i));
+        if (!previous.isEmpty() && !previous.equals(cells.get(i))) {
+          connection.zSetCommands().zRem(rawKey(cellKey(index, previous)), member);
+        }
+      }
+      return null;
+    });
+    return moved.size();
+  }
+
+  private void deleteLocation(String index, String member) {
+    String position = stringRedisTemplate.opsForValue().getAndDelete(memberKey(index, member));
+    if (position != null) {
+      stringRedisTemplate.opsForZSet().remove(cellKey(index, cellOf(position)), member);
+    }
+  }
+
+  private void removeStale(String index, Map<String, List<String>> stale) {
+    if (stale.isEmpty()) {
+      return;
+    }
+    try {
+      stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        stale.forEach((cell, members) -> connection.zSetCommands().zRem(
+            rawKey(cellKey(index, cell)),
+            members.stream().map(RedisService::rawKey).toArray(byte[][]::new)));
+        return null;
+      });
+    } catch (RuntimeException e) {
+      log.warn("Failed to remove stale location entries. index : {}", index, e);
+    }
+  }
+
+  private void onOrderLocationRemoved(Long orderId) {
+    orderLocationIndex.remove(orderId);
+
+    publish(ORDER_LOCATION_CHANNEL, OrderLocationEvent.builder()
+        .type(LocationEventType.REMOVED)
+        .orderId(orderId)
+        .build());
+  }
+
+  private void publish(String channel, Object event) {
+    try {
+      stringRedisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(event));
+    } catch (JsonProcessingException e) {
+      log.error("Failed to serialize location event. channel : {}", channel, e);
+    }
+  }
+
+  // 셀마다 해시 태그를 두어 셀 단위로 슬롯을 나눈다
+  private static String cellKey(String index, String cell) {
+    return "{" + index + ":" + cell + "}";
+  }
+
+  private static String memberKey(String index, String member) {
+    return "{" + index + ":member:" + member + "}";
+  }
+
+  // 멤버 키와 같은 해시 태그
+  private static String claimKey(Long orderId) {
+    return memberKey(ORDER_LOCATION, orderId.toString()) + ":claim";
+  }
+
+  private static byte[] rawKey(String key) {
+    return key.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String memberName(Object name) {
+    return name instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8)
+        : String.valueOf(name);
+  }
+
+  // "경도,위도,셀" 에서 좌표
+  private static Point parsePosition(String position) {
+    if (position == null) {
+      return null;
+    }
+    String[] parts = position.split(",");
+    return new Point(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]));
+  }
 
-    return RiderDeliverableOrders.fromGeoResults(Objects.requireNonNull(geoResults));
+  // "경도,위도,셀" 에서 셀
+  private static String cellOf(String position) {
+    return position.substring(position.lastIndexOf(',') + 1);
   }
 }
@@ -32,6 +32,8 @@ public class ReviewService {
 
   private final StoreService storeService;
 
+  private final StoreRatingAggregator storeRatingAggregator;
+
   @Transactional
   public void createReview(User user, Long orderId, ReviewDTO reviewDTO) {
     PurchaseOrder order = orderService.getOrderById(orderId);
@@ -51,6 +53,8 @@ public class ReviewService {
 
     reviewRepository.save(review);
 
+    storeRatingAggregator.reviewAdded(order.getStore().getStoreId(), review.getRating());
+
     uploadAndSaveReviewImages(review, reviewDTO.getReviewImage1(), reviewDTO.getReviewImage2(),
         reviewDTO.getReviewImage3());
   }
@@ -130,6 +134,8 @@ public class ReviewService {
     reviewImages.forEach(reviewImage -> s3Service.delete(reviewImage.getImageUrl()));
 
     reviewRepository.delete(review);
+
+    storeRatingAggregator.reviewRemoved(order.getStore().getStoreId(), review.getRating());
   }
 
   @Transactional
@@ -151,6 +157,8 @@ public class ReviewService {
     reviewImages.forEach(reviewImage -> s3Service.delete(reviewImage.getImageUrl()));
 
     reviewRepository.delete(review);
+
+    storeRatingAggregator.reviewRemoved(order.getStore().getStoreId(), review.getRating());
   }
 
   @Transactional
@@ -164,6 +172,8 @@ public class ReviewService {
       throw new RestApiException(ErrorCode.INVALID_REQUEST);
     }
 
+    validateReview(reviewDTO);
+
     List<ReviewImage> reviewImages = reviewImageRepository.findByReviewOrderByImageOrderDesc(
         review);
 
@@ -173,7 +183,10 @@ public class ReviewService {
 
     reviewImageRepository.deleteAll(reviewImages);
 
+    double previousRating = review.getRating();
     review.update(reviewDTO);
+    storeRatingAggregator.reviewUpdated(order.getStore().getStoreId(), previousRating,
+        review.getRating());
 
     uploadAndSaveReviewImages(review, reviewDTO.getReviewImage1(), reviewDTO.getReviewImage2(),
         reviewDTO.getReviewImage3());
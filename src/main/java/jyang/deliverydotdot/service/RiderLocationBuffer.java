@@ -0,0 +1,123 @@
+package jyang.deliverydotdot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jyang.deliverydotdot.util.TrackCodec.TrackPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.geo.Point;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 라이더 위치 수집 버퍼
+ * <p>
+ * 요청마다 Redis 에 쓰지 않고 모아 두었다가 주기마다 한 번의 파이프라인으로 반영한다. 위치 인덱스에는 라이더별 최신 위치만 반영하고,
+ * 이동 경로에는 수신한 위치를 측정 시각과 함께 모두 기록한다(배달 중인 라이더만).
+ */
+@Component
+@Slf4j
+public class RiderLocationBuffer {
+
+  private final RedisService redisService;
+
+  private final RiderTrackService riderTrackService;
+
+  private final Counter receivedCounter;
+
+  private final Counter flushedCounter;
+
+  private final Timer flushTimer;
+
+  // 라이더 ID -> 최신 위치 (위치 인덱스용)
+  private final Map<Long, Point> pending = new ConcurrentHashMap<>();
+
+  // 라이더 ID -> 수신한 위치 전체 (이동 경로용)
+  private final Map<Long, List<TrackPoint>> pendingTracks = new ConcurrentHashMap<>();
+
+  public RiderLocationBuffer(RedisService redisService, RiderTrackService riderTrackService,
+      MeterRegistry meterRegistry) {
+    this.redisService = redisService;
+    this.riderTrackService = riderTrackService;
+    this.receivedCounter = Counter.builder("rider.location.received")
+        .description("수신한 라이더 위치 수")
+        .register(meterRegistry);
+    this.flushedCounter = Counter.builder("rider.location.flushed")
+        .description("Redis 에 반영한 라이더 위치 수 (received / flushed = 병합 비율)")
+        .register(meterRegistry);
+    this.flushTimer = Timer.builder("rider.location.flush")
+        .description("라이더 위치 반영 소요 시간")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 라이더 위치 기록
+   *
+   * @param riderId   라이더 ID
+   * @param longitude 경도
+   * @param latitude  위도
+   * @param timestamp 측정 시각 (epoch ms)
+   */
+  public void record(Long riderId, double longitude, double latitude, long timestamp) {
+    pending.put(riderId, new Point(longitude, latitude));
+    pendingTracks.compute(riderId, (id, points) -> {
+      List<TrackPoint> track = points == null ? new ArrayList<>() : points;
+      track.add(new TrackPoint(timestamp, longitude, latitude));
+      return track;
+    });
+    receivedCounter.increment();
+  }
+
+  /**
+   * 버퍼에 쌓인 위치를 Redis 에 반영
+   */
+  @Scheduled(fixedDelayString = "${rider.location.flush-interval-ms:1000}")
+  public void flush() {
+    if (!pending.isEmpty()) {
+      flushLocations();
+    }
+    if (!pendingTracks.isEmpty()) {
+      flushTracks();
+    }
+  }
+
+  private void flushLocations() {
+    // 반영 중 들어온 위치는 다음 주기에 반영되도록 키 단위로 꺼낸다
+    Map<Long, Point> batch = new HashMap<>();
+    for (Long riderId : pending.keySet()) {
+      Point point = pending.remove(riderId);
+      if (point != null) {
+        batch.put(riderId, point);
+      }
+    }
+
+    try {
+      flushTimer.record(() -> redisService.addOrUpdateRiderLocations(batch));
+      flushedCounter.increment(batch.size());
+    } catch (RuntimeException e) {
+      log.error("Failed to flush rider locations. size : {}", batch.size(), e);
+      batch.forEach(pending::putIfAbsent);
+    }
+  }
+
+  private void flushTracks() {
+    Map<Long, List<TrackPoint>> batch = new HashMap<>();
+    for (Long riderId : pendingTracks.keySet()) {
+      List<TrackPoint> points = pendingTracks.remove(riderId);
+      if (points != null) {
+        batch.put(riderId, points);
+      }
+    }
+
+    try {
+      riderTrackService.append(batch);
+    } catch (RuntimeException e) {
+      log.error("Failed to append rider tracks. size : {}", batch.size(), e);
+    }
+  }
+}
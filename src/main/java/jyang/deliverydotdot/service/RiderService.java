@@ -15,6 +15,7 @@ import jyang.deliverydotdot.dto.rider.RiderInfo;
 import jyang.deliverydotdot.dto.rider.RiderJoinForm;
 import jyang.deliverydotdot.dto.rider.RiderUpdateForm;
 import jyang.deliverydotdot.dto.rider.RiderUpdateForm.UpdateCurrentLocation;
+import jyang.deliverydotdot.dto.rider.RiderUpdateForm.UpdateCurrentLocations;
 import jyang.deliverydotdot.exception.RestApiException;
 import jyang.deliverydotdot.repository.RiderRepository;
 import jyang.deliverydotdot.type.DeliveryMethod;
@@ -36,6 +37,8 @@ public class RiderService {
 
   private final RedisService redisService;
 
+  private final RiderLocationBuffer riderLocationBuffer;
+
   /**
    * 라이더 등록
    *
@@ -181,21 +184,67 @@ public class RiderService {
         .orElseThrow(() -> new RestApiException(INVALID_DELIVERY_METHOD));
   }
 
-  @Transactional
-  public void updateRiderLocation(Rider rider, UpdateCurrentLocation updateForm) {
-    if (updateForm.getLatitude() < -90 || updateForm.getLatitude() > 90) {
-      throw new RestApiException(INVALID_LOCATION);
+  /**
+   * 라이더 위치 업데이트
+   *
+   * @param riderId    라이더 ID
+   * @param updateForm 위치 정보
+   */
+  public void updateRiderLocation(Long riderId, UpdateCurrentLocation updateForm) {
+    validateLocation(updateForm);
+
+    riderLocationBuffer.record(riderId, updateForm.getLongitude(), updateForm.getLatitude(),
+        timestampOf(updateForm, System.currentTimeMillis()));
+  }
+
+  /**
+   * 라이더 위치 일괄 업데이트
+   *
+   * @param riderId    라이더 ID
+   * @param updateForm 시간 순 위치 목록
+   */
+  public void updateRiderLocations(Long riderId, UpdateCurrentLocations updateForm) {
+    updateForm.getLocations().forEach(this::validateLocation);
+
+    long receivedAt = System.currentTimeMillis();
+    for (UpdateCurrentLocation location : updateForm.getLocations()) {
+      riderLocationBuffer.record(riderId, location.getLongitude(), location.getLatitude(),
+          timestampOf(location, receivedAt));
     }
+  }
 
-    if (updateForm.getLongitude() < -180 || updateForm.getLongitude() > 180) {
+  /**
+   * 라이더 ID 조회
+   *
+   * @param loginId 라이더 아이디
+   * @return 라이더 ID
+   */
+  public Long getRiderIdByLoginId(String loginId) {
+    return getRiderByLoginId(loginId).getRiderId();
+  }
+
+  public List<RiderDeliverableOrders> getDeliverableOrders(Long riderId) {
+    return redisService.getOrdersNearby(riderId);
+  }
+
+  /**
+   * 위치 정보 유효성 검사
+   *
+   * @param location 위치 정보
+   */
+  private void validateLocation(UpdateCurrentLocation location) {
+    if (location.getLatitude() < -90 || location.getLatitude() > 90) {
       throw new RestApiException(INVALID_LOCATION);
     }
 
-    redisService.addOrUpdateRiderLocation(rider.getRiderId(), updateForm.getLongitude(),
-        updateForm.getLatitude());
+    if (location.getLongitude() < -180 || location.getLongitude() > 180) {
+      throw new RestApiException(INVALID_LOCATION);
+    }
   }
 
-  public List<RiderDeliverableOrders> getDeliverableOrders(Rider rider) {
-    return redisService.getOrdersNearby(rider.getRiderId());
+  // 측정 시각이 없거나 수신 시각보다 미래(단말 시계 오차)면 수신 시각을 사용
+  private static long timestampOf(UpdateCurrentLocation location, long receivedAt) {
+    Long timestamp = location.getTimestamp();
+    return timestamp == null || timestamp > receivedAt ? receivedAt : timestamp;
   }
 }
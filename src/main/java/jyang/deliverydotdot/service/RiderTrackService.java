@@ -0,0 +1,239 @@
+package jyang.deliverydotdot.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import jyang.deliverydotdot.domain.Delivery;
+import jyang.deliverydotdot.domain.DeliveryTrack;
+import jyang.deliverydotdot.repository.DeliveryTrackRepository;
+import jyang.deliverydotdot.util.TrackCodec;
+import jyang.deliverydotdot.util.TrackCodec.TrackPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 배달 중 라이더 이동 경로 기록
+ * <p>
+ * 배달이 시작되면 배달별 Redis Stream(riderTrack:{deliveryId})에 위치를 이어서 기록하고, 배달이 끝나면 경로를 압축하여 DB 에
+ * 저장한 뒤 Stream 을 삭제한다. 기록은 위치 버퍼 반영 주기에 한 번의 파이프라인으로 처리되어 위치 갱신 요청에는 지연을 더하지 않으며,
+ * Stream 길이(MAXLEN)와 만료 시간으로 배달당 메모리를 제한한다. 진행 중인 배달 목록(riderTrack:active)은 배달이 끝나지 않고 버려진
+ * 경우를 대비해, 시작한 지 만료 시간이 지났는데 Stream 이 없는 항목을 주기적으로 정리한다.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class RiderTrackService {
+
+  // 라이더 ID -> 진행 중인 배달 ID
+  private static final String ACTIVE_DELIVERIES = "riderTrack:active";
+
+  private static final String TRACK_PREFIX = "riderTrack:";
+
+  private static final byte[] LONGITUDE = "lon".getBytes(StandardCharsets.UTF_8);
+
+  private static final byte[] LATITUDE = "lat".getBytes(StandardCharsets.UTF_8);
+
+  private static final byte[] TIMESTAMP = "ts".getBytes(StandardCharsets.UTF_8);
+
+  // KEYS[1] : 진행 중인 배달 해시, ARGV[1] : 라이더 ID, ARGV[2] : 값, 값이 그대로일 때만 삭제
+  private static final RedisScript<Long> REMOVE_ACTIVE_SCRIPT = RedisScript.of("""
+      if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+        return redis.call('HDEL', KEYS[1], ARGV[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final DeliveryTrackRepository deliveryTrackRepository;
+
+  private final long maxPoints;
+
+  private final Duration trackTtl;
+
+  public RiderTrackService(
+      RedisTemplate<String, String> stringRedisTemplate,
+      DeliveryTrackRepository deliveryTrackRepository,
+      @Value("${rider.track.max-points:7200}") long maxPoints,
+      @Value("${rider.track.ttl-hours:12}") long trackTtlHours) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.deliveryTrackRepository = deliveryTrackRepository;
+    this.maxPoints = maxPoints;
+    this.trackTtl = Duration.ofHours(trackTtlHours);
+  }
+
+  /**
+   * 경로 기록 시작
+   *
+   * @param riderId    라이더 ID
+   * @param deliveryId 배달 ID
+   */
+  public void startTrack(Long riderId, Long deliveryId) {
+    // 배달 ID:시작 시각(ms), 정리할 때 시작 시각을 사용
+    stringRedisTemplate.opsForHash().put(ACTIVE_DELIVERIES, riderId.toString(),
+        deliveryId + ":" + System.currentTimeMillis());
+  }
+
+  /**
+   * 배달 중인 라이더의 위치를 경로에 추가
+   * <p>
+   * Stream ID 는 기록한 시각이므로, 측정 시각은 각 항목의 ts 필드에 따로 저장한다.
+   *
+   * @param locations 라이더 ID 별 수신한 위치 목록
+   */
+  public void append(Map<Long, List<TrackPoint>> locations) {
+    List<Object> riderIds = new ArrayList<>(locations.size());
+    locations.keySet().forEach(riderId -> riderIds.add(riderId.toString()));
+
+    List<Object> deliveryIds =
+        stringRedisTemplate.opsForHash().multiGet(ACTIVE_DELIVERIES, riderIds);
+
+    Map<byte[], List<TrackPoint>> tracks = new LinkedHashMap<>();
+    for (int i = 0; i < riderIds.size(); i++) {
+      Object active = deliveryIds.get(i);
+      if (active != null) {
+        tracks.put(rawKey(trackKey(deliveryIdOf(active.toString()))),
+            locations.get(Long.parseLong((String) riderIds.get(i))));
+      }
+    }
+    if (tracks.isEmpty()) {
+      return;
+    }
+
+    XAddOptions options = XAddOptions.maxlen(maxPoints).approximateTrimming(true);
+    stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      tracks.forEach((key, points) -> {
+        for (TrackPoint point : points) {
+          connection.streamCommands().xAdd(StreamRecords.rawBytes(Map.of(
+              LONGITUDE, rawKey(Double.toString(point.getLongitude())),
+              LATITUDE, rawKey(Double.toString(point.getLatitude())),
+              TIMESTAMP, rawKey(Long.toString(point.getTimestamp())))).withStreamKey(key), options);
+        }
+        connection.keyCommands().expire(key, trackTtl.getSeconds());
+      });
+      return null;
+    });
+  }
+
+  /**
+   * 경로 기록 종료 및 저장
+   * <p>
+   * Stream 의 위치를 압축하여 저장하고, 커밋된 후에 진행 중 목록과 Stream 을 삭제한다. 롤백되면 배달이 계속 진행 중이므로 기록을 그대로
+   * 둔다.
+   *
+   * @param delivery 배달
+   */
+  @Transactional
+  public void finishTrack(Delivery delivery) {
+    String riderId = delivery.getRider().getRiderId().toString();
+    String key = trackKey(delivery.getDeliveryId().toString());
+    Runnable cleanUp = () -> {
+      try {
+        stringRedisTemplate.opsForHash().delete(ACTIVE_DELIVERIES, riderId);
+        stringRedisTemplate.delete(key);
+      } catch (RuntimeException e) {
+        log.warn("Failed to delete rider track. deliveryId : {}", delivery.getDeliveryId(), e);
+      }
+    };
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cleanUp.run();
+        }
+      });
+    } else {
+      cleanUp.run();
+    }
+
+    List<MapRecord<String, Object, Object>> records =
+        stringRedisTemplate.opsForStream().range(key, Range.unbounded());
+    if (records == null || records.isEmpty()) {
+      return;
+    }
+
+    List<TrackPoint> points = new ArrayList<>(records.size());
+    for (MapRecord<String, Object, Object> record : records) {
+      Map<Object, Object> value = record.getValue();
+      points.add(new TrackPoint(Long.parseLong((String) value.get("ts")),
+          Double.parseDouble((String) value.get("lon")),
+          Double.parseDouble((String) value.get("lat"))));
+    }
+    // 일괄 전송이 재시도되면 기록 순서와 측정 순서가 다를 수 있다
+    points.sort(Comparator.comparingLong(TrackPoint::getTimestamp));
+
+    deliveryTrackRepository.save(DeliveryTrack.builder()
+        .delivery(delivery)
+        .pointCount(points.size())
+        .startedAt(toLocalDateTime(points.get(0).getTimestamp()))
+        .endedAt(toLocalDateTime(points.get(points.size() - 1).getTimestamp()))
+        .points(TrackCodec.encode(points))
+        .build());
+  }
+
+  /**
+   * 버려진 진행 중 배달 정리
+   * <p>
+   * 시작한 지 만료 시간이 지났고 Stream 도 만료된(위치가 더 이상 들어오지 않은) 항목을 지운다. 정리하는 사이 같은 라이더가 새 배달을 시작했으면
+   * 지우지 않는다.
+   */
+  @Scheduled(fixedDelayString = "${rider.track.sweep-interval-ms:3600000}")
+  public void sweepActive() {
+    long startedBefore = System.currentTimeMillis() - trackTtl.toMillis();
+    try (Cursor<Map.Entry<Object, Object>> cursor = stringRedisTemplate.opsForHash()
+        .scan(ACTIVE_DELIVERIES, ScanOptions.scanOptions().count(500).build())) {
+      while (cursor.hasNext()) {
+        Map.Entry<Object, Object> entry = cursor.next();
+        String active = entry.getValue().toString();
+        if (startedAtOf(active) < startedBefore
+            && !Boolean.TRUE.equals(stringRedisTemplate.hasKey(trackKey(deliveryIdOf(active))))) {
+          stringRedisTemplate.execute(REMOVE_ACTIVE_SCRIPT, List.of(ACTIVE_DELIVERIES),
+              entry.getKey().toString(), active);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to sweep active rider tracks", e);
+    }
+  }
+
+  private static String deliveryIdOf(String active) {
+    return active.substring(0, active.indexOf(':'));
+  }
+
+  private static long startedAtOf(String active) {
+    return Long.parseLong(active.substring(active.indexOf(':') + 1));
+  }
+
+  private static String trackKey(String deliveryId) {
+    return TRACK_PREFIX + deliveryId;
+  }
+
+  private static byte[] rawKey(String key) {
+    return key.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static LocalDateTime toLocalDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+  }
+}
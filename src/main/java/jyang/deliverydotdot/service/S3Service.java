@@ -12,12 +12,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class S3Service {
 
@@ -33,22 +31,18 @@ public class S3Service {
 
   private final String DELIVERY_FOLDER = "delivery/";
 
-  @Transactional
   public String uploadReviewImage(MultipartFile file) {
     return upload(file, REVIEW_FOLDER);
   }
 
-  @Transactional
   public String uploadStoreImage(MultipartFile file) {
     return upload(file, STORE_FOLDER);
   }
 
-  @Transactional
   public String uploadMenuImage(MultipartFile file) {
     return upload(file, MENU_FOLDER);
   }
 
-  @Transactional
   public String uploadDeliveryImage(MultipartFile file) {
     return upload(file, DELIVERY_FOLDER);
   }
@@ -85,7 +79,6 @@ public class S3Service {
    *
    * @param url 파일 URL
    */
-  @Transactional
   public void delete(String url) {
     try {
       s3Client.deleteObject(bucket, getFileNameFromURL(url));
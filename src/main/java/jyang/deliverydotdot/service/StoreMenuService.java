@@ -0,0 +1,315 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.store.StoreMenuDTO.STORE_MENU_CHANNEL;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jyang.deliverydotdot.domain.Menu;
+import jyang.deliverydotdot.domain.MenuCategory;
+import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.dto.response.SuccessResponse;
+import jyang.deliverydotdot.dto.store.StoreMenuDTO.MenuCategoryResponse;
+import jyang.deliverydotdot.dto.store.StoreMenuDTO.MenuResponse;
+import jyang.deliverydotdot.dto.store.StoreMenuDTO.StoreMenuResponse;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.repository.MenuCategoryRepository;
+import jyang.deliverydotdot.repository.MenuRepository;
+import jyang.deliverydotdot.repository.StoreRepository;
+import jyang.deliverydotdot.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 가게 전체 메뉴 조회 모델
+ * <p>
+ * 가게 정보, 표시 순서대로 정렬한 메뉴 카테고리와 메뉴를 응답 JSON 그대로 인코딩하여 노드 로컬 캐시와 Redis(storeMenu:{가게 ID}) 에
+ * 보관한다. 캐시 적중 시 JPA 를 거치지 않고 바이트를 그대로 응답하며, 미스일 때만 가게 / 카테고리 / 메뉴를 각각 한 번씩 조회하여 만든다.
+ * 메뉴 / 메뉴 카테고리 / 가게가 변경되면 커밋 후 Redis 문서를 삭제하고 pub/sub 으로 모든 노드의 로컬 캐시를 비운다. 메뉴의 품절
+ * 여부는 MenuAvailabilityRegistry 의 메모리 상태로 채우며, 품절 여부가 바뀔 때도 문서를 지운다.
+ * <p>
+ * 무효화할 때마다 가게별 세대 번호를 올리고, 미스일 때는 DB 를 읽기 전의 세대 번호가 그대로일 때만 문서를 저장한다. 그래서 DB 를 읽는 동안
+ * 변경이 커밋되어 문서가 지워져도 변경 전 문서가 다시 저장되지 않는다.
+ */
+@Service
+@Slf4j
+public class StoreMenuService {
+
+  private static final String KEY_PREFIX = "storeMenu:";
+
+  /*
+   * KEYS[1] : 문서 키, KEYS[2] : 세대 키, ARGV[1] : 조회 전 세대 (없었으면 빈 문자열), ARGV[2] : 문서, ARGV[3] : TTL(초)
+   * 그 사이 무효화되어 세대가 바뀌었으면 저장하지 않고 0
+   */
+  private static final byte[] PUT_SCRIPT = """
+      local generation = redis.call('GET', KEYS[2]) or ''
+      if generation ~= ARGV[1] then
+        return 0
+      end
+      redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+      return 1
+      """.getBytes(StandardCharsets.UTF_8);
+
+  // KEYS[1] : 문서 키, KEYS[2] : 세대 키, ARGV[1] : 세대 유지 시간(초), 세대를 올리고 문서 삭제
+  private static final byte[] INVALIDATE_SCRIPT = """
+      redis.call('INCR', KEYS[2])
+      redis.call('EXPIRE', KEYS[2], ARGV[1])
+      return redis.call('DEL', KEYS[1])
+      """.getBytes(StandardCharsets.UTF_8);
+
+  private final StoreRepository storeRepository;
+
+  private final MenuCategoryRepository menuCategoryRepository;
+
+  private final MenuRepository menuRepository;
+
+  private final MenuAvailabilityRegistry menuAvailabilityRegistry;
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  private final Duration redisTtl;
+
+  private final Cache<Long, byte[]> localCache;
+
+  private final Counter localHitCounter;
+
+  private final Counter redisHitCounter;
+
+  private final Counter missCounter;
+
+  public StoreMenuService(
+      StoreRepository storeRepository,
+      MenuCategoryRepository menuCategoryRepository,
+      MenuRepository menuRepository,
+      MenuAvailabilityRegistry menuAvailabilityRegistry,
+      RedisTemplate<String, String> stringRedisTemplate,
+      ObjectMapper objectMapper,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      MeterRegistry meterRegistry,
+      @Value("${store.menu.cache.local.max-size:5000}") long localMaxSize,
+      @Value("${store.menu.cache.local.ttl-minutes:10}") long localTtlMinutes,
+      @Value("${store.menu.cache.redis.ttl-hours:24}") long redisTtlHours) {
+    this.storeRepository = storeRepository;
+    this.menuCategoryRepository = menuCategoryRepository;
+    this.menuRepository = menuRepository;
+    this.menuAvailabilityRegistry = menuAvailabilityRegistry;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.redisTtl = Duration.ofHours(redisTtlHours);
+    this.localCache = Caffeine.newBuilder()
+        .maximumSize(localMaxSize)
+        .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+        .build();
+    this.localHitCounter = lookupCounter(meterRegistry, "local_hit");
+    this.redisHitCounter = lookupCounter(meterRegistry, "redis_hit");
+    this.missCounter = lookupCounter(meterRegistry, "miss");
+
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> evictLocal(message.getBody()),
+        new ChannelTopic(STORE_MENU_CHANNEL));
+
+    // 품절 여부 변경은 모든 노드에 전달되므로 노드마다 자신의 캐시와 Redis 문서를 지운다
+    menuAvailabilityRegistry.addSoldOutListener(this::evictSoldOutChanged);
+  }
+
+  /**
+   * 가게 전체 메뉴 조회
+   *
+   * @param storeId 가게 ID
+   * @return 응답 JSON (SuccessResponse 포함)
+   */
+  public byte[] getStoreMenu(Long storeId) {
+    byte[] document = localCache.getIfPresent(storeId);
+    if (document != null) {
+      localHitCounter.increment();
+      return document;
+    }
+
+    // 같은 가게를 동시에 조회하면 한 번만 불러온다
+    return localCache.get(storeId, this::load);
+  }
+
+  /**
+   * 가게 메뉴 변경 알림
+   * <p>
+   * 트랜잭션 안에서 호출되면 커밋 후 무효화하여, 변경 전 데이터로 다시 만들어지지 않도록 한다.
+   *
+   * @param storeId 가게 ID
+   */
+  public void storeMenuChanged(Long storeId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          invalidate(storeId);
+        }
+      });
+    } else {
+      invalidate(storeId);
+    }
+  }
+
+  private byte[] load(Long storeId) {
+    // 문서와 세대를 함께 읽는다 (같은 슬롯), Redis 를 읽지 못하면 null
+    List<byte[]> cached = getFromRedis(storeId);
+    if (cached != null && cached.get(0) != null) {
+      redisHitCounter.increment();
+      return cached.get(0);
+    }
+
+    missCounter.increment();
+    byte[] document = encode(build(storeId));
+    if (cached != null) {
+      putToRedis(storeId, cached.get(1), document);
+    }
+    return document;
+  }
+
+  private StoreMenuResponse build(Long storeId) {
+    Store store = storeRepository.findById(storeId)
+        .orElseThrow(() -> new RestApiException(ErrorCode.STORE_NOT_FOUND));
+
+    Map<Long, List<MenuResponse>> menusByCategory = new HashMap<>();
+    menuRepository.findAllByStoreStoreId(storeId).stream()
+        .filter(menu -> menu.getMenuCategory() != null)
+        .sorted(Comparator.comparing(Menu::getDisplayOrder,
+                Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Menu::getMenuId))
+        .forEach(menu -> menusByCategory
+            .computeIfAbsent(menu.getMenuCategory().getMenuCategoryId(),
+                key -> new ArrayList<>())
+            .add(MenuResponse.builder()
+                .menuId(menu.getMenuId())
+                .menuName(menu.getMenuName())
+                .price(menu.getPrice())
+                .menuDescription(menu.getMenuDescription())
+                .menuImageUrl(menu.getMenuImageUrl())
+                .soldOut(menuAvailabilityRegistry.isSoldOut(menu.getMenuId()))
+                .build()));
+
+    List<MenuCategoryResponse> menuCategories = new ArrayList<>();
+    for (MenuCategory menuCategory :
+        menuCategoryRepository.findAllByStoreStoreIdOrderByDisplayOrderAsc(storeId)) {
+      menuCategories.add(MenuCategoryResponse.builder()
+          .menuCategoryId(menuCategory.getMenuCategoryId())
+          .categoryName(menuCategory.getCategoryName())
+          .displayOrder(menuCategory.getDisplayOrder())
+          .menuOrderVersion(versionOf(menuCategory.getMenuOrderVersion()))
+          .menus(menusByCategory.getOrDefault(menuCategory.getMenuCategoryId(), List.of()))
+          .build());
+    }
+
+    return StoreMenuResponse.builder()
+        .storeId(store.getStoreId())
+        .storeName(store.getStoreName())
+        .description(store.getDescription())
+        .menuCategoryVersion(versionOf(store.getMenuCategoryVersion()))
+        .menuCategories(menuCategories)
+        .build();
+  }
+
+  private static long versionOf(Long version) {
+    return version != null ? version : 0;
+  }
+
+  private byte[] encode(StoreMenuResponse storeMenu) {
+    try {
+      return objectMapper.writeValueAsBytes(SuccessResponse.of(storeMenu));
+    } catch (JsonProcessingException e) {
+      log.error("Failed to serialize store menu. storeId : {}", storeMenu.getStoreId(), e);
+      throw new RestApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private List<byte[]> getFromRedis(Long storeId) {
+    try {
+      return stringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+          connection.stringCommands().mGet(rawKey(storeId), rawGenerationKey(storeId)));
+    } catch (RuntimeException e) {
+      log.warn("Failed to read store menu cache. storeId : {}", storeId, e);
+      return null;
+    }
+  }
+
+  private void putToRedis(Long storeId, byte[] generation, byte[] document) {
+    try {
+      stringRedisTemplate.execute((RedisCallback<Object>) connection ->
+          connection.scriptingCommands().eval(PUT_SCRIPT, ReturnType.INTEGER, 2,
+              rawKey(storeId), rawGenerationKey(storeId),
+              generation != null ? generation : new byte[0], document,
+              Long.toString(redisTtl.getSeconds()).getBytes(StandardCharsets.UTF_8)));
+    } catch (RuntimeException e) {
+      log.warn("Failed to write store menu cache. storeId : {}", storeId, e);
+    }
+  }
+
+  private void invalidate(Long storeId) {
+    localCache.invalidate(storeId);
+    try {
+      deleteFromRedis(storeId);
+      stringRedisTemplate.convertAndSend(STORE_MENU_CHANNEL, storeId.toString());
+    } catch (RuntimeException e) {
+      log.error("Failed to invalidate store menu cache. storeId : {}", storeId, e);
+    }
+  }
+
+  private void evictSoldOutChanged(Long storeId) {
+    localCache.invalidate(storeId);
+    try {
+      deleteFromRedis(storeId);
+    } catch (RuntimeException e) {
+      log.error("Failed to invalidate store menu cache. storeId : {}", storeId, e);
+    }
+  }
+
+  private void deleteFromRedis(Long storeId) {
+    stringRedisTemplate.execute((RedisCallback<Object>) connection ->
+        connection.scriptingCommands().eval(INVALIDATE_SCRIPT, ReturnType.INTEGER, 2,
+            rawKey(storeId), rawGenerationKey(storeId),
+            Long.toString(redisTtl.getSeconds()).getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private void evictLocal(byte[] body) {
+    try {
+      localCache.invalidate(Long.parseLong(new String(body, StandardCharsets.UTF_8)));
+    } catch (NumberFormatException e) {
+      log.error("Failed to read store menu event", e);
+    }
+  }
+
+  // 문서 키와 세대 키는 해시 태그 {가게 ID} 로 같은 슬롯에 둔다
+  private static byte[] rawKey(Long storeId) {
+    return (KEY_PREFIX + "{" + storeId + "}").getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] rawGenerationKey(Long storeId) {
+    return (KEY_PREFIX + "{" + storeId + "}:generation").getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("store.menu.lookup")
+        .tag("result", result)
+        .description("가게 메뉴 조회 캐시 적중 / 미스")
+        .register(meterRegistry);
+  }
+}
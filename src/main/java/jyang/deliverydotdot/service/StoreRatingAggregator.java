@@ -0,0 +1,303 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.store.StoreRatingDTO.STORE_RATING_REBUILT_CHANNEL;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.dto.store.StoreRatingDTO.RatingDelta;
+import jyang.deliverydotdot.dto.store.StoreRatingDTO.RatingRebuiltEvent;
+import jyang.deliverydotdot.repository.StoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 가게 평점 집계
+ * <p>
+ * 리뷰 작성 / 수정 / 삭제가 커밋되면 가게별 평점 합과 리뷰 수 변경분을 분산 카운터(DoubleAdder / LongAdder)에 더해 두고, 주기마다
+ * 가게별 UPDATE 한 번씩을 batch 로 반영한다. 리뷰마다 가게 행을 잠그지 않으며, 인기 가게에 리뷰가 몰려도 주기당 한 번만 갱신한다. 평균을
+ * 변경분으로 갱신하면서 생기는 오차는 리뷰 테이블로부터 구간 단위로 다시 계산하는 재계산 작업으로 바로잡는다.
+ * <p>
+ * 재계산은 Redis 락으로 한 노드에서만 실행한다. 다른 노드가 아직 반영하지 않은 변경분은 이미 재계산 결과에 포함되어 있으므로, 재계산한
+ * 구간을 알리면 각 노드는 재계산 시작 전에 쌓이기 시작한 그 구간의 변경분을 버린다. 변경분을 가게 단위로 묶어 두므로 재계산 직후에 같은
+ * 묶음에 더해진 리뷰는 함께 버려질 수 있으나, 다음 재계산에서 바로잡힌다.
+ */
+@Component
+@Slf4j
+public class StoreRatingAggregator {
+
+  private static final String REBUILD_LOCK_KEY = "storeRating:rebuild:lock";
+
+  // KEYS[1] : 락 키, ARGV[1] : 토큰, 내 락일 때만 삭제
+  private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final StoreRepository storeRepository;
+
+  private final EntityCacheInvalidator entityCacheInvalidator;
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  private final int rebuildChunkSize;
+
+  private final Duration rebuildLockTimeout;
+
+  private final Map<Long, Delta> pending = new ConcurrentHashMap<>();
+
+  private final Counter flushedCounter;
+
+  private final Timer flushTimer;
+
+  public StoreRatingAggregator(
+      StoreRepository storeRepository,
+      EntityCacheInvalidator entityCacheInvalidator,
+      RedisTemplate<String, String> stringRedisTemplate,
+      ObjectMapper objectMapper,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      MeterRegistry meterRegistry,
+      @Value("${store.rating.rebuild-chunk-size:500}") int rebuildChunkSize,
+      @Value("${store.rating.rebuild-lock-timeout-ms:3600000}") long rebuildLockTimeoutMs) {
+    this.storeRepository = storeRepository;
+    this.entityCacheInvalidator = entityCacheInvalidator;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.rebuildChunkSize = rebuildChunkSize;
+    this.rebuildLockTimeout = Duration.ofMillis(rebuildLockTimeoutMs);
+    this.flushedCounter = Counter.builder("store.rating.flushed")
+        .description("평점을 갱신한 가게 수")
+        .register(meterRegistry);
+    this.flushTimer = Timer.builder("store.rating.flush")
+        .description("가게 평점 반영 소요 시간")
+        .register(meterRegistry);
+    Gauge.builder("store.rating.pending", pending, Map::size)
+        .description("평점 반영 대기 중인 가게 수")
+        .register(meterRegistry);
+
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> onRebuilt(message.getBody()),
+        new ChannelTopic(STORE_RATING_REBUILT_CHANNEL));
+  }
+
+  /**
+   * 리뷰 작성
+   *
+   * @param storeId 가게 ID
+   * @param rating  평점
+   */
+  public void reviewAdded(Long storeId, double rating) {
+    afterCommit(storeId, rating, 1);
+  }
+
+  /**
+   * 리뷰 평점 수정
+   *
+   * @param storeId        가게 ID
+   * @param previousRating 수정 전 평점
+   * @param rating         수정 후 평점
+   */
+  public void reviewUpdated(Long storeId, double previousRating, double rating) {
+    if (previousRating != rating) {
+      afterCommit(storeId, rating - previousRating, 0);
+    }
+  }
+
+  /**
+   * 리뷰 삭제
+   *
+   * @param storeId 가게 ID
+   * @param rating  삭제된 리뷰의 평점
+   */
+  public void reviewRemoved(Long storeId, double rating) {
+    afterCommit(storeId, -rating, -1);
+  }
+
+  /**
+   * 쌓인 변경분을 가게에 반영
+   */
+  @Scheduled(fixedDelayString = "${store.rating.flush-interval-ms:5000}")
+  public synchronized void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    // 반영 중 들어온 변경분은 다음 주기에 반영되도록 키 단위로 꺼낸다
+    Map<Long, Delta> taken = new HashMap<>();
+    List<RatingDelta> batch = new ArrayList<>();
+    for (Long storeId : pending.keySet()) {
+      Delta delta = pending.remove(storeId);
+      if (delta != null && (delta.count.sum() != 0 || delta.sum.sum() != 0)) {
+        taken.put(storeId, delta);
+        batch.add(RatingDelta.builder()
+            .storeId(storeId)
+            .ratingSum(delta.sum.sum())
+            .reviewCount(delta.count.sum())
+            .build());
+      }
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    try {
+      flushTimer.record(() -> storeRepository.applyRatingDeltas(batch));
+      flushedCounter.increment(batch.size());
+    } catch (RuntimeException e) {
+      log.error("Failed to flush store ratings. size : {}", batch.size(), e);
+      taken.forEach(this::restore);
+      return;
+    }
+
+    evictStores(batch.stream().map(RatingDelta::getStoreId).toList());
+  }
+
+  /**
+   * 리뷰 테이블로부터 전체 가게 평점 재계산
+   * <p>
+   * 가게 ID 순으로 구간을 나누어 구간마다 집계 + 갱신을 한 문장으로 처리하므로 리뷰 테이블 전체를 한 번에 읽지 않는다. 구간마다 먼저 쌓인
+   * 변경분을 반영하고, 재계산이 끝난 구간은 다른 노드에 알려 그 노드에 쌓인 변경분이 재계산 결과에 다시 더해지지 않도록 한다.
+   */
+  @Scheduled(cron = "${store.rating.rebuild-cron:0 30 4 * * *}")
+  public void rebuild() {
+    String token = UUID.randomUUID().toString();
+    if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+        .setIfAbsent(REBUILD_LOCK_KEY, token, rebuildLockTimeout))) {
+      return;
+    }
+
+    long afterStoreId = 0;
+    int stores = 0;
+    try {
+      while (true) {
+        List<Long> storeIds;
+        long rebuiltAt;
+        synchronized (this) {
+          flush();
+          rebuiltAt = System.currentTimeMillis();
+          storeIds = storeRepository.rebuildRatings(afterStoreId, rebuildChunkSize);
+        }
+        if (storeIds.isEmpty()) {
+          break;
+        }
+        publishRebuilt(storeIds.get(0), storeIds.get(storeIds.size() - 1), rebuiltAt);
+        evictStores(storeIds);
+        stores += storeIds.size();
+        afterStoreId = storeIds.get(storeIds.size() - 1);
+      }
+      log.info("Store ratings rebuilt. stores : {}", stores);
+    } catch (RuntimeException e) {
+      log.error("Failed to rebuild store ratings. afterStoreId : {}", afterStoreId, e);
+    } finally {
+      stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), token);
+    }
+  }
+
+  private void afterCommit(Long storeId, double rating, long count) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          add(storeId, rating, count);
+        }
+      });
+    } else {
+      add(storeId, rating, count);
+    }
+  }
+
+  private void add(Long storeId, double rating, long count) {
+    // flush 가 꺼내 간 변경분에 더해져 유실되지 않도록 키 단위로 원자적으로 더한다
+    pending.compute(storeId, (key, delta) -> {
+      Delta target = delta == null ? new Delta() : delta;
+      target.sum.add(rating);
+      target.count.add(count);
+      return target;
+    });
+  }
+
+  private void restore(Long storeId, Delta delta) {
+    // 처음 쌓이기 시작한 시각을 유지하여 재계산 알림 때 함께 버려지도록 한다
+    pending.merge(storeId, delta, (current, previous) -> {
+      previous.sum.add(current.sum.sum());
+      previous.count.add(current.count.sum());
+      return previous;
+    });
+  }
+
+  private void publishRebuilt(Long firstStoreId, Long lastStoreId, long rebuiltAt) {
+    try {
+      stringRedisTemplate.convertAndSend(STORE_RATING_REBUILT_CHANNEL,
+          objectMapper.writeValueAsString(RatingRebuiltEvent.builder()
+              .firstStoreId(firstStoreId)
+              .lastStoreId(lastStoreId)
+              .rebuiltAt(rebuiltAt)
+              .build()));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void onRebuilt(byte[] body) {
+    try {
+      discardBefore(objectMapper.readValue(body, RatingRebuiltEvent.class));
+    } catch (IOException e) {
+      log.error("Failed to read store rating rebuilt event", e);
+    }
+  }
+
+  /**
+   * 재계산한 구간에서 재계산 시작 전에 쌓이기 시작한 변경분 버림
+   */
+  private void discardBefore(RatingRebuiltEvent event) {
+    for (Long storeId : pending.keySet()) {
+      if (storeId >= event.getFirstStoreId() && storeId <= event.getLastStoreId()) {
+        pending.computeIfPresent(storeId, (key, delta) ->
+            delta.createdAt < event.getRebuiltAt() ? null : delta);
+      }
+    }
+  }
+
+  private void evictStores(List<Long> storeIds) {
+    try {
+      entityCacheInvalidator.evict(Store.class, storeIds);
+    } catch (RuntimeException e) {
+      log.error("Failed to evict stores from entity cache. size : {}", storeIds.size(), e);
+    }
+  }
+
+  private static class Delta {
+
+    private final long createdAt = System.currentTimeMillis();
+
+    private final DoubleAdder sum = new DoubleAdder();
+
+    private final LongAdder count = new LongAdder();
+  }
+}
@@ -0,0 +1,293 @@
+package jyang.deliverydotdot.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.repository.StoreRepository;
+import jyang.deliverydotdot.type.ErrorCode;
+import jyang.deliverydotdot.util.StoreSchedule;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 영업 중인 가게 인덱스
+ * <p>
+ * 가게마다 영업 시간표와 다음 영업 시작 / 종료 시각을 미리 계산해 두고, 분 단위 타이머 휠(하루 = 1440 칸)에 등록한다. 매분 현재 칸의 가게만
+ * 다시 평가하여 영업 중인 가게 ID 비트셋을 갱신하므로, "영업 중" 필터는 행마다 시각을 계산하지 않고 비트셋 조회로 처리된다. 비트셋은 변경 시
+ * 복사본을 만들어 교체하므로 조회는 잠금 없이 수행한다. 시각은 가게 시간대(store.schedule.zone-id) 기준으로 계산한다.
+ */
+@Component
+@Slf4j
+public class StoreScheduleIndex {
+
+  private static final String STORE_SCHEDULE_CHANNEL = "storeScheduleEvents";
+
+  private static final int WHEEL_SIZE = 1440;
+
+  private static final int LOAD_BATCH_SIZE = 1000;
+
+  private final StoreRepository storeRepository;
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final ZoneId zoneId;
+
+  private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+  // 칸(하루 중 분)마다 그 분에 평가할 타이머
+  private final List<List<Timer>> wheel = new ArrayList<>(WHEEL_SIZE);
+
+  private volatile BitSet openStores = new BitSet();
+
+  // 마지막으로 처리한 분 (epoch minute), 적재 전에는 -1
+  private long lastTickMinute = -1;
+
+  public StoreScheduleIndex(
+      StoreRepository storeRepository,
+      RedisTemplate<String, String> stringRedisTemplate,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      MeterRegistry meterRegistry,
+      @Value("${store.schedule.zone-id:Asia/Seoul}") String zoneId) {
+    this.storeRepository = storeRepository;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.zoneId = ZoneId.of(zoneId);
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel.add(new ArrayList<>());
+    }
+
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> onStoreChanged(message.getBody()),
+        new ChannelTopic(STORE_SCHEDULE_CHANNEL));
+
+    Gauge.builder("store.open.count", this, index -> index.openStores.cardinality())
+        .description("영업 중인 가게 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 영업 중인지 확인
+   *
+   * @param storeId 가게 ID
+   * @return 영업 중이면 true
+   */
+  public boolean isOpen(long storeId) {
+    return storeId <= Integer.MAX_VALUE && openStores.get((int) storeId);
+  }
+
+  /**
+   * 영업 중인 가게 ID 비트셋 (변경하지 말 것)
+   */
+  public BitSet openStores() {
+    return openStores;
+  }
+
+  /**
+   * 주문 가능 시간인지 검증 (휴무일, 심야 영업, 주문 마감 시각 반영)
+   *
+   * @param store 가게
+   */
+  public void validateOrderable(Store store) {
+    if (!toSchedule(store).isOrderable(LocalDateTime.now(zoneId))) {
+      throw new RestApiException(ErrorCode.STORE_CLOSED);
+    }
+  }
+
+  /**
+   * 가게 영업 시간 변경 알림 (트랜잭션 안에서 호출되면 커밋 후 발행)
+   *
+   * @param storeId 가게 ID
+   */
+  public void storeChanged(Long storeId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          publish(storeId);
+        }
+      });
+    } else {
+      publish(storeId);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    entries.clear();
+    for (List<Timer> slot : wheel) {
+      slot.clear();
+    }
+    LocalDateTime now = LocalDateTime.now(zoneId);
+    lastTickMinute = epochMinute(now);
+
+    try {
+      BitSet open = new BitSet();
+      Page<Store> stores;
+      int page = 0;
+      do {
+        stores = storeRepository.findAll(
+            PageRequest.of(page++, LOAD_BATCH_SIZE, Sort.by("storeId")));
+        stores.forEach(store -> register(store.getStoreId(), toSchedule(store), now, open));
+      } while (stores.hasNext());
+
+      openStores = open;
+      log.info("Store schedule index loaded. stores : {}, open : {}", entries.size(),
+          open.cardinality());
+    } catch (RuntimeException e) {
+      // 다음 tick 에서 다시 적재
+      lastTickMinute = -1;
+      log.error("Failed to load store schedule index", e);
+    }
+  }
+
+  /**
+   * 타이머 휠 진행 (매분)
+   */
+  @Scheduled(cron = "0 * * * * *")
+  public synchronized void tick() {
+    if (lastTickMinute < 0) {
+      load();
+      return;
+    }
+
+    LocalDateTime now = LocalDateTime.now(zoneId);
+    long nowMinute = epochMinute(now);
+    if (nowMinute - lastTickMinute > WHEEL_SIZE) {
+      // 하루 이상 멈춰 있었으면 다시 적재
+      load();
+      return;
+    }
+
+    BitSet open = null;
+    for (long minute = lastTickMinute + 1; minute <= nowMinute; minute++) {
+      Iterator<Timer> timers = wheel.get(slot(minute)).iterator();
+      while (timers.hasNext()) {
+        Timer timer = timers.next();
+        if (timer.minute > minute) {
+          continue;
+        }
+        timers.remove();
+
+        Entry entry = entries.get(timer.storeId);
+        if (entry == null || entry.version != timer.version) {
+          continue;
+        }
+        if (open == null) {
+          open = (BitSet) openStores.clone();
+        }
+        evaluate(timer.storeId, entry, now, open);
+      }
+    }
+    lastTickMinute = nowMinute;
+    if (open != null) {
+      openStores = open;
+    }
+  }
+
+  private synchronized void reload(Long storeId) {
+    if (lastTickMinute < 0) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now(zoneId);
+    BitSet open = (BitSet) openStores.clone();
+    storeRepository.findById(storeId).ifPresentOrElse(
+        store -> register(storeId, toSchedule(store), now, open),
+        () -> {
+          entries.remove(storeId);
+          if (storeId <= Integer.MAX_VALUE) {
+            open.clear(storeId.intValue());
+          }
+        });
+    openStores = open;
+  }
+
+  private void register(Long storeId, StoreSchedule schedule, LocalDateTime now, BitSet open) {
+    if (storeId > Integer.MAX_VALUE) {
+      log.warn("Store id out of schedule index range. storeId : {}", storeId);
+      return;
+    }
+    Entry previous = entries.get(storeId);
+    Entry entry = new Entry(schedule, previous == null ? 0 : previous.version + 1);
+    entries.put(storeId, entry);
+    evaluate(storeId, entry, now, open);
+  }
+
+  private void evaluate(Long storeId, Entry entry, LocalDateTime now, BitSet open) {
+    open.set(storeId.intValue(), entry.schedule.isOpen(now));
+
+    LocalDateTime next = entry.schedule.nextTransition(now);
+    if (next != null) {
+      long minute = Math.max(epochMinute(next), lastTickMinute + 1);
+      wheel.get(slot(minute)).add(new Timer(storeId, minute, entry.version));
+    }
+  }
+
+  private void onStoreChanged(byte[] body) {
+    try {
+      reload(Long.parseLong(new String(body, StandardCharsets.UTF_8)));
+    } catch (RuntimeException e) {
+      log.error("Failed to reload store schedule", e);
+    }
+  }
+
+  private void publish(Long storeId) {
+    try {
+      stringRedisTemplate.convertAndSend(STORE_SCHEDULE_CHANNEL, storeId.toString());
+    } catch (RuntimeException e) {
+      log.error("Failed to publish store schedule event. storeId : {}", storeId, e);
+    }
+  }
+
+  private long epochMinute(LocalDateTime time) {
+    return Math.floorDiv(time.atZone(zoneId).toEpochSecond(), 60);
+  }
+
+  private static int slot(long minute) {
+    return (int) Math.floorMod(minute, (long) WHEEL_SIZE);
+  }
+
+  private static StoreSchedule toSchedule(Store store) {
+    return StoreSchedule.of(store.getHoliday(), store.getOpenTime(), store.getCloseTime(),
+        store.getLastOrderTime());
+  }
+
+  @AllArgsConstructor
+  private static class Entry {
+
+    private final StoreSchedule schedule;
+
+    private final long version;
+  }
+
+  @AllArgsConstructor
+  private static class Timer {
+
+    private final Long storeId;
+
+    private final long minute;
+
+    private final long version;
+  }
+}
@@ -0,0 +1,485 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.store.StoreSearchDTO.STORE_SEARCH_CHANNEL;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jyang.deliverydotdot.domain.Menu;
+import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.dto.store.StoreSearchDTO.MenuSearchResult;
+import jyang.deliverydotdot.dto.store.StoreSearchDTO.StoreSearchResult;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.repository.MenuRepository;
+import jyang.deliverydotdot.repository.StoreRepository;
+import jyang.deliverydotdot.type.ErrorCode;
+import jyang.deliverydotdot.util.DeliveryZone;
+import jyang.deliverydotdot.util.NgramTokenizer;
+import jyang.deliverydotdot.util.PostingList;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 가게 / 메뉴 검색
+ * <p>
+ * 가게 이름 / 설명과 메뉴 이름 / 설명을 음절 bigram 으로 나누어 노드 로컬 역색인(토큰 -> 압축 posting list)에 보관하고, 검색은 DB 조회 없이
+ * posting list 교집합과 가게 배달 가능 영역 확인만으로 처리한다. DB 가 원본이며, 기동 시와 주기적으로 전체를 재구성하고 그 사이의 가게 /
+ * 메뉴 변경은 커밋 후 pub/sub 으로 전달되어 모든 노드가 해당 가게만 다시 색인한다.
+ */
+@Service
+@Slf4j
+public class StoreSearchService {
+
+  private static final int MAX_SEARCH_SIZE = 50;
+
+  // 가게별로 응답에 포함하는 일치 메뉴 수
+  private static final int MAX_MENUS_PER_STORE = 5;
+
+  private static final int LOAD_BATCH_SIZE = 1000;
+
+  private final StoreRepository storeRepository;
+
+  private final MenuRepository menuRepository;
+
+  private final RedisTemplate<String, String> stringRedisTemplate;
+
+  private final StoreScheduleIndex storeScheduleIndex;
+
+  private final Timer searchTimer;
+
+  private volatile Index current;
+
+  // 재구성 중인 색인, 재구성 동안 변경된 가게는 교체 직후 다시 색인
+  private volatile Index building;
+
+  public StoreSearchService(
+      StoreRepository storeRepository,
+      MenuRepository menuRepository,
+      RedisTemplate<String, String> stringRedisTemplate,
+      StoreScheduleIndex storeScheduleIndex,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      MeterRegistry meterRegistry) {
+    this.storeRepository = storeRepository;
+    this.menuRepository = menuRepository;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.storeScheduleIndex = storeScheduleIndex;
+
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> onStoreChanged(message.getBody()),
+        new ChannelTopic(STORE_SEARCH_CHANNEL));
+
+    this.searchTimer = Timer.builder("search.query")
+        .description("가게 / 메뉴 검색 소요 시간")
+        .register(meterRegistry);
+    Gauge.builder("search.index.documents", this, service -> service.size())
+        .description("검색 색인의 가게 + 메뉴 수")
+        .register(meterRegistry);
+  }
+
+  public int size() {
+    Index index = current;
+    return index == null ? 0 : index.stores.size() + index.menus.size();
+  }
+
+  /**
+   * 가게 / 메뉴 검색
+   * <p>
+   * 검색어의 모든 토큰을 포함하는 가게와 메뉴 중 좌표로 배달 가능한 가게만 반환한다. 가게 이름 / 설명이 일치하는 가게가 먼저, 그 안에서는 가까운
+   * 순으로 정렬한다.
+   *
+   * @param query     검색어
+   * @param longitude 배송지 경도
+   * @param latitude  배송지 위도
+   * @param openNow   영업 중인 가게만 조회
+   * @param size      최대 가게 수
+   * @return 검색 결과
+   */
+  public List<StoreSearchResult> search(String query, double longitude, double latitude,
+      boolean openNow, int size) {
+    Set<String> tokens = NgramTokenizer.queryTokens(query);
+    if (tokens.isEmpty() || size < 1 || size > MAX_SEARCH_SIZE) {
+      throw new RestApiException(ErrorCode.INVALID_REQUEST);
+    }
+    if (longitude < -180 || longitude > 180 || latitude < -90 || latitude > 90) {
+      throw new RestApiException(ErrorCode.INVALID_LOCATION);
+    }
+
+    Index index = current;
+    if (index == null) {
+      throw new RestApiException(ErrorCode.SEARCH_NOT_READY);
+    }
+    BitSet openStores = openNow ? storeScheduleIndex.openStores() : null;
+    return searchTimer.record(
+        () -> index.search(tokens, longitude, latitude, openStores, size));
+  }
+
+  /**
+   * 가게 / 메뉴 변경 알림
+   * <p>
+   * 트랜잭션 안에서 호출되면 커밋 후 발행하여, 다른 노드가 변경 전 데이터를 다시 읽지 않도록 한다.
+   *
+   * @param storeId 변경된 가게 ID
+   */
+  public void storeChanged(Long storeId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          publish(storeId);
+        }
+      });
+    } else {
+      publish(storeId);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    rebuild();
+  }
+
+  /**
+   * DB 로부터 색인 재구성 (pub/sub 메시지 유실 보정)
+   */
+  @Scheduled(initialDelayString = "${search.index.rebuild-interval-ms:1800000}",
+      fixedDelayString = "${search.index.rebuild-interval-ms:1800000}")
+  public synchronized void rebuild() {
+    Index index = new Index();
+    building = index;
+    try {
+      Page<Store> stores;
+      int page = 0;
+      do {
+        stores = storeRepository.findAll(
+            PageRequest.of(page++, LOAD_BATCH_SIZE, Sort.by("storeId")));
+        stores.forEach(store -> index.loadStore(toDocument(store)));
+      } while (stores.hasNext());
+
+      Page<Menu> menus;
+      page = 0;
+      do {
+        menus = menuRepository.findAll(
+            PageRequest.of(page++, LOAD_BATCH_SIZE, Sort.by("menuId")));
+        menus.forEach(menu -> index.loadMenu(toDocument(menu)));
+      } while (menus.hasNext());
+      index.finishLoad();
+
+      current = index;
+      building = null;
+      for (Long storeId : index.changedWhileBuilding) {
+        reindexStore(storeId);
+      }
+      log.info("Store search index rebuilt. stores : {}, menus : {}, tokens : {}",
+          index.stores.size(), index.menus.size(),
+          index.storePostings.size() + index.menuPostings.size());
+    } catch (RuntimeException e) {
+      log.error("Failed to rebuild store search index", e);
+    } finally {
+      building = null;
+    }
+  }
+
+  /**
+   * 가게와 가게의 메뉴를 DB 에서 다시 읽어 색인 (삭제된 가게는 색인에서 제거)
+   *
+   * @param storeId 가게 ID
+   */
+  void reindexStore(Long storeId) {
+    StoreDocument store = storeRepository.findById(storeId)
+        .map(StoreSearchService::toDocument)
+        .orElse(null);
+    List<MenuDocument> menus = store == null ? List.of()
+        : menuRepository.findAllByStoreStoreId(storeId).stream()
+            .map(StoreSearchService::toDocument)
+            .toList();
+
+    Index index = building;
+    if (index != null) {
+      index.changedWhileBuilding.add(storeId);
+    }
+    index = current;
+    if (index != null) {
+      index.replaceStore(storeId, store, menus);
+    }
+  }
+
+  private void onStoreChanged(byte[] body) {
+    try {
+      reindexStore(Long.parseLong(new String(body, StandardCharsets.UTF_8)));
+    } catch (RuntimeException e) {
+      log.error("Failed to reindex store", e);
+    }
+  }
+
+  private void publish(Long storeId) {
+    try {
+      stringRedisTemplate.convertAndSend(STORE_SEARCH_CHANNEL, storeId.toString());
+    } catch (RuntimeException e) {
+      log.error("Failed to publish store search event. storeId : {}", storeId, e);
+    }
+  }
+
+  private static StoreDocument toDocument(Store store) {
+    Set<String> tokens = NgramTokenizer.indexTokens(store.getStoreName());
+    tokens.addAll(NgramTokenizer.indexTokens(store.getDescription()));
+    int radius = store.getDeliveryRadius() != null
+        ? store.getDeliveryRadius() : LocationService.DEFAULT_DELIVERY_RADIUS;
+    return new StoreDocument(store.getStoreId(), store.getStoreName(),
+        store.getStoreCategory() != null ? store.getStoreCategory().getStoreCategoryId() : null,
+        DeliveryZone.of(store.getCoordinates().getX(), store.getCoordinates().getY(), radius),
+        tokens.toArray(String[]::new));
+  }
+
+  private static MenuDocument toDocument(Menu menu) {
+    Set<String> tokens = NgramTokenizer.indexTokens(menu.getMenuName());
+    tokens.addAll(NgramTokenizer.indexTokens(menu.getMenuDescription()));
+    return new MenuDocument(menu.getMenuId(), menu.getStore().getStoreId(), menu.getMenuName(),
+        menu.getPrice(), tokens.toArray(String[]::new));
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class StoreDocument {
+
+    private final Long storeId;
+
+    private final String storeName;
+
+    private final Long storeCategoryId;
+
+    private final DeliveryZone zone;
+
+    private final String[] tokens;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class MenuDocument {
+
+    private final Long menuId;
+
+    private final Long storeId;
+
+    private final String menuName;
+
+    private final Integer price;
+
+    private final String[] tokens;
+  }
+
+  /**
+   * 역색인
+   * <p>
+   * posting list 는 변경 시 새 배열로 교체되므로 검색은 잠금 없이 수행하고, 변경만 인스턴스 단위로 직렬화한다.
+   */
+  static class Index {
+
+    private final Map<String, byte[]> storePostings = new ConcurrentHashMap<>();
+
+    private final Map<String, byte[]> menuPostings = new ConcurrentHashMap<>();
+
+    private final Map<Long, StoreDocument> stores = new ConcurrentHashMap<>();
+
+    private final Map<Long, MenuDocument> menus = new ConcurrentHashMap<>();
+
+    private final Map<Long, Set<Long>> menuIdsByStore = new ConcurrentHashMap<>();
+
+    private final Set<Long> changedWhileBuilding = ConcurrentHashMap.newKeySet();
+
+    // 재구성 중 토큰별로 모으는 ID (재구성이 끝나면 한 번만 인코딩)
+    private Map<String, PostingList.Builder> storeBuilders = new HashMap<>();
+
+    private Map<String, PostingList.Builder> menuBuilders = new HashMap<>();
+
+    /**
+     * 재구성 중 가게 적재 (posting list 는 {@link #finishLoad()} 에서 만든다)
+     */
+    private void loadStore(StoreDocument store) {
+      stores.put(store.getStoreId(), store);
+      collect(storeBuilders, store.getTokens(), store.getStoreId());
+    }
+
+    /**
+     * 재구성 중 메뉴 적재 (posting list 는 {@link #finishLoad()} 에서 만든다)
+     */
+    private void loadMenu(MenuDocument menu) {
+      if (!stores.containsKey(menu.getStoreId())) {
+        return;
+      }
+      menus.put(menu.getMenuId(), menu);
+      collect(menuBuilders, menu.getTokens(), menu.getMenuId());
+      menuIdsByStore.computeIfAbsent(menu.getStoreId(), key -> ConcurrentHashMap.newKeySet())
+          .add(menu.getMenuId());
+    }
+
+    private void finishLoad() {
+      storeBuilders.forEach((token, builder) -> storePostings.put(token, builder.build()));
+      menuBuilders.forEach((token, builder) -> menuPostings.put(token, builder.build()));
+      storeBuilders = null;
+      menuBuilders = null;
+    }
+
+    private synchronized void putStore(StoreDocument store) {
+      StoreDocument previous = stores.put(store.getStoreId(), store);
+      if (previous != null) {
+        removePostings(storePostings, previous.getTokens(), previous.getStoreId());
+      }
+      addPostings(storePostings, store.getTokens(), store.getStoreId());
+    }
+
+    private synchronized void putMenu(MenuDocument menu) {
+      if (!stores.containsKey(menu.getStoreId())) {
+        return;
+      }
+      MenuDocument previous = menus.put(menu.getMenuId(), menu);
+      if (previous != null) {
+        removePostings(menuPostings, previous.getTokens(), previous.getMenuId());
+      }
+      addPostings(menuPostings, menu.getTokens(), menu.getMenuId());
+      menuIdsByStore.computeIfAbsent(menu.getStoreId(), key -> ConcurrentHashMap.newKeySet())
+          .add(menu.getMenuId());
+    }
+
+    private synchronized void replaceStore(Long storeId, StoreDocument store,
+        Collection<MenuDocument> storeMenus) {
+      Set<Long> menuIds = menuIdsByStore.remove(storeId);
+      if (menuIds != null) {
+        for (Long menuId : menuIds) {
+          MenuDocument previous = menus.remove(menuId);
+          if (previous != null) {
+            removePostings(menuPostings, previous.getTokens(), menuId);
+          }
+        }
+      }
+
+      if (store == null) {
+        StoreDocument previous = stores.remove(storeId);
+        if (previous != null) {
+          removePostings(storePostings, previous.getTokens(), storeId);
+        }
+        return;
+      }
+
+      putStore(store);
+      storeMenus.forEach(this::putMenu);
+    }
+
+    private List<StoreSearchResult> search(Set<String> tokens, double longitude,
+        double latitude, BitSet openStores, int size) {
+      Map<Long, StoreSearchResult> results = new LinkedHashMap<>();
+
+      for (long storeId : match(storePostings, tokens)) {
+        StoreDocument store = stores.get(storeId);
+        if (store != null && isOpen(openStores, storeId)
+            && store.getZone().contains(longitude, latitude)) {
+          results.put(storeId, toResult(store, longitude, latitude, true));
+        }
+      }
+
+      for (long menuId : match(menuPostings, tokens)) {
+        MenuDocument menu = menus.get(menuId);
+        StoreDocument store = menu == null ? null : stores.get(menu.getStoreId());
+        if (store == null || !isOpen(openStores, store.getStoreId())
+            || !store.getZone().contains(longitude, latitude)) {
+          continue;
+        }
+        List<MenuSearchResult> storeMenus = results.computeIfAbsent(store.getStoreId(),
+            key -> toResult(store, longitude, latitude, false)).getMenus();
+        if (storeMenus.size() < MAX_MENUS_PER_STORE) {
+          storeMenus.add(MenuSearchResult.builder()
+              .menuId(menu.getMenuId())
+              .menuName(menu.getMenuName())
+              .price(menu.getPrice())
+              .build());
+        }
+      }
+
+      return results.values().stream()
+          .sorted(Comparator.comparing(StoreSearchResult::isStoreMatched).reversed()
+              .thenComparingDouble(StoreSearchResult::getDistance))
+          .limit(size)
+          .toList();
+    }
+
+    private static boolean isOpen(BitSet openStores, long storeId) {
+      return openStores == null || (storeId <= Integer.MAX_VALUE && openStores.get((int) storeId));
+    }
+
+    /**
+     * 모든 토큰을 포함하는 문서 ID (짧은 posting list 부터 교집합)
+     */
+    private static long[] match(Map<String, byte[]> postings, Set<String> tokens) {
+      List<byte[]> lists = new ArrayList<>(tokens.size());
+      for (String token : tokens) {
+        byte[] list = postings.get(token);
+        if (list == null) {
+          return new long[0];
+        }
+        lists.add(list);
+      }
+      lists.sort(Comparator.comparingInt(list -> list.length));
+
+      long[] ids = PostingList.decode(lists.get(0));
+      for (int i = 1; i < lists.size() && ids.length > 0; i++) {
+        ids = PostingList.intersect(ids, PostingList.decode(lists.get(i)));
+      }
+      return ids;
+    }
+
+    private static StoreSearchResult toResult(StoreDocument store, double longitude,
+        double latitude, boolean storeMatched) {
+      return StoreSearchResult.builder()
+          .storeId(store.getStoreId())
+          .storeName(store.getStoreName())
+          .storeCategoryId(store.getStoreCategoryId())
+          .distance(store.getZone().distanceMeters(longitude, latitude))
+          .storeMatched(storeMatched)
+          .menus(new ArrayList<>())
+          .build();
+    }
+
+    private static void collect(Map<String, PostingList.Builder> builders, String[] tokens,
+        long id) {
+      for (String token : tokens) {
+        builders.computeIfAbsent(token, key -> new PostingList.Builder()).add(id);
+      }
+    }
+
+    private static void addPostings(Map<String, byte[]> postings, String[] tokens, long id) {
+      for (String token : tokens) {
+        postings.compute(token, (key, list) -> PostingList.add(list, id));
+      }
+    }
+
+    private static void removePostings(Map<String, byte[]> postings, String[] tokens,
+        long id) {
+      for (String token : tokens) {
+        postings.computeIfPresent(token, (key, list) -> PostingList.remove(list, id));
+      }
+    }
+  }
+}
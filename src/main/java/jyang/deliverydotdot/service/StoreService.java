@@ -1,6 +1,7 @@
 package jyang.deliverydotdot.service;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import jyang.deliverydotdot.domain.Menu;
 import jyang.deliverydotdot.domain.MenuCategory;
@@ -8,19 +9,25 @@ import jyang.deliverydotdot.domain.Partner;
 import jyang.deliverydotdot.domain.Store;
 import jyang.deliverydotdot.domain.StoreCategory;
 import jyang.deliverydotdot.domain.StoreImage;
+import jyang.deliverydotdot.dto.store.NearbyStoreDTO.NearbyStoreResponse;
+import jyang.deliverydotdot.dto.store.NearbyStoreDTO.NearbyStoreView;
 import jyang.deliverydotdot.dto.store.StoreRegisterForm;
 import jyang.deliverydotdot.dto.store.StoreUpdateForm;
 import jyang.deliverydotdot.exception.RestApiException;
 import jyang.deliverydotdot.repository.MenuCategoryRepository;
 import jyang.deliverydotdot.repository.MenuRepository;
+import jyang.deliverydotdot.repository.PartnerRepository;
 import jyang.deliverydotdot.repository.StoreRepository;
 import jyang.deliverydotdot.type.ErrorCode;
+import jyang.deliverydotdot.type.StoreSortType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.joda.time.format.DateTimeFormat;
 import org.locationtech.jts.geom.Point;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -35,6 +42,8 @@ public class StoreService {
 
   private final MenuRepository menuRepository;
 
+  private final PartnerRepository partnerRepository;
+
   private final StoreCategoryService storeCategoryService;
 
   private final LocationService locationService;
@@ -43,34 +52,139 @@ public class StoreService {
 
   private final StoreImageService storeImageService;
 
+  private final TransactionTemplate transactionTemplate;
+
+  private final StoreSearchService storeSearchService;
+
+  private final StoreMenuService storeMenuService;
+
+  private final StoreScheduleIndex storeScheduleIndex;
+
+  // 가게별 배달 반경의 최대값(m), 주변 가게 조회 범위
+  private static final int MAX_DELIVERY_RADIUS = 10000;
+
+  private static final double METERS_PER_DEGREE = 111_195;
+
+  private static final int MAX_NEARBY_PAGE_SIZE = 50;
+
+  // 영업 중 필터로 걸러질 때 한 요청에서 이어서 조회하는 최대 횟수
+  private static final int MAX_NEARBY_FETCH_ROUNDS = 5;
+
   /**
    * 가게 등록
+   * <p>
+   * 좌표 조회 동안 DB 커넥션을 점유하지 않도록 파트너 조회부터 저장까지 모두 트랜잭션 안에서 수행한다.
    *
-   * @param partner           파트너
+   * @param partnerLoginId    파트너 로그인 아이디
    * @param storeRegisterForm 가게 등록 폼
    */
-  @Transactional
-  public void registerStore(Partner partner, StoreRegisterForm storeRegisterForm) {
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void registerStore(String partnerLoginId, StoreRegisterForm storeRegisterForm) {
     // 가게 등록 유효성 검사
     validateRegisterStore(storeRegisterForm);
 
-    // 가게 카테고리 조회
-    StoreCategory storeCategory =
-        storeCategoryService.getStoreCategoryById(storeRegisterForm.getStoreCategoryId());
-
-    // 주소로 좌표 조회
+    // 주소로 좌표 조회 (외부 API 호출은 트랜잭션 밖에서 수행)
     Point coordinates =
         locationService.getCoordinatesFromAddress(storeRegisterForm.getStoreAddress());
 
-    // 가게 생성
-    Store store = buildStore(partner, storeRegisterForm, storeCategory, coordinates);
+    transactionTemplate.executeWithoutResult(status -> {
+      Partner partner = partnerRepository.findByLoginId(partnerLoginId)
+          .orElseThrow(() -> new RestApiException(ErrorCode.PARTNER_NOT_FOUND));
+
+      // 가게 카테고리 조회
+      StoreCategory storeCategory =
+          storeCategoryService.getStoreCategoryById(storeRegisterForm.getStoreCategoryId());
 
-    // 가게 저장
-    storeRepository.save(store);
+      // 가게 생성
+      Store store = buildStore(partner, storeRegisterForm, storeCategory, coordinates);
+
+      // 가게 저장
+      storeRepository.save(store);
+      storeSearchService.storeChanged(store.getStoreId());
+      storeScheduleIndex.storeChanged(store.getStoreId());
+
+      // 가게 이미지 업로드 및 저장
+      uploadAndSaveStoreImages(store, storeRegisterForm.getStoreImage1(),
+          storeRegisterForm.getStoreImage2(), storeRegisterForm.getStoreImage3());
+    });
+  }
 
-    // 가게 이미지 업로드 및 저장
-    uploadAndSaveStoreImages(store, storeRegisterForm.getStoreImage1(),
-        storeRegisterForm.getStoreImage2(), storeRegisterForm.getStoreImage3());
+  /**
+   * 주변 가게 조회
+   * <p>
+   * 배송지가 배달 가능 반경 안에 있는 가게만 조회하며, (정렬 값, 가게 ID) 커서로 다음 페이지를 조회한다.
+   *
+   * @param longitude       경도
+   * @param latitude        위도
+   * @param storeCategoryId 가게 카테고리 ID (선택)
+   * @param openNow         영업 중인 가게만 조회
+   * @param sort            정렬 (거리순 / 별점순)
+   * @param cursorValue     이전 페이지의 nextCursorValue
+   * @param cursorId        이전 페이지의 nextCursorId
+   * @param size            페이지 크기
+   * @return 주변 가게 목록
+   */
+  public NearbyStoreResponse getNearbyStores(double longitude, double latitude,
+      Long storeCategoryId, boolean openNow, StoreSortType sort, Double cursorValue,
+      Long cursorId, int size) {
+    if (longitude < -180 || longitude > 180 || latitude < -90 || latitude > 90
+        || size < 1 || size > MAX_NEARBY_PAGE_SIZE) {
+      throw new RestApiException(ErrorCode.INVALID_REQUEST);
+    }
+
+    double latitudeDelta = MAX_DELIVERY_RADIUS / METERS_PER_DEGREE;
+    double longitudeDelta = latitudeDelta / Math.cos(Math.toRadians(latitude));
+    double lastValue = cursorValue != null ? cursorValue
+        : sort == StoreSortType.RATING ? Double.MAX_VALUE : -1;
+    long lastId = cursorId != null ? cursorId : 0;
+
+    // 영업 중 필터는 영업 중인 가게 비트셋으로 거르며, 걸러진 만큼 다음 구간을 이어서 조회
+    List<NearbyStoreView> stores = new ArrayList<>();
+    boolean exhausted = false;
+    for (int round = 0; round < MAX_NEARBY_FETCH_ROUNDS && stores.size() <= size; round++) {
+      // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+      List<NearbyStoreView> rows = sort == StoreSortType.RATING
+          ? storeRepository.findNearbyOrderByRating(longitude, latitude,
+          longitude - longitudeDelta, latitude - latitudeDelta,
+          longitude + longitudeDelta, latitude + latitudeDelta,
+          LocationService.DEFAULT_DELIVERY_RADIUS, storeCategoryId, lastValue, lastId, size + 1)
+          : storeRepository.findNearbyOrderByDistance(longitude, latitude,
+              longitude - longitudeDelta, latitude - latitudeDelta,
+              longitude + longitudeDelta, latitude + latitudeDelta,
+              LocationService.DEFAULT_DELIVERY_RADIUS, storeCategoryId, lastValue, lastId,
+              size + 1);
+
+      for (NearbyStoreView row : rows) {
+        if (stores.size() > size) {
+          break;
+        }
+        if (!openNow || storeScheduleIndex.isOpen(row.getStoreId())) {
+          stores.add(row);
+        }
+        lastValue = sort == StoreSortType.RATING ? row.getAverageRating() : row.getDistance();
+        lastId = row.getStoreId();
+      }
+      if (rows.size() <= size) {
+        exhausted = true;
+        break;
+      }
+    }
+
+    // 다음 커서는 페이지가 가득 차면 마지막으로 반환한 가게, 아니면 마지막으로 확인한 가게
+    boolean hasNext = stores.size() > size || !exhausted;
+    if (stores.size() > size) {
+      stores = stores.subList(0, size);
+      NearbyStoreView last = stores.get(size - 1);
+      lastValue = sort == StoreSortType.RATING ? last.getAverageRating() : last.getDistance();
+      lastId = last.getStoreId();
+    }
+
+    return NearbyStoreResponse.builder()
+        .stores(stores)
+        .hasNext(hasNext)
+        .nextCursorValue(hasNext ? lastValue : null)
+        .nextCursorId(hasNext ? lastId : null)
+        .build();
   }
 
   /**
@@ -93,6 +207,9 @@ public class StoreService {
 
     // 가게 정보 업데이트
     store.update(storeUpdateForm);
+    storeSearchService.storeChanged(store.getStoreId());
+    storeMenuService.storeMenuChanged(store.getStoreId());
+    storeScheduleIndex.storeChanged(store.getStoreId());
 
     // 가게 이미지 업로드 및 업데이트
     updateStoreImages(store, storeUpdateForm.getStoreImage1(), storeUpdateForm.getStoreImage2(),
@@ -119,6 +236,9 @@ public class StoreService {
 
     // 가게 삭제
     storeRepository.delete(store);
+    storeSearchService.storeChanged(storeId);
+    storeMenuService.storeMenuChanged(storeId);
+    storeScheduleIndex.storeChanged(storeId);
 
     // 가게 이미지 삭제
     List<StoreImage> storeImages = storeImageService.getStoreImagesByStore(store);
@@ -158,6 +278,7 @@ public class StoreService {
         .closeTime(storeRegisterForm.getCloseTime())
         .lastOrderTime(storeRegisterForm.getLastOrderTime())
         .description(storeRegisterForm.getDescription())
+        .deliveryRadius(storeRegisterForm.getDeliveryRadius())
         .averageRating(0.0)
         .reviewCount(0)
         .build();
@@ -25,7 +25,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Point;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
@@ -41,39 +43,44 @@ public class UserService {
 
   private final BCryptPasswordEncoder passwordEncoder;
 
+  private final TransactionTemplate transactionTemplate;
+
   /**
    * 사용자 등록
    *
    * @param userJoinForm 사용자 등록 폼
    */
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public void registerUser(UserJoinForm userJoinForm) {
 
     validateRegisterUser(userJoinForm);
 
-    User savedUser = User.builder()
-        .loginId(userJoinForm.getLoginId())
-        .password(passwordEncoder.encode(userJoinForm.getPassword()))
-        .name(userJoinForm.getName())
-        .email(userJoinForm.getEmail())
-        .phone(userJoinForm.getPhone())
-        .address(userJoinForm.getAddress())
-        .authType(LOCAL)
-        .build();
-
-    userRepository.save(savedUser);
-
+    // 주소로 좌표 조회 (외부 API 호출은 트랜잭션 밖에서 수행)
     Point coordinates = locationService.getCoordinatesFromAddress(userJoinForm.getAddress());
 
-    UserDeliveryAddress deliveryAddress = UserDeliveryAddress.builder()
-        .user(savedUser)
-        .addressName("default")
-        .address(userJoinForm.getAddress())
-        .coordinates(coordinates)
-        .isDefaultAddress(true)
-        .build();
-
-    userDeliveryAddressRepository.save(deliveryAddress);
+    transactionTemplate.executeWithoutResult(status -> {
+      User savedUser = User.builder()
+          .loginId(userJoinForm.getLoginId())
+          .password(passwordEncoder.encode(userJoinForm.getPassword()))
+          .name(userJoinForm.getName())
+          .email(userJoinForm.getEmail())
+          .phone(userJoinForm.getPhone())
+          .address(userJoinForm.getAddress())
+          .authType(LOCAL)
+          .build();
+
+      userRepository.save(savedUser);
+
+      UserDeliveryAddress deliveryAddress = UserDeliveryAddress.builder()
+          .user(savedUser)
+          .addressName("default")
+          .address(userJoinForm.getAddress())
+          .coordinates(coordinates)
+          .isDefaultAddress(true)
+          .build();
+
+      userDeliveryAddressRepository.save(deliveryAddress);
+    });
   }
 
   /**
@@ -189,25 +196,27 @@ public class UserService {
    * @param user                사용자
    * @param userDeliveryAddress 사용자 배송지 DTO
    */
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public void addAddress(User user, AddAddressRequest userDeliveryAddress) {
+    // 주소로 좌표 조회 (외부 API 호출은 트랜잭션 밖에서 수행)
     Point coordinates = locationService.getCoordinatesFromAddress(
         userDeliveryAddress.getAddress());
 
-    if (userDeliveryAddress.getIsDefault() != null && userDeliveryAddress.getIsDefault()) {
-      userDeliveryAddressRepository.clearDefaultAddress(user);
-    }
-
-    UserDeliveryAddress address = UserDeliveryAddress.builder()
-        .user(user)
-        .addressName(userDeliveryAddress.getAddressName())
-        .address(userDeliveryAddress.getAddress())
-        .coordinates(coordinates)
-        .isDefaultAddress(userDeliveryAddress.getIsDefault())
-        .build();
-
-    userDeliveryAddressRepository.save(address);
-
+    transactionTemplate.executeWithoutResult(status -> {
+      if (userDeliveryAddress.getIsDefault() != null && userDeliveryAddress.getIsDefault()) {
+        userDeliveryAddressRepository.clearDefaultAddress(user);
+      }
+
+      UserDeliveryAddress address = UserDeliveryAddress.builder()
+          .user(user)
+          .addressName(userDeliveryAddress.getAddressName())
+          .address(userDeliveryAddress.getAddress())
+          .coordinates(coordinates)
+          .isDefaultAddress(userDeliveryAddress.getIsDefault())
+          .build();
+
+      userDeliveryAddressRepository.save(address);
+    });
   }
 
   /**
@@ -242,7 +251,7 @@ public class UserService {
    * @param user                   사용자
    * @param userDeliveryAddressDTO 사용자 배송지 DTO
    */
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public void updateAddress(User user, UpdateAddressRequest userDeliveryAddressDTO) {
     UserDeliveryAddress address = findByAddressId(userDeliveryAddressDTO.getAddressId());
 
@@ -252,14 +261,19 @@ public class UserService {
       return;
     }
 
-    if (userDeliveryAddressDTO.getIsDefault() != null && userDeliveryAddressDTO.getIsDefault()) {
-      userDeliveryAddressRepository.clearDefaultAddress(user);
-    }
-
+    // 주소로 좌표 조회 (외부 API 호출은 트랜잭션 밖에서 수행)
     Point coordinates = locationService.getCoordinatesFromAddress(
         userDeliveryAddressDTO.getAddress());
 
-    address.update(userDeliveryAddressDTO, coordinates);
+    transactionTemplate.executeWithoutResult(status -> {
+      if (userDeliveryAddressDTO.getIsDefault() != null && userDeliveryAddressDTO.getIsDefault()) {
+        userDeliveryAddressRepository.clearDefaultAddress(user);
+      }
+
+      // 트랜잭션 밖에서 읽은 배송지는 변경 감지되지 않으므로 다시 읽어 수정
+      findByAddressId(userDeliveryAddressDTO.getAddressId())
+          .update(userDeliveryAddressDTO, coordinates);
+    });
   }
 
   /**
@@ -7,11 +7,14 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum DeliveryMethod {
 
-  ON_FOOT("도보"),
-  BICYCLE("자전거"),
-  MOTORCYCLE("오토바이"),
-  CAR("자동차");
+  ON_FOOT("도보", 4),
+  BICYCLE("자전거", 15),
+  MOTORCYCLE("오토바이", 30),
+  CAR("자동차", 25);
 
   private final String description;
 
+  // 도심 평균 이동 속도 (km/h), 배차 시 도착 예상 시간 계산에 사용
+  private final int speedKmPerHour;
+
 }
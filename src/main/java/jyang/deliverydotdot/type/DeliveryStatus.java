@@ -6,11 +6,14 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum DeliveryStatus {
-  ASSIGNED("배정 완료"),
-  DELIVERING("배달 중"),
-  DELIVERED("배달 완료"),
-  FAILED("배달 실패"),
+  ASSIGNED("배정 완료", 0),
+  DELIVERING("배달 중", 1),
+  DELIVERED("배달 완료", 2),
+  FAILED("배달 실패", 2),
   ;
 
   private final String description;
+
+  // 진행 단계 (상태는 단계가 커지는 방향으로만 바뀐다)
+  private final int stage;
 }
@@ -40,7 +40,10 @@ public enum ErrorCode {
   MENU_CATEGORY_HAS_MENUS(BAD_REQUEST, "메뉴 카테고리에 메뉴가 존재합니다. 메뉴를 먼저 삭제해주세요."),
   INVALID_MENU_CATEGORY_COUNT(BAD_REQUEST, "메뉴 카테고리는 1개 이상 5개 이하로 등록 가능합니다."),
 
+  MENU_ORDER_CONFLICT(HttpStatus.CONFLICT, "다른 기기에서 순서가 먼저 변경되었습니다. 새로고침 후 다시 시도해주세요."),
+  INVALID_MENU_ORDER(BAD_REQUEST, "순서를 지정한 항목이 현재 목록과 일치하지 않습니다."),
   MENU_NOT_FOUND(BAD_REQUEST, "메뉴를 찾을 수 없습니다."),
+  MENU_SOLD_OUT(BAD_REQUEST, "품절된 메뉴가 있습니다."),
   INVALID_CART_ITEM(BAD_REQUEST, "유효하지 않은 장바구니 아이템입니다."),
   CART_ITEM_NOT_SAME_STORE(BAD_REQUEST, "장바구니에는 같은 가게의 메뉴만 추가 가능합니다."),
   MENU_DOES_NOT_BELONG_TO_STORE(BAD_REQUEST, "메뉴가 가게에 속해 있지 않습니다."),
@@ -56,8 +59,11 @@ public enum ErrorCode {
   INVALID_PRICE(BAD_REQUEST, "유효하지 않은 가격입니다."),
   OUT_OF_DELIVERY_AREA(BAD_REQUEST, "배달 가능 지역이 아닙니다."),
   ORDER_NOT_FOUND(BAD_REQUEST, "주문을 찾을 수 없습니다."),
+  ORDER_INTAKE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "주문이 몰려 접수할 수 없습니다. 잠시 후 다시 시도해주세요."),
   CAN_NOT_CHANGE_ORDER_STATUS(BAD_REQUEST, "주문 상태를 변경할 수 없습니다."),
   INVALID_LOCATION(BAD_REQUEST, "위치 정보가 유효하지 않습니다."),
+  INVALID_MENU_FILE(BAD_REQUEST, "메뉴 파일을 읽을 수 없습니다. 파일 형식을 확인해주세요."),
+  SEARCH_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "검색을 준비 중입니다. 잠시 후 다시 시도해주세요."),
   ALREADY_EXIST_DELIVERY(BAD_REQUEST, "이미 배달이 진행 중인 주문입니다."),
   NOT_FOUND_DELIVERY(BAD_REQUEST, "배달 정보를 찾을 수 없습니다."),
   NOT_OWNER_DELIVERY(BAD_REQUEST, "배달 담당자가 아닙니다."),
@@ -0,0 +1,13 @@
+package jyang.deliverydotdot.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum LocationEventType {
+  ADDED("위치 등록"),
+  REMOVED("위치 삭제");
+
+  private final String description;
+}
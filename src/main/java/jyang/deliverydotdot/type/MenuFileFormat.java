@@ -0,0 +1,15 @@
+package jyang.deliverydotdot.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum MenuFileFormat {
+  CSV("text/csv", ".csv"),
+  JSON("application/json", ".json");
+
+  private final String contentType;
+
+  private final String extension;
+}
@@ -0,0 +1,14 @@
+package jyang.deliverydotdot.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum OrderIntakeStatus {
+  QUEUED("주문 접수 대기 중"),
+  PLACED("주문 완료"),
+  FAILED("주문 실패");
+
+  private final String description;
+}
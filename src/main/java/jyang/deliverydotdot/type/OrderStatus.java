@@ -6,12 +6,15 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum OrderStatus {
-  PENDING("주문 대기 중"),
-  APPROVED("주문 승인 완료"),
-  REJECTED("주문 거절"),
-  COOKING("조리 중"),
-  COOKED("조리 완료"),
-  CANCELED("주문 취소");
+  PENDING("주문 대기 중", 0),
+  APPROVED("주문 승인 완료", 1),
+  REJECTED("주문 거절", 3),
+  COOKING("조리 중", 2),
+  COOKED("조리 완료", 3),
+  CANCELED("주문 취소", 3);
 
   private final String description;
+
+  // 진행 단계 (상태는 단계가 커지는 방향으로만 바뀐다, OrderTransition)
+  private final int stage;
 }
@@ -0,0 +1,49 @@
+package jyang.deliverydotdot.type;
+
+import static jyang.deliverydotdot.type.OrderStatus.APPROVED;
+import static jyang.deliverydotdot.type.OrderStatus.CANCELED;
+import static jyang.deliverydotdot.type.OrderStatus.COOKED;
+import static jyang.deliverydotdot.type.OrderStatus.COOKING;
+import static jyang.deliverydotdot.type.OrderStatus.PENDING;
+import static jyang.deliverydotdot.type.OrderStatus.REJECTED;
+
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 주문 상태 전이 표
+ * <p>
+ * 전이마다 수행하는 쪽(파트너 / 사용자), 전이 가능한 이전 상태, 전이 후 상태를 정의한다. 전이는 이전 상태와 소유자를 조건으로 한 UPDATE
+ * 한 문장으로 수행된다 (OrderRepositoryCustom).
+ */
+@Getter
+public enum OrderTransition {
+  APPROVE(Actor.PARTNER, EnumSet.of(PENDING), APPROVED),
+  REJECT(Actor.PARTNER, EnumSet.of(PENDING), REJECTED),
+  CANCEL_BY_PARTNER(Actor.PARTNER, EnumSet.of(PENDING), CANCELED),
+  COOK(Actor.PARTNER, EnumSet.of(APPROVED), COOKING),
+  COMPLETE(Actor.PARTNER, EnumSet.of(COOKING), COOKED),
+  CANCEL_BY_USER(Actor.USER, EnumSet.of(PENDING, APPROVED), CANCELED);
+
+  private final Actor actor;
+
+  private final Set<OrderStatus> from;
+
+  private final OrderStatus to;
+
+  OrderTransition(Actor actor, Set<OrderStatus> from, OrderStatus to) {
+    this.actor = actor;
+    this.from = from;
+    this.to = to;
+  }
+
+  public boolean canTransitionFrom(OrderStatus status) {
+    return from.contains(status);
+  }
+
+  public enum Actor {
+    PARTNER,
+    USER
+  }
+}
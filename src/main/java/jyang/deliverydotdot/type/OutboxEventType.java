@@ -0,0 +1,23 @@
+package jyang.deliverydotdot.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum OutboxEventType {
+  ORDER_PLACED("주문 생성", AggregateType.PURCHASE_ORDER),
+  ORDER_STATUS_CHANGED("주문 상태 변경", AggregateType.PURCHASE_ORDER),
+  DELIVERY_STATUS_CHANGED("배달 상태 변경", AggregateType.DELIVERY),
+  ;
+
+  private final String description;
+
+  // 같은 대상(aggregate)의 이벤트는 ID 순서대로 전달 (노드 간에는 바뀔 수 있음, OutboxRelay 참고)
+  private final AggregateType aggregateType;
+
+  public enum AggregateType {
+    PURCHASE_ORDER,
+    DELIVERY
+  }
+}
@@ -0,0 +1,13 @@
+package jyang.deliverydotdot.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum StoreSortType {
+  DISTANCE("거리순"),
+  RATING("별점순");
+
+  private final String description;
+}
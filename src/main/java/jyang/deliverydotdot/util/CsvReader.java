@@ -0,0 +1,97 @@
+package jyang.deliverydotdot.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 행 단위 읽기 (RFC 4180)
+ * <p>
+ * 파일 전체를 읽어 두지 않고 한 행씩 읽는다. 큰따옴표로 감싼 값 안의 쉼표 / 줄바꿈과 "" 로 쓴 큰따옴표를 처리하며, 파일 앞의 UTF-8 BOM 은
+ * 건너뛴다.
+ */
+public class CsvReader {
+
+  private static final int BOM = '\uFEFF';
+
+  private final Reader reader;
+
+  private int peeked = -2;
+
+  private boolean started;
+
+  public CsvReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * 다음 행 읽기
+   *
+   * @return 행의 값 목록, 더 이상 행이 없으면 null
+   * @throws IOException 읽기 실패 또는 닫히지 않은 큰따옴표
+   */
+  public List<String> next() throws IOException {
+    int ch = read();
+    if (!started) {
+      started = true;
+      if (ch == BOM) {
+        ch = read();
+      }
+    }
+    if (ch == -1) {
+      return null;
+    }
+
+    List<String> values = new ArrayList<>();
+    StringBuilder value = new StringBuilder();
+    boolean quoted = false;
+    while (true) {
+      if (quoted) {
+        if (ch == -1) {
+          throw new IOException("Unterminated quoted value");
+        }
+        if (ch == '"') {
+          if (peek() == '"') {
+            read();
+            value.append('"');
+          } else {
+            quoted = false;
+          }
+        } else {
+          value.append((char) ch);
+        }
+      } else if (ch == '"' && value.isEmpty()) {
+        quoted = true;
+      } else if (ch == ',') {
+        values.add(value.toString());
+        value.setLength(0);
+      } else if (ch == '\r' || ch == '\n' || ch == -1) {
+        if (ch == '\r' && peek() == '\n') {
+          read();
+        }
+        values.add(value.toString());
+        return values;
+      } else {
+        value.append((char) ch);
+      }
+      ch = read();
+    }
+  }
+
+  private int read() throws IOException {
+    if (peeked != -2) {
+      int ch = peeked;
+      peeked = -2;
+      return ch;
+    }
+    return reader.read();
+  }
+
+  private int peek() throws IOException {
+    if (peeked == -2) {
+      peeked = reader.read();
+    }
+    return peeked;
+  }
+}
@@ -0,0 +1,44 @@
+package jyang.deliverydotdot.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV 행 단위 쓰기 (RFC 4180)
+ * <p>
+ * 쉼표 / 큰따옴표 / 줄바꿈이 있는 값만 큰따옴표로 감싸며, null 은 빈 값으로 쓴다.
+ */
+public class CsvWriter {
+
+  private final Writer writer;
+
+  public CsvWriter(Writer writer) {
+    this.writer = writer;
+  }
+
+  /**
+   * 한 행 쓰기
+   *
+   * @param values 행의 값
+   * @throws IOException 쓰기 실패
+   */
+  public void write(Object... values) throws IOException {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      if (values[i] != null) {
+        writer.write(escape(values[i].toString()));
+      }
+    }
+    writer.write("\r\n");
+  }
+
+  static String escape(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
@@ -0,0 +1,79 @@
+package jyang.deliverydotdot.util;
+
+/**
+ * 가게 배달 가능 영역 (중심 좌표 + 반경)
+ * <p>
+ * 생성 시 중심 위도의 cos 값과 반경의 제곱을 미리 계산해 두고, 포함 여부는 등장방형(equirectangular) 근사로 곱셈 몇 번만에 판단한다.
+ * 배달 반경(수 km) 수준에서는 haversine 과의 오차가 0.1% 미만이다.
+ */
+public final class DeliveryZone {
+
+  private static final double METERS_PER_DEGREE =
+      Math.toRadians(GeoDistance.EARTH_RADIUS_KM * 1000);
+
+  private final double centerLongitude;
+
+  private final double centerLatitude;
+
+  private final double radiusMeters;
+
+  // 경도 1도의 거리(m), 중심 위도 기준
+  private final double longitudeScale;
+
+  private final double radiusSquared;
+
+  private DeliveryZone(double centerLongitude, double centerLatitude, double radiusMeters) {
+    this.centerLongitude = centerLongitude;
+    this.centerLatitude = centerLatitude;
+    this.radiusMeters = radiusMeters;
+    this.longitudeScale = Math.cos(Math.toRadians(centerLatitude)) * METERS_PER_DEGREE;
+    this.radiusSquared = radiusMeters * radiusMeters;
+  }
+
+  /**
+   * 배달 가능 영역 생성
+   *
+   * @param centerLongitude 중심 경도
+   * @param centerLatitude  중심 위도
+   * @param radiusMeters    반경(m)
+   * @return 배달 가능 영역
+   */
+  public static DeliveryZone of(double centerLongitude, double centerLatitude,
+      double radiusMeters) {
+    return new DeliveryZone(centerLongitude, centerLatitude, radiusMeters);
+  }
+
+  /**
+   * 좌표가 영역 안에 있는지 확인
+   *
+   * @param longitude 경도
+   * @param latitude  위도
+   * @return 영역 안이면 true
+   */
+  public boolean contains(double longitude, double latitude) {
+    double dx = (longitude - centerLongitude) * longitudeScale;
+    double dy = (latitude - centerLatitude) * METERS_PER_DEGREE;
+    return dx * dx + dy * dy <= radiusSquared;
+  }
+
+  /**
+   * 중심으로부터의 거리(m)
+   */
+  public double distanceMeters(double longitude, double latitude) {
+    double dx = (longitude - centerLongitude) * longitudeScale;
+    double dy = (latitude - centerLatitude) * METERS_PER_DEGREE;
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+
+  /**
+   * 같은 중심 / 반경으로 만든 영역인지 확인 (캐시 검증용)
+   */
+  public boolean matches(double centerLongitude, double centerLatitude, double radiusMeters) {
+    return this.centerLongitude == centerLongitude && this.centerLatitude == centerLatitude
+        && this.radiusMeters == radiusMeters;
+  }
+
+  public double getRadiusMeters() {
+    return radiusMeters;
+  }
+}
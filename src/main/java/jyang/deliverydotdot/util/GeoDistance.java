@@ -0,0 +1,33 @@
+package jyang.deliverydotdot.util;
+
+/**
+ * 좌표 간 거리 계산
+ */
+public final class GeoDistance {
+
+  static final double EARTH_RADIUS_KM = 6371.0088;
+
+  private GeoDistance() {
+  }
+
+  /**
+   * 두 좌표 간 대권 거리(km) - haversine
+   *
+   * @param fromLongitude 출발 경도
+   * @param fromLatitude  출발 위도
+   * @param toLongitude   도착 경도
+   * @param toLatitude    도착 위도
+   * @return 거리(km)
+   */
+  public static double haversineKm(double fromLongitude, double fromLatitude,
+      double toLongitude, double toLatitude) {
+    double dLat = Math.toRadians(toLatitude - fromLatitude);
+    double dLon = Math.toRadians(toLongitude - fromLongitude);
+    double sinLat = Math.sin(dLat / 2);
+    double sinLon = Math.sin(dLon / 2);
+    double a = sinLat * sinLat
+        + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude))
+        * sinLon * sinLon;
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
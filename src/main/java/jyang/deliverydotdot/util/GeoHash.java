@@ -0,0 +1,108 @@
+package jyang.deliverydotdot.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Geohash 인코딩 및 반경 검색용 셀 계산
+ */
+public final class GeoHash {
+
+  private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+  private static final double KM_PER_DEGREE = 111.32;
+
+  private GeoHash() {
+  }
+
+  /**
+   * 좌표를 geohash 문자열로 인코딩
+   *
+   * @param longitude 경도
+   * @param latitude  위도
+   * @param precision geohash 길이
+   * @return geohash
+   */
+  public static String encode(double longitude, double latitude, int precision) {
+    double minLat = -90, maxLat = 90;
+    double minLon = -180, maxLon = 180;
+
+    StringBuilder hash = new StringBuilder(precision);
+    boolean evenBit = true;
+    int bit = 0;
+    int ch = 0;
+
+    while (hash.length() < precision) {
+      if (evenBit) {
+        double mid = (minLon + maxLon) / 2;
+        if (longitude >= mid) {
+          ch = (ch << 1) | 1;
+          minLon = mid;
+        } else {
+          ch = ch << 1;
+          maxLon = mid;
+        }
+      } else {
+        double mid = (minLat + maxLat) / 2;
+        if (latitude >= mid) {
+          ch = (ch << 1) | 1;
+          minLat = mid;
+        } else {
+          ch = ch << 1;
+          maxLat = mid;
+        }
+      }
+      evenBit = !evenBit;
+
+      if (++bit == 5) {
+        hash.append(BASE32[ch]);
+        bit = 0;
+        ch = 0;
+      }
+    }
+    return hash.toString();
+  }
+
+  /**
+   * 중심 좌표로부터 반경 내 영역을 덮는 geohash 셀 목록 조회
+   *
+   * @param longitude 경도
+   * @param latitude  위도
+   * @param radiusKm  반경(km)
+   * @param precision geohash 길이
+   * @return 반경을 덮는 셀 목록
+   */
+  public static Set<String> coveringCells(double longitude, double latitude, double radiusKm,
+      int precision) {
+    int lonBits = (precision * 5 + 1) / 2;
+    int latBits = (precision * 5) / 2;
+    long lonCells = 1L << lonBits;
+    long latCells = 1L << latBits;
+    double cellWidth = 360.0 / lonCells;
+    double cellHeight = 180.0 / latCells;
+
+    double latDelta = radiusKm / KM_PER_DEGREE;
+    double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+    double lonDelta = radiusKm / (KM_PER_DEGREE * cosLat);
+
+    long minLatIndex = Math.max(0, (long) Math.floor((latitude - latDelta + 90) / cellHeight));
+    long maxLatIndex =
+        Math.min(latCells - 1, (long) Math.floor((latitude + latDelta + 90) / cellHeight));
+    long minLonIndex = (long) Math.floor((longitude - lonDelta + 180) / cellWidth);
+    long maxLonIndex = (long) Math.floor((longitude + lonDelta + 180) / cellWidth);
+    if (maxLonIndex - minLonIndex >= lonCells) {
+      maxLonIndex = minLonIndex + lonCells - 1;
+    }
+
+    Set<String> cells = new LinkedHashSet<>();
+    for (long latIndex = minLatIndex; latIndex <= maxLatIndex; latIndex++) {
+      double cellLat = -90 + (latIndex + 0.5) * cellHeight;
+      for (long lonIndex = minLonIndex; lonIndex <= maxLonIndex; lonIndex++) {
+        long wrapped = Math.floorMod(lonIndex, lonCells);
+        double cellLon = -180 + (wrapped + 0.5) * cellWidth;
+        cells.add(encode(cellLon, cellLat, precision));
+      }
+    }
+    return cells;
+  }
+}
@@ -0,0 +1,92 @@
+package jyang.deliverydotdot.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 검색용 n-gram 토크나이저
+ * <p>
+ * 한글은 띄어쓰기와 조사가 일정하지 않아 형태소 분석 대신 음절 bigram 을 사용한다. 문자열을 NFKC 정규화 / 소문자 변환한 뒤 한글, 영문,
+ * 숫자가 이어지는 구간(run)으로 나누고 구간마다 bigram 을 만든다. "BHC치킨" 은 "bhc" 와 "치킨" 두 구간이 된다.
+ * <p>
+ * 한 글자 검색어("닭")를 찾을 수 있도록 색인 시에는 각 구간의 첫 글자도 토큰으로 추가한다.
+ */
+public final class NgramTokenizer {
+
+  private static final int NONE = 0;
+
+  private static final int HANGUL = 1;
+
+  private static final int LATIN = 2;
+
+  private static final int DIGIT = 3;
+
+  private NgramTokenizer() {
+  }
+
+  /**
+   * 색인 토큰 (bigram + 구간 첫 글자)
+   *
+   * @param text 색인할 문자열
+   * @return 토큰 목록 (중복 제거)
+   */
+  public static Set<String> indexTokens(String text) {
+    return tokenize(text, true);
+  }
+
+  /**
+   * 검색 토큰 (bigram, 한 글자 구간은 그대로)
+   *
+   * @param query 검색어
+   * @return 토큰 목록 (중복 제거)
+   */
+  public static Set<String> queryTokens(String query) {
+    return tokenize(query, false);
+  }
+
+  private static Set<String> tokenize(String text, boolean index) {
+    Set<String> tokens = new LinkedHashSet<>();
+    if (text == null || text.isEmpty()) {
+      return tokens;
+    }
+
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+    int start = 0;
+    int runType = NONE;
+    for (int i = 0; i <= normalized.length(); i++) {
+      int type = i < normalized.length() ? charType(normalized.charAt(i)) : NONE;
+      if (type != runType) {
+        if (runType != NONE) {
+          addRun(tokens, normalized, start, i, index);
+        }
+        start = i;
+        runType = type;
+      }
+    }
+    return tokens;
+  }
+
+  private static void addRun(Set<String> tokens, String text, int start, int end,
+      boolean index) {
+    if (end - start == 1 || index) {
+      tokens.add(text.substring(start, start + 1));
+    }
+    for (int i = start; i + 2 <= end; i++) {
+      tokens.add(text.substring(i, i + 2));
+    }
+  }
+
+  private static int charType(char c) {
+    if (c >= '가' && c <= '힣') {
+      return HANGUL;
+    }
+    if (c >= 'a' && c <= 'z') {
+      return LATIN;
+    }
+    if (c >= '0' && c <= '9') {
+      return DIGIT;
+    }
+    return NONE;
+  }
+}
@@ -0,0 +1,175 @@
+package jyang.deliverydotdot.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * 압축 posting list (정렬된 문서 ID 목록)
+ * <p>
+ * 오름차순 ID 의 차이를 varint 로 기록하여 ID 하나에 보통 1~2 바이트를 사용한다. 배열은 변경하지 않고 추가 / 삭제 시 새 배열을 만들므로
+ * 읽기 쪽은 잠금 없이 사용할 수 있다. 많은 ID 를 한꺼번에 넣을 때는 {@link Builder} 로 모은 뒤 한 번만 인코딩한다.
+ * <pre>
+ * [count:varint]([delta:varint])*
+ * </pre>
+ */
+public final class PostingList {
+
+  private PostingList() {
+  }
+
+  /**
+   * 인코딩
+   *
+   * @param ids 오름차순 ID 목록
+   * @return posting list
+   */
+  public static byte[] encode(long[] ids) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(1 + ids.length * 2);
+    writeVarint(out, ids.length);
+    long previous = 0;
+    for (long id : ids) {
+      writeVarint(out, id - previous);
+      previous = id;
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * 디코딩
+   *
+   * @param postings posting list
+   * @return 오름차순 ID 목록
+   */
+  public static long[] decode(byte[] postings) {
+    int[] position = {0};
+    int count = (int) readVarint(postings, position);
+    long[] ids = new long[count];
+    long id = 0;
+    for (int i = 0; i < count; i++) {
+      id += readVarint(postings, position);
+      ids[i] = id;
+    }
+    return ids;
+  }
+
+  /**
+   * ID 추가
+   *
+   * @return ID 가 추가된 posting list (이미 있으면 그대로)
+   */
+  public static byte[] add(byte[] postings, long id) {
+    long[] ids = postings == null ? new long[0] : decode(postings);
+    int index = Arrays.binarySearch(ids, id);
+    if (index >= 0) {
+      return postings;
+    }
+    int insertAt = -index - 1;
+    long[] added = new long[ids.length + 1];
+    System.arraycopy(ids, 0, added, 0, insertAt);
+    added[insertAt] = id;
+    System.arraycopy(ids, insertAt, added, insertAt + 1, ids.length - insertAt);
+    return encode(added);
+  }
+
+  /**
+   * ID 삭제
+   *
+   * @return ID 가 삭제된 posting list, 비었으면 null
+   */
+  public static byte[] remove(byte[] postings, long id) {
+    if (postings == null) {
+      return null;
+    }
+    long[] ids = decode(postings);
+    int index = Arrays.binarySearch(ids, id);
+    if (index < 0) {
+      return postings;
+    }
+    if (ids.length == 1) {
+      return null;
+    }
+    long[] removed = new long[ids.length - 1];
+    System.arraycopy(ids, 0, removed, 0, index);
+    System.arraycopy(ids, index + 1, removed, index, ids.length - index - 1);
+    return encode(removed);
+  }
+
+  /**
+   * 교집합
+   *
+   * @param left  오름차순 ID 목록
+   * @param right 오름차순 ID 목록
+   * @return 두 목록에 모두 있는 ID
+   */
+  public static long[] intersect(long[] left, long[] right) {
+    long[] result = new long[Math.min(left.length, right.length)];
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < left.length && j < right.length) {
+      if (left[i] < right[j]) {
+        i++;
+      } else if (left[i] > right[j]) {
+        j++;
+      } else {
+        result[count++] = left[i];
+        i++;
+        j++;
+      }
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  /**
+   * posting list 일괄 생성 (ID 를 모두 모은 뒤 한 번만 정렬 / 인코딩)
+   */
+  public static final class Builder {
+
+    private long[] ids = new long[4];
+
+    private int size;
+
+    public Builder add(long id) {
+      if (size == ids.length) {
+        ids = Arrays.copyOf(ids, size * 2);
+      }
+      ids[size++] = id;
+      return this;
+    }
+
+    /**
+     * @return 중복을 제거한 오름차순 posting list
+     */
+    public byte[] build() {
+      long[] sorted = Arrays.copyOf(ids, size);
+      Arrays.sort(sorted);
+      int count = 0;
+      for (int i = 0; i < sorted.length; i++) {
+        if (count == 0 || sorted[count - 1] != sorted[i]) {
+          sorted[count++] = sorted[i];
+        }
+      }
+      return encode(count == sorted.length ? sorted : Arrays.copyOf(sorted, count));
+    }
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static long readVarint(byte[] in, int[] position) {
+    long value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = in[position[0]++];
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+}
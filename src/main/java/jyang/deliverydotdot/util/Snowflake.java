@@ -0,0 +1,124 @@
+package jyang.deliverydotdot.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 정렬 가능한 64비트 ID 생성 (Snowflake)
+ * <p>
+ * 부호 1비트를 제외하고 시간(기준 시각부터의 ms) 41비트, 노드 ID 10비트, 순번 12비트로 구성한다. 잠금 없이 CAS 로 마지막 (시간, 순번)을
+ * 갱신하며, 같은 ms 에 순번이 넘치거나 시계가 뒤로 가면 논리 시간을 1ms 씩 앞당겨 노드 안에서 항상 증가하는 ID 를 만든다. 노드 ID
+ * 임대 만료 시각이 지나면 다른 노드가 같은 노드 ID 를 받았을 수 있으므로 발급하지 않는다.
+ */
+public final class Snowflake {
+
+  // 2024-01-01T00:00:00Z
+  public static final long DEFAULT_EPOCH_MILLIS = 1704067200000L;
+
+  public static final int NODE_BITS = 10;
+
+  public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+  private static final int SEQUENCE_BITS = 12;
+
+  // Crockford Base32 (I, L, O, U 제외)
+  private static final char[] BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+  private static final int ORDER_NUMBER_LENGTH = 13;
+
+  private final long epochMillis;
+
+  private final LongSupplier clock;
+
+  // 마지막으로 발급한 (시간 << SEQUENCE_BITS | 순번)
+  private final AtomicLong last = new AtomicLong();
+
+  private volatile long nodeId;
+
+  // 노드 ID 임대 만료 시각 (epoch ms), 이후에는 발급하지 않음
+  private volatile long leaseDeadline = Long.MAX_VALUE;
+
+  public Snowflake(int nodeId) {
+    this(nodeId, DEFAULT_EPOCH_MILLIS, System::currentTimeMillis);
+  }
+
+  public Snowflake(int nodeId, long epochMillis, LongSupplier clock) {
+    this.epochMillis = epochMillis;
+    this.clock = clock;
+    setNodeId(nodeId);
+  }
+
+  /**
+   * 노드 ID 변경 (노드 ID 임대를 다시 받았을 때)
+   *
+   * @param nodeId 노드 ID (0 ~ 1023)
+   */
+  public void setNodeId(int nodeId) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID);
+    }
+    this.nodeId = nodeId;
+  }
+
+  public int getNodeId() {
+    return (int) nodeId;
+  }
+
+  /**
+   * 노드 ID 임대 만료 시각 변경 (임대를 받거나 연장했을 때)
+   *
+   * @param leaseDeadline 만료 시각 (epoch ms)
+   */
+  public void setLeaseDeadline(long leaseDeadline) {
+    this.leaseDeadline = leaseDeadline;
+  }
+
+  /**
+   * 다음 ID
+   *
+   * @return 노드 안에서 항상 증가하는 ID
+   * @throws IllegalStateException 노드 ID 임대가 만료된 경우
+   */
+  public long nextId() {
+    long current = clock.getAsLong();
+    if (current >= leaseDeadline) {
+      throw new IllegalStateException("Snowflake node id lease expired. nodeId : " + nodeId);
+    }
+    long now = current - epochMillis;
+    while (true) {
+      long previous = last.get();
+      // 시간이 지났으면 순번 0 부터, 아니면 순번 증가 (넘치면 시간 자리로 올라감)
+      long next = now > (previous >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : previous + 1;
+      if (last.compareAndSet(previous, next)) {
+        return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+            | nodeId << SEQUENCE_BITS
+            | next & ((1L << SEQUENCE_BITS) - 1);
+      }
+    }
+  }
+
+  /**
+   * ID 를 주문 번호로 인코딩 ("OD" + Crockford Base32 13자리, 문자열 순서 = ID 순서)
+   *
+   * @param id ID
+   * @return 주문 번호
+   */
+  public static String toOrderNumber(long id) {
+    char[] chars = new char[ORDER_NUMBER_LENGTH];
+    for (int i = ORDER_NUMBER_LENGTH - 1; i >= 0; i--) {
+      chars[i] = BASE32[(int) (id & 31)];
+      id >>>= 5;
+    }
+    return "OD" + new String(chars);
+  }
+
+  /**
+   * ID 의 발급 시각
+   *
+   * @param id ID
+   * @return epoch ms
+   */
+  public long timestampOf(long id) {
+    return (id >>> (NODE_BITS + SEQUENCE_BITS)) + epochMillis;
+  }
+}
@@ -0,0 +1,22 @@
+package jyang.deliverydotdot.util;
+
+import java.util.Collections;
+
+/**
+ * JdbcTemplate 로 실행하는 SQL 작성 도우미
+ */
+public final class SqlUtils {
+
+  private SqlUtils() {
+  }
+
+  /**
+   * IN 절 바인딩 자리 ("?, ?, ?")
+   *
+   * @param count 바인딩할 값 개수
+   * @return 쉼표로 구분한 바인딩 자리
+   */
+  public static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+}
@@ -0,0 +1,136 @@
+package jyang.deliverydotdot.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 가게 영업 시간표
+ * <p>
+ * 영업일(business day) D 의 영업 구간은 [D 오픈 시각, 마감 시각) 이며, 마감 시각이 오픈 시각 이전이면 다음 날 새벽까지 이어지는 심야
+ * 영업으로, 오픈과 마감이 같으면 24시간 영업으로 본다. 휴무일(1 = 월요일 ~ 7 = 일요일)은 영업일 기준이므로 일요일이 휴무인 심야 가게도 토요일에
+ * 시작한 영업은 일요일 새벽까지 이어진다. 주문은 오픈 시각부터 주문 마감 시각(없으면 마감 시각)까지 받는다.
+ */
+public final class StoreSchedule {
+
+  // 다음 전환 시각을 찾을 때 확인하는 영업일 수 (휴무일 하루를 넘어 다음 주 같은 요일까지)
+  private static final int SEARCH_DAYS = 8;
+
+  private final Integer holiday;
+
+  private final LocalTime openTime;
+
+  private final LocalTime closeTime;
+
+  private final LocalTime lastOrderTime;
+
+  private StoreSchedule(Integer holiday, LocalTime openTime, LocalTime closeTime,
+      LocalTime lastOrderTime) {
+    this.holiday = holiday;
+    this.openTime = openTime;
+    this.closeTime = closeTime;
+    this.lastOrderTime = lastOrderTime;
+  }
+
+  /**
+   * 영업 시간표 생성
+   *
+   * @param holiday       휴무일 (1 = 월요일 ~ 7 = 일요일, 없으면 null)
+   * @param openTime      오픈 시각
+   * @param closeTime     마감 시각
+   * @param lastOrderTime 주문 마감 시각 (없으면 null)
+   * @return 영업 시간표
+   */
+  public static StoreSchedule of(Integer holiday, LocalTime openTime, LocalTime closeTime,
+      LocalTime lastOrderTime) {
+    return new StoreSchedule(holiday, openTime, closeTime, lastOrderTime);
+  }
+
+  /**
+   * 영업 중인지 확인 (영업 시각이 없으면 영업하지 않는 것으로 본다)
+   *
+   * @param now 현재 시각 (가게 시간대 기준)
+   * @return 영업 중이면 true
+   */
+  public boolean isOpen(LocalDateTime now) {
+    return contains(now, false);
+  }
+
+  /**
+   * 주문 가능한지 확인
+   *
+   * @param now 현재 시각 (가게 시간대 기준)
+   * @return 주문 가능하면 true
+   */
+  public boolean isOrderable(LocalDateTime now) {
+    return contains(now, true);
+  }
+
+  /**
+   * 다음 영업 시작 / 종료 시각
+   *
+   * @param now 현재 시각 (가게 시간대 기준)
+   * @return now 이후 처음으로 영업 여부가 바뀔 수 있는 시각, 영업하지 않는 가게는 null
+   */
+  public LocalDateTime nextTransition(LocalDateTime now) {
+    if (!hasHours()) {
+      return null;
+    }
+
+    LocalDateTime next = null;
+    LocalDate today = now.toLocalDate();
+    for (int i = -1; i <= SEARCH_DAYS; i++) {
+      LocalDate businessDay = today.plusDays(i);
+      if (isHoliday(businessDay)) {
+        continue;
+      }
+      for (LocalDateTime boundary : new LocalDateTime[]{
+          businessDay.atTime(openTime), end(businessDay, closeTime)}) {
+        if (boundary.isAfter(now) && (next == null || boundary.isBefore(next))) {
+          next = boundary;
+        }
+      }
+    }
+    return next;
+  }
+
+  private boolean contains(LocalDateTime now, boolean ordering) {
+    if (!hasHours()) {
+      return false;
+    }
+
+    // 전날 시작한 심야 영업까지 확인
+    LocalDate today = now.toLocalDate();
+    for (LocalDate businessDay : new LocalDate[]{today, today.minusDays(1)}) {
+      if (isHoliday(businessDay)) {
+        continue;
+      }
+      LocalDateTime start = businessDay.atTime(openTime);
+      LocalDateTime end = end(businessDay, closeTime);
+      if (ordering && lastOrderTime != null) {
+        LocalDateTime lastOrder = end(businessDay, lastOrderTime);
+        if (lastOrder.isBefore(end)) {
+          end = lastOrder;
+        }
+      }
+      if (!now.isBefore(start) && now.isBefore(end)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private LocalDateTime end(LocalDate businessDay, LocalTime time) {
+    // 오픈 시각 이전(같으면 24시간)이면 다음 날
+    return time.isAfter(openTime)
+        ? businessDay.atTime(time) : businessDay.plusDays(1).atTime(time);
+  }
+
+  private boolean isHoliday(LocalDate businessDay) {
+    return holiday != null && businessDay.getDayOfWeek().getValue() == holiday;
+  }
+
+  private boolean hasHours() {
+    return openTime != null && closeTime != null;
+  }
+}
@@ -0,0 +1,121 @@
+package jyang.deliverydotdot.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 라이더 이동 경로 압축 인코딩
+ * <p>
+ * 시각(ms)과 좌표(1e-6 도 단위 정수)를 이전 점과의 차이로 저장하고, 차이는 zigzag varint 로 기록한다. 1초 간격 수집 기준 점 하나에 약
+ * 5~6 바이트를 사용한다.
+ * <pre>
+ * [version:1][count:varint]([dt:zigzag][dlon:zigzag][dlat:zigzag])*
+ * </pre>
+ */
+public final class TrackCodec {
+
+  private static final byte VERSION = 1;
+
+  private static final double SCALE = 1_000_000;
+
+  private TrackCodec() {
+  }
+
+  /**
+   * 경로 인코딩
+   *
+   * @param points 시간순 경로
+   * @return 인코딩된 경로
+   */
+  public static byte[] encode(List<TrackPoint> points) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(2 + points.size() * 6);
+    out.write(VERSION);
+    writeVarint(out, points.size());
+
+    long previousTime = 0;
+    long previousLongitude = 0;
+    long previousLatitude = 0;
+    for (TrackPoint point : points) {
+      long longitude = Math.round(point.getLongitude() * SCALE);
+      long latitude = Math.round(point.getLatitude() * SCALE);
+      writeVarint(out, zigzag(point.getTimestamp() - previousTime));
+      writeVarint(out, zigzag(longitude - previousLongitude));
+      writeVarint(out, zigzag(latitude - previousLatitude));
+      previousTime = point.getTimestamp();
+      previousLongitude = longitude;
+      previousLatitude = latitude;
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * 경로 디코딩
+   *
+   * @param encoded 인코딩된 경로
+   * @return 시간순 경로
+   */
+  public static List<TrackPoint> decode(byte[] encoded) {
+    ByteBuffer in = ByteBuffer.wrap(encoded);
+    byte version = in.get();
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Unsupported track version : " + version);
+    }
+
+    int count = (int) readVarint(in);
+    List<TrackPoint> points = new ArrayList<>(count);
+    long time = 0;
+    long longitude = 0;
+    long latitude = 0;
+    for (int i = 0; i < count; i++) {
+      time += unzigzag(readVarint(in));
+      longitude += unzigzag(readVarint(in));
+      latitude += unzigzag(readVarint(in));
+      points.add(new TrackPoint(time, longitude / SCALE, latitude / SCALE));
+    }
+    return points;
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static long readVarint(ByteBuffer in) {
+    long value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = in.get();
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class TrackPoint {
+
+    // epoch millis
+    private final long timestamp;
+
+    private final double longitude;
+
+    private final double latitude;
+  }
+}
@@ -0,0 +1,75 @@
+package jyang.deliverydotdot.config;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+@ExtendWith(MockitoExtension.class)
+class SpatialIndexInitializerTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  private SpatialIndexInitializer spatialIndexInitializer;
+
+  @BeforeEach
+  void setUp() {
+    spatialIndexInitializer = new SpatialIndexInitializer(jdbcTemplate);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void run_인덱스가_있으면_DDL_없음() {
+    // given
+    when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class))).thenReturn(0);
+    when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any())).thenReturn(1);
+
+    // when
+    spatialIndexInitializer.run(new DefaultApplicationArguments());
+
+    // then
+    verify(jdbcTemplate, never()).execute(anyString());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void run_SRID와_인덱스가_없으면_생성() {
+    // given
+    when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class))).thenReturn(null);
+    when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any())).thenReturn(0);
+
+    // when
+    spatialIndexInitializer.run(new DefaultApplicationArguments());
+
+    // then
+    verify(jdbcTemplate).execute("ALTER TABLE store MODIFY coordinates POINT NOT NULL SRID 0");
+    verify(jdbcTemplate).execute(
+        "CREATE SPATIAL INDEX idx_store_coordinates ON store (coordinates)");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void run_인덱스_생성_실패하면_기동_중단() {
+    // given
+    when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class)))
+        .thenThrow(new DataAccessResourceFailureException("db down"));
+
+    // when & then
+    assertThrows(IllegalStateException.class,
+        () -> spatialIndexInitializer.run(new DefaultApplicationArguments()));
+  }
+}
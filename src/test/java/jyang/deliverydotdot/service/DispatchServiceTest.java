@@ -0,0 +1,124 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.rider.DispatchDTO.DELIVERY_ASSIGNED_CHANNEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import jyang.deliverydotdot.domain.PurchaseOrder;
+import jyang.deliverydotdot.domain.Rider;
+import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.dto.rider.DispatchDTO.Assignment;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.repository.DeliveryRepository;
+import jyang.deliverydotdot.repository.OrderRepository;
+import jyang.deliverydotdot.repository.RiderRepository;
+import jyang.deliverydotdot.service.DispatchService.Candidate;
+import jyang.deliverydotdot.type.DeliveryMethod;
+import jyang.deliverydotdot.type.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class DispatchServiceTest {
+
+  @Test
+  void assignPrefersFasterArrival() {
+    // 도보 라이더(1km)보다 오토바이 라이더(3km)가 먼저 도착
+    List<Assignment> assignments = DispatchService.assign(List.of(
+        new Candidate(100L, 1L, 1.0, DeliveryMethod.ON_FOOT),
+        new Candidate(100L, 2L, 3.0, DeliveryMethod.MOTORCYCLE)));
+
+    assertEquals(1, assignments.size());
+    assertEquals(2L, assignments.get(0).getRiderId());
+    assertEquals(6.0, assignments.get(0).getEtaMinutes(), 1e-9);
+  }
+
+  @Test
+  void assignEachOrderAndRiderOnce() {
+    List<Assignment> assignments = DispatchService.assign(List.of(
+        new Candidate(100L, 1L, 0.5, DeliveryMethod.CAR),
+        new Candidate(100L, 2L, 1.0, DeliveryMethod.CAR),
+        new Candidate(200L, 1L, 0.2, DeliveryMethod.CAR),
+        new Candidate(200L, 2L, 2.0, DeliveryMethod.CAR),
+        new Candidate(300L, 1L, 0.1, DeliveryMethod.CAR)));
+
+    assertEquals(2, assignments.size());
+    assertEquals(300L, assignments.get(0).getOrderId());
+    assertEquals(1L, assignments.get(0).getRiderId());
+    assertEquals(100L, assignments.get(1).getOrderId());
+    assertEquals(2L, assignments.get(1).getRiderId());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void dispatchSkipsOnlyConflictingAssignment() {
+    OrderRepository orderRepository = mock(OrderRepository.class);
+    DeliveryRepository deliveryRepository = mock(DeliveryRepository.class);
+    RiderRepository riderRepository = mock(RiderRepository.class);
+    RedisService redisService = mock(RedisService.class);
+    DeliveryService deliveryService = mock(DeliveryService.class);
+    RedisTemplate<String, String> stringRedisTemplate = mock(RedisTemplate.class);
+    ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    DispatchService dispatchService = new DispatchService(orderRepository, deliveryRepository,
+        riderRepository, redisService, deliveryService, stringRedisTemplate, new ObjectMapper(),
+        new SimpleMeterRegistry(), 200, 10000);
+
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenReturn(true);
+    when(orderRepository.findDispatchableOrders(any(), any()))
+        .thenReturn(List.of(order(100L), order(200L)));
+    when(redisService.getRidersNearby(any(Point.class), anyDouble(), anyInt()))
+        .thenReturn(riders("1", 0.5), riders("2", 0.5));
+    when(deliveryRepository.findRiderIdsByStatus(any(), any())).thenReturn(List.of());
+    when(riderRepository.findAllById(any())).thenReturn(List.of(
+        Rider.builder().riderId(1L).deliveryMethod(DeliveryMethod.CAR).build(),
+        Rider.builder().riderId(2L).deliveryMethod(DeliveryMethod.CAR).build()));
+    // 주문 100 은 라이더가 먼저 잡음
+    doThrow(new RestApiException(ErrorCode.ALREADY_EXIST_DELIVERY))
+        .when(deliveryService).createDelivery(1L, 100L);
+
+    dispatchService.dispatch();
+
+    verify(deliveryService).createDelivery(1L, 100L);
+    verify(deliveryService).createDelivery(2L, 200L);
+    verify(stringRedisTemplate, times(1)).convertAndSend(eq(DELIVERY_ASSIGNED_CHANNEL),
+        anyString());
+  }
+
+  private static PurchaseOrder order(Long orderId) {
+    return PurchaseOrder.builder()
+        .purchaseOrderId(orderId)
+        .store(Store.builder()
+            .coordinates(new GeometryFactory().createPoint(new Coordinate(127.0, 37.5)))
+            .build())
+        .build();
+  }
+
+  private static GeoResults<GeoLocation<String>> riders(String riderId, double distanceKm) {
+    return new GeoResults<>(List.of(new GeoResult<>(
+        new GeoLocation<>(riderId, new Point(127.0, 37.5)),
+        new Distance(distanceKm, Metrics.KILOMETERS))));
+  }
+}
@@ -0,0 +1,144 @@
+package jyang.deliverydotdot.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import jyang.deliverydotdot.domain.Store;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class EntityCacheInvalidatorTest {
+
+  private static final String ENTITY_CACHE_CHANNEL = "entityCacheEvents";
+
+  private static final String STORE_ENTITY = Store.class.getName();
+
+  @Mock
+  private EntityManagerFactory entityManagerFactory;
+
+  @Mock
+  private SessionFactoryImplementor sessionFactory;
+
+  @Mock
+  private CacheImplementor cache;
+
+  @Mock
+  private MappingMetamodelImplementor mappingMetamodel;
+
+  @Mock
+  private EntityPersister persister;
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private EntityCacheInvalidator entityCacheInvalidator;
+
+  private MessageListener messageListener;
+
+  @BeforeEach
+  void setUp() {
+    when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+    entityCacheInvalidator = new EntityCacheInvalidator(entityManagerFactory,
+        stringRedisTemplate, redisMessageListenerContainer);
+
+    ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+    verify(redisMessageListenerContainer).addMessageListener(captor.capture(),
+        eq(new ChannelTopic(ENTITY_CACHE_CHANNEL)));
+    messageListener = captor.getValue();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void 다른_노드가_보낸_메시지면_캐시에서_제거() {
+    // given
+    when(sessionFactory.getCache()).thenReturn(cache);
+
+    // when
+    receive("otherNode|" + STORE_ENTITY + "|5");
+
+    // then
+    verify(cache).evictEntityData(STORE_ENTITY, 5L);
+  }
+
+  @Test
+  void 자신이_보낸_메시지는_무시() {
+    // given
+    givenStorePersister();
+    entityCacheInvalidator.evict(Store.class, List.of(5L));
+    ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+    verify(stringRedisTemplate).convertAndSend(eq(ENTITY_CACHE_CHANNEL), captor.capture());
+
+    // when
+    receive(captor.getValue());
+
+    // then
+    verify(cache, never()).evictEntityData(anyString(), any());
+  }
+
+  @Test
+  void 트랜잭션_안에서_제거하면_커밋_후에_제거() {
+    // given
+    givenStorePersister();
+    TransactionSynchronizationManager.initSynchronization();
+
+    // when
+    entityCacheInvalidator.evict(Store.class, List.of(5L));
+
+    // then
+    verify(cache, never()).evictEntityData(Store.class, 5L);
+    verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    verify(cache).evictEntityData(Store.class, 5L);
+    verify(stringRedisTemplate).convertAndSend(eq(ENTITY_CACHE_CHANNEL),
+        endsWith("|" + STORE_ENTITY + "|5"));
+  }
+
+  private void givenStorePersister() {
+    when(sessionFactory.getCache()).thenReturn(cache);
+    when(sessionFactory.getMappingMetamodel()).thenReturn(mappingMetamodel);
+    when(mappingMetamodel.getEntityDescriptor(Store.class)).thenReturn(persister);
+    when(persister.canWriteToCache()).thenReturn(true);
+    when(persister.getEntityName()).thenReturn(STORE_ENTITY);
+  }
+
+  private void receive(String body) {
+    messageListener.onMessage(new DefaultMessage(ENTITY_CACHE_CHANNEL.getBytes(),
+        body.getBytes(StandardCharsets.UTF_8)), null);
+  }
+}
@@ -0,0 +1,86 @@
+package jyang.deliverydotdot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class GeocodeCacheTest {
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private Function<String, Point> loader;
+
+  private final GeometryFactory geometryFactory = new GeometryFactory();
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private GeocodeCache geocodeCache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    geocodeCache = new GeocodeCache(stringRedisTemplate, geometryFactory, meterRegistry,
+        100, 60, 30);
+  }
+
+  @Test
+  void loadOnceAndServeFromLocalCache() {
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(loader.apply(anyString()))
+        .thenReturn(geometryFactory.createPoint(new Coordinate(127.0276, 37.4979)));
+
+    Point first = geocodeCache.get("서울시 강남구  테헤란로 231", loader);
+    Point second = geocodeCache.get(" 서울시 강남구 테헤란로 231 ", loader);
+
+    assertEquals(127.0276, first.getX());
+    assertEquals(37.4979, second.getY());
+    verify(loader, times(1)).apply(anyString());
+    verify(valueOperations).set(eq("geocode:서울시 강남구 테헤란로 231"),
+        eq("127.0276,37.4979"), any(Duration.class));
+    assertEquals(1, meterRegistry.counter("geocode.lookup", "result", "local_hit").count());
+    assertEquals(1, meterRegistry.counter("geocode.lookup", "result", "miss").count());
+  }
+
+  @Test
+  void serveFromRedisWithoutCallingApi() {
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.get("geocode:서울시 강남구 테헤란로 231")).thenReturn("127.0276,37.4979");
+
+    Point point = geocodeCache.get("서울시 강남구 테헤란로 231", loader);
+
+    assertEquals(127.0276, point.getX());
+    verify(loader, never()).apply(anyString());
+    assertEquals(1, meterRegistry.counter("geocode.lookup", "result", "redis_hit").count());
+  }
+
+  @Test
+  void normalizeAddress() {
+    assertEquals("seoul 강남구 테헤란로 231",
+        GeocodeCache.normalize("  SEOUL\t강남구   테헤란로 ２３１ "));
+  }
+}
@@ -5,10 +5,13 @@ import static jyang.deliverydotdot.type.ErrorCode.NO_COORDINATES_FOUND_FOR_ADDRE
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import java.util.Collections;
+import java.util.function.Function;
 import jyang.deliverydotdot.dto.location.KakaoGeoResponse;
 import jyang.deliverydotdot.exception.RestApiException;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,7 +20,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpEntity;
@@ -36,12 +38,18 @@ class LocationServiceTest {
   @Mock
   private GeometryFactory geometryFactory;
 
-  @InjectMocks
+  @Mock
+  private GeocodeCache geocodeCache;
+
   private LocationService locationService;
 
   @BeforeEach
   void setUp() {
-    locationService = new LocationService(restTemplate, geometryFactory, "testApiKey");
+    // 캐시에 없는 주소처럼 항상 API 를 호출
+    when(geocodeCache.get(anyString(), any())).thenAnswer(invocation ->
+        invocation.<Function<String, Point>>getArgument(1).apply(invocation.getArgument(0)));
+    locationService = new LocationService(restTemplate, geometryFactory, geocodeCache,
+        CircuitBreaker.ofDefaults("kakaoGeocoding"), "testApiKey");
   }
 
   @Test
@@ -0,0 +1,157 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.store.MenuAvailabilityDTO.MENU_AVAILABILITY_CHANNEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import jyang.deliverydotdot.dto.store.MenuAvailabilityDTO.MenuAvailabilityEvent;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.repository.MenuRepository;
+import jyang.deliverydotdot.type.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class MenuAvailabilityRegistryTest {
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+
+  @Mock
+  private HashOperations<String, Object, Object> hashOperations;
+
+  @Mock
+  private MenuRepository menuRepository;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final List<Long> soldOutChangedStores = new ArrayList<>();
+
+  private MenuAvailabilityRegistry menuAvailabilityRegistry;
+
+  private MessageListener messageListener;
+
+  @BeforeEach
+  void setUp() {
+    menuAvailabilityRegistry = new MenuAvailabilityRegistry(stringRedisTemplate, menuRepository,
+        objectMapper, redisMessageListenerContainer, new SimpleMeterRegistry());
+    menuAvailabilityRegistry.addSoldOutListener(soldOutChangedStores::add);
+
+    ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+    verify(redisMessageListenerContainer)
+        .addMessageListener(captor.capture(), eq(new ChannelTopic(MENU_AVAILABILITY_CHANNEL)));
+    messageListener = captor.getValue();
+  }
+
+  @Test
+  void reserveWithoutStockLimitPublishesNothing() {
+    when(stringRedisTemplate.execute(anyListScript(), anyList(), any(Object[].class)))
+        .thenReturn(List.of(1L, -1L, -1L));
+
+    menuAvailabilityRegistry.reserve(1L, Map.of(100L, 2, 101L, 1));
+
+    verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    assertNull(menuAvailabilityRegistry.getStock(100L));
+    assertTrue(soldOutChangedStores.isEmpty());
+  }
+
+  @Test
+  void reserveAppliesStockLimitNotYetKnownLocally() {
+    when(stringRedisTemplate.execute(anyListScript(), anyList(), any(Object[].class)))
+        .thenReturn(List.of(1L, 0L));
+
+    menuAvailabilityRegistry.reserve(1L, Map.of(200L, 3));
+
+    assertTrue(menuAvailabilityRegistry.isSoldOut(200L));
+    assertEquals(List.of(1L), soldOutChangedStores);
+    verify(stringRedisTemplate).convertAndSend(eq(MENU_AVAILABILITY_CHANNEL), anyString());
+  }
+
+  @Test
+  void reserveLastStockMarksSoldOut() {
+    when(menuRepository.findSoldOutMenuIds()).thenReturn(List.of());
+    when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(hashOperations.entries("menuStock")).thenReturn(Map.of("200", "2"));
+    menuAvailabilityRegistry.load();
+    when(stringRedisTemplate.execute(anyListScript(), anyList(), any(Object[].class)))
+        .thenReturn(List.of(1L, 0L));
+
+    menuAvailabilityRegistry.reserve(1L, Map.of(200L, 2));
+
+    assertTrue(menuAvailabilityRegistry.isSoldOut(200L));
+    assertEquals(List.of(1L), soldOutChangedStores);
+    verify(stringRedisTemplate).convertAndSend(eq(MENU_AVAILABILITY_CHANNEL), anyString());
+    RestApiException exception = assertThrows(RestApiException.class,
+        () -> menuAvailabilityRegistry.reserve(1L, Map.of(200L, 1)));
+    assertEquals(ErrorCode.MENU_SOLD_OUT, exception.getErrorCode());
+  }
+
+  @Test
+  void applyEventFromOtherNode() throws Exception {
+    receive(new MenuAvailabilityEvent(1L, 300L, true, null));
+
+    assertTrue(menuAvailabilityRegistry.isSoldOut(300L));
+    assertThrows(RestApiException.class,
+        () -> menuAvailabilityRegistry.validateAvailable(300L, 1));
+
+    receive(new MenuAvailabilityEvent(1L, 300L, false, 5));
+
+    assertFalse(menuAvailabilityRegistry.isSoldOut(300L));
+    assertEquals(5, menuAvailabilityRegistry.getStock(300L));
+    assertEquals(List.of(1L, 1L), soldOutChangedStores);
+  }
+
+  @Test
+  void loadReplacesPreviousState() {
+    when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(menuRepository.findSoldOutMenuIds()).thenReturn(List.of(400L)).thenReturn(List.of(401L));
+    when(hashOperations.entries("menuStock"))
+        .thenReturn(Map.of("500", "3")).thenReturn(Map.of("501", "4"));
+    menuAvailabilityRegistry.load();
+
+    menuAvailabilityRegistry.load();
+
+    assertFalse(menuAvailabilityRegistry.isSoldOut(400L));
+    assertTrue(menuAvailabilityRegistry.isSoldOut(401L));
+    assertNull(menuAvailabilityRegistry.getStock(500L));
+    assertEquals(4, menuAvailabilityRegistry.getStock(501L));
+  }
+
+  private static RedisScript<List<Long>> anyListScript() {
+    return any();
+  }
+
+  private void receive(MenuAvailabilityEvent event) throws Exception {
+    messageListener.onMessage(new DefaultMessage(MENU_AVAILABILITY_CHANNEL.getBytes(),
+        objectMapper.writeValueAsBytes(event)), null);
+  }
+}
@@ -0,0 +1,85 @@
+package jyang.deliverydotdot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import jyang.deliverydotdot.domain.Partner;
+import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.dto.store.MenuOrderDTO.MenuCategoryOrderRequest;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.repository.MenuCategoryRepository;
+import jyang.deliverydotdot.repository.StoreRepository;
+import jyang.deliverydotdot.type.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MenuCategoryServiceTest {
+
+  @Mock
+  private MenuCategoryRepository menuCategoryRepository;
+
+  @Mock
+  private StoreRepository storeRepository;
+
+  @Mock
+  private StoreService storeService;
+
+  @Mock
+  private StoreMenuService storeMenuService;
+
+  @Mock
+  private EntityCacheInvalidator entityCacheInvalidator;
+
+  @InjectMocks
+  private MenuCategoryService menuCategoryService;
+
+  private final Partner partner = Partner.builder().partnerId(1L).build();
+
+  @BeforeEach
+  void setUp() {
+    given(storeService.findStore(10L)).willReturn(Store.builder().storeId(10L).build());
+  }
+
+  @Test
+  void reorderRenumbersInOneStatement() {
+    given(storeRepository.incrementMenuCategoryVersion(10L, 3L)).willReturn(true);
+    given(menuCategoryRepository.findIdsByStoreId(10L)).willReturn(List.of(1L, 2L, 3L));
+
+    menuCategoryService.reorderMenuCategories(partner, 10L,
+        new MenuCategoryOrderRequest(3L, List.of(3L, 1L, 2L)));
+
+    verify(menuCategoryRepository).renumber(10L, List.of(3L, 1L, 2L));
+    verify(storeMenuService).storeMenuChanged(10L);
+  }
+
+  @Test
+  void rejectStaleVersionOrMismatchedIds() {
+    given(storeRepository.incrementMenuCategoryVersion(10L, 2L)).willReturn(false);
+
+    RestApiException conflict = assertThrows(RestApiException.class,
+        () -> menuCategoryService.reorderMenuCategories(partner, 10L,
+            new MenuCategoryOrderRequest(2L, List.of(3L, 1L, 2L))));
+    assertEquals(ErrorCode.MENU_ORDER_CONFLICT, conflict.getErrorCode());
+
+    given(storeRepository.incrementMenuCategoryVersion(10L, 3L)).willReturn(true);
+    given(menuCategoryRepository.findIdsByStoreId(10L)).willReturn(List.of(1L, 2L, 3L));
+
+    RestApiException mismatch = assertThrows(RestApiException.class,
+        () -> menuCategoryService.reorderMenuCategories(partner, 10L,
+            new MenuCategoryOrderRequest(3L, List.of(3L, 1L, 1L))));
+    assertEquals(ErrorCode.INVALID_MENU_ORDER, mismatch.getErrorCode());
+
+    verify(menuCategoryRepository, never()).renumber(any(), anyList());
+  }
+}
@@ -0,0 +1,129 @@
+package jyang.deliverydotdot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jyang.deliverydotdot.domain.PurchaseOrder;
+import jyang.deliverydotdot.domain.User;
+import jyang.deliverydotdot.dto.order.CreateOrder.Request;
+import jyang.deliverydotdot.dto.order.OrderIntakeDTO.OrderDraft;
+import jyang.deliverydotdot.exception.RestApiException;
+import jyang.deliverydotdot.service.OrderIntakeService.OrderCommand;
+import jyang.deliverydotdot.type.ErrorCode;
+import jyang.deliverydotdot.type.OrderIntakeStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIntakeServiceTest {
+
+  @Mock
+  private OrderService orderService;
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private OrderIntakeService orderIntakeService;
+
+  @BeforeEach
+  void setUp() {
+    orderIntakeService = new OrderIntakeService(orderService, stringRedisTemplate,
+        new TransactionTemplate(transactionManager), new SimpleMeterRegistry(),
+        true, 1, 1, 20, 0, 60);
+  }
+
+  @Test
+  void submit_대기열이_가득_차면_거절() {
+    // given
+    User user = User.builder().userId(1L).build();
+    when(orderService.newOrderNumber()).thenReturn("OD1", "OD2");
+    assertEquals(OrderIntakeStatus.QUEUED,
+        orderIntakeService.submit(user, new Request()).getStatus());
+
+    // when & then
+    RestApiException exception = assertThrows(RestApiException.class,
+        () -> orderIntakeService.submit(user, new Request()));
+    assertEquals(ErrorCode.ORDER_INTAKE_BUSY, exception.getErrorCode());
+    verify(stringRedisTemplate).delete("orderIntake:OD2");
+  }
+
+  @Test
+  void process_실패한_주문은_묶음의_다른_주문을_되돌리지_않음() {
+    // given
+    User user = User.builder().userId(1L).build();
+    Request request = new Request();
+    OrderDraft first = OrderDraft.builder().userId(1L).orderNumber("OD1").build();
+    OrderDraft second = OrderDraft.builder().userId(1L).orderNumber("OD2").build();
+    when(orderService.prepareOrder(user, request, "OD1")).thenReturn(first);
+    when(orderService.prepareOrder(user, request, "OD2")).thenReturn(second);
+    when(orderService.placeOrder(first))
+        .thenReturn(PurchaseOrder.builder().purchaseOrderId(10L).build());
+    when(orderService.placeOrder(second))
+        .thenThrow(new RestApiException(ErrorCode.MENU_SOLD_OUT));
+
+    // when
+    orderIntakeService.process(List.of(
+        new OrderCommand(user, request, "OD1"), new OrderCommand(user, request, "OD2")));
+
+    // then
+    verify(orderService, times(2)).placeOrder(first); // 묶음 저장 1번 + 주문마다 1번
+    verify(transactionManager, times(2)).rollback(any());
+    assertEquals(Map.of("status", "PLACED", "purchaseOrderId", "10"), savedStatus("OD1"));
+    assertEquals(Map.of("status", "FAILED",
+        "failureReason", ErrorCode.MENU_SOLD_OUT.getDescription()), savedStatus("OD2"));
+  }
+
+  @Test
+  void submit_상태와_만료_시간을_함께_기록() {
+    // given
+    User user = User.builder().userId(1L).build();
+    when(orderService.newOrderNumber()).thenReturn("OD1");
+
+    // when
+    orderIntakeService.submit(user, new Request());
+
+    // then
+    ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+    verify(stringRedisTemplate).execute(anyLongScript(), eq(List.of("orderIntake:OD1")),
+        args.capture());
+    assertEquals("3600", args.getValue()[0]);
+    assertEquals(Map.of("userId", "1", "status", "QUEUED"), savedStatus("OD1"));
+  }
+
+  // 접수 상태 스크립트에 넘긴 필드, 값 쌍
+  private Map<String, String> savedStatus(String orderNumber) {
+    ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+    verify(stringRedisTemplate).execute(anyLongScript(), eq(List.of("orderIntake:" + orderNumber)),
+        args.capture());
+    Object[] values = args.getValue();
+    Map<String, String> fields = new HashMap<>();
+    for (int i = 1; i < values.length; i += 2) {
+      fields.put((String) values[i], (String) values[i + 1]);
+    }
+    return fields;
+  }
+
+  private static RedisScript<Long> anyLongScript() {
+    return any();
+  }
+}
@@ -0,0 +1,129 @@
+package jyang.deliverydotdot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import jyang.deliverydotdot.domain.OutboxEvent;
+import jyang.deliverydotdot.repository.OutboxEventRepository;
+import jyang.deliverydotdot.type.OutboxEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Mock
+  private OutboxEventConsumer consumer;
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private OutboxRelay outboxRelay;
+
+  @BeforeEach
+  void setUp() {
+    outboxRelay = new OutboxRelay(outboxEventRepository, List.of(consumer), stringRedisTemplate,
+        new TransactionTemplate(transactionManager), new SimpleMeterRegistry(),
+        3, 10, 10, 24, 10000, 1000, 60000);
+  }
+
+  @Test
+  void relayBatch_실패한_대상의_이후_이벤트는_대기() {
+    // given
+    OutboxEvent placed = event(1L, OutboxEventType.ORDER_PLACED, 100L);
+    OutboxEvent canceled = event(2L, OutboxEventType.ORDER_STATUS_CHANGED, 100L);
+    OutboxEvent other = event(3L, OutboxEventType.ORDER_PLACED, 200L);
+    when(outboxEventRepository.findPending(anyInt(), any(), any()))
+        .thenReturn(List.of(placed, canceled, other));
+    when(consumer.supports(any())).thenReturn(true);
+    doThrow(new IllegalStateException("redis down")).when(consumer).consume(placed);
+
+    // when
+    boolean more = outboxRelay.relayBatch();
+
+    // then
+    assertFalse(more);
+    verify(consumer, never()).consume(canceled);
+    verify(outboxEventRepository).markPublished(eq(List.of(3L)), any());
+    verify(outboxEventRepository).scheduleRetry(eq(1L), any());
+  }
+
+  @Test
+  void relayBatch_가득_찬_묶음이면_계속() {
+    // given
+    when(outboxEventRepository.findPending(anyInt(), any(), any())).thenReturn(List.of(
+        event(1L, OutboxEventType.ORDER_PLACED, 100L),
+        event(2L, OutboxEventType.ORDER_PLACED, 200L),
+        event(3L, OutboxEventType.DELIVERY_STATUS_CHANGED, 100L)));
+    when(consumer.supports(any())).thenReturn(true);
+
+    // when
+    boolean more = outboxRelay.relayBatch();
+
+    // then
+    assertTrue(more);
+    verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L, 3L)), any());
+    verify(outboxEventRepository, never()).scheduleRetry(any(), any());
+  }
+
+  @Test
+  void relayBatch_재시도_대기_중인_대상의_이벤트는_건너뜀() {
+    // given
+    OutboxEvent waiting = event(1L, OutboxEventType.ORDER_PLACED, 100L);
+    OutboxEvent canceled = event(2L, OutboxEventType.ORDER_STATUS_CHANGED, 100L);
+    OutboxEvent other = event(3L, OutboxEventType.ORDER_PLACED, 200L);
+    when(outboxEventRepository.findPending(anyInt(), any(), any()))
+        .thenReturn(List.of(canceled, other));
+    when(outboxEventRepository.findBackingOff(anyInt(), any())).thenReturn(List.of(waiting));
+    when(consumer.supports(any())).thenReturn(true);
+
+    // when
+    outboxRelay.relayBatch();
+
+    // then
+    verify(consumer, never()).consume(canceled);
+    verify(outboxEventRepository).markPublished(eq(List.of(3L)), any());
+  }
+
+  @Test
+  void retryDelay_실패할_때마다_두_배_최대_간격까지() {
+    // when & then
+    assertEquals(Duration.ofSeconds(1), outboxRelay.retryDelay(0));
+    assertEquals(Duration.ofSeconds(8), outboxRelay.retryDelay(3));
+    assertEquals(Duration.ofMinutes(1), outboxRelay.retryDelay(10));
+    assertEquals(Duration.ofMinutes(1), outboxRelay.retryDelay(100));
+  }
+
+  private static OutboxEvent event(Long id, OutboxEventType eventType, Long aggregateId) {
+    return OutboxEvent.builder()
+        .outboxEventId(id)
+        .eventType(eventType)
+        .aggregateId(aggregateId)
+        .payload("{}")
+        .attempts(0)
+        .build();
+  }
+}
@@ -0,0 +1,201 @@
+package jyang.deliverydotdot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import jyang.deliverydotdot.domain.Menu;
+import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.dto.order.OrderEventDTO.OrderPlacedEvent;
+import jyang.deliverydotdot.dto.store.RankingDTO.PopularMenuResponse;
+import jyang.deliverydotdot.dto.store.RankingDTO.TrendingStoreResponse;
+import jyang.deliverydotdot.repository.MenuRepository;
+import jyang.deliverydotdot.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class RankingServiceTest {
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+
+  @Mock
+  private StoreRepository storeRepository;
+
+  @Mock
+  private MenuRepository menuRepository;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private SetOperations<String, String> setOperations;
+
+  @Mock
+  private ZSetOperations<String, String> zSetOperations;
+
+  private final GeometryFactory geometryFactory = new GeometryFactory();
+
+  private RankingService rankingService;
+
+  @BeforeEach
+  void setUp() {
+    rankingService = new RankingService(stringRedisTemplate, storeRepository, menuRepository,
+        new SimpleMeterRegistry(), 24, 0.01, 1000);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void orderPlaced_순위마다_자기_슬롯에_반영() {
+    // given
+    when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+    OrderPlacedEvent event = OrderPlacedEvent.builder()
+        .purchaseOrderId(100L)
+        .storeId(1L)
+        .storeLongitude(127.0276)
+        .storeLatitude(37.4979)
+        .quantities(Map.of(10L, 2))
+        .build();
+
+    // when
+    rankingService.orderPlaced(event);
+
+    // then
+    ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+    verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), keys.capture(),
+        any(Object[].class));
+    assertEquals(List.of("{ranking:menu:1}:counted:100", "{ranking:menu:1}"),
+        keys.getAllValues().get(0));
+    assertEquals(List.of("{ranking:store:wydm6}:counted:100", "{ranking:store:wydm6}"),
+        keys.getAllValues().get(1));
+    verify(setOperations).add("ranking:keys", "{ranking:menu:1}", "{ranking:store:wydm6}");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void decay_순위_키마다_감쇠() {
+    // given
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(anyString(), eq("1"), any(Duration.class)))
+        .thenReturn(true);
+    Cursor<String> cursor = mock(Cursor.class);
+    when(cursor.hasNext()).thenReturn(true, true, false);
+    when(cursor.next()).thenReturn("{ranking:menu:1}", "{ranking:store:wydm9}");
+    doCallRealMethod().when(cursor).forEachRemaining(any());
+    when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+    when(setOperations.scan(eq("ranking:keys"), any())).thenReturn(cursor);
+    when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("{ranking:menu:1}")),
+        any(), any(), any())).thenReturn(3L);
+    when(stringRedisTemplate.execute(any(RedisScript.class),
+        eq(List.of("{ranking:store:wydm9}")), any(), any(), any())).thenReturn(0L);
+
+    // when
+    rankingService.decay();
+
+    // then
+    verify(setOperations, never()).remove("ranking:keys", "{ranking:menu:1}");
+    verify(setOperations).remove("ranking:keys", "{ranking:store:wydm9}");
+    verify(setOperations, never()).add(anyString(), any());
+  }
+
+  @Test
+  void decay_다른_노드가_수행했으면_건너뜀() {
+    // given
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(anyString(), eq("1"), any(Duration.class)))
+        .thenReturn(false);
+
+    // when
+    rankingService.decay();
+
+    // then
+    verify(stringRedisTemplate, never()).opsForSet();
+  }
+
+  @Test
+  void getPopularMenus_삭제된_메뉴는_제외() {
+    // given
+    Set<TypedTuple<String>> ranking = new LinkedHashSet<>(List.of(
+        new DefaultTypedTuple<>("10", 5.0),
+        new DefaultTypedTuple<>("11", 3.0),
+        new DefaultTypedTuple<>("12", 1.0)));
+    when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(zSetOperations.reverseRangeWithScores("{ranking:menu:1}", 0, 2)).thenReturn(ranking);
+    when(menuRepository.findAllById(any())).thenReturn(List.of(
+        Menu.builder().menuId(10L).menuName("짜장면").price(7000).build(),
+        Menu.builder().menuId(12L).menuName("짬뽕").price(8000).build()));
+
+    // when
+    List<PopularMenuResponse> menus = rankingService.getPopularMenus(1L, 3);
+
+    // then
+    assertEquals(2, menus.size());
+    assertEquals(10L, menus.get(0).getMenuId());
+    assertEquals(5.0, menus.get(0).getScore());
+    assertEquals(12L, menus.get(1).getMenuId());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void getTrendingStores_배달_가능한_가게만_점수순() {
+    // given
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(
+        Set.of(new DefaultTypedTuple<>("1", 2.0), new DefaultTypedTuple<>("2", 9.0)),
+        Set.of(new DefaultTypedTuple<>("3", 5.0), new DefaultTypedTuple<>("4", 7.0))));
+    when(storeRepository.findAllById(any())).thenReturn(List.of(
+        store(1L, 127.0280, 37.4980, null),
+        store(2L, 127.0300, 37.5000, 1000),
+        store(3L, 127.0290, 37.4990, 3000),
+        // 배달 반경 밖
+        store(4L, 127.1000, 37.5500, 1000)));
+
+    // when
+    List<TrendingStoreResponse> stores =
+        rankingService.getTrendingStores(127.0276, 37.4979, 2);
+
+    // then
+    assertEquals(2, stores.size());
+    assertEquals(2L, stores.get(0).getStoreId());
+    assertEquals(9.0, stores.get(0).getScore());
+    assertEquals(3L, stores.get(1).getStoreId());
+  }
+
+  private Store store(Long storeId, double longitude, double latitude, Integer deliveryRadius) {
+    return Store.builder()
+        .storeId(storeId)
+        .storeName("가게" + storeId)
+        .coordinates(geometryFactory.createPoint(new Coordinate(longitude, latitude)))
+        .deliveryRadius(deliveryRadius)
+        .build();
+  }
+}
@@ -0,0 +1,141 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.store.StoreMenuDTO.STORE_MENU_CHANNEL;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import jyang.deliverydotdot.domain.Menu;
+import jyang.deliverydotdot.domain.MenuCategory;
+import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.repository.MenuCategoryRepository;
+import jyang.deliverydotdot.repository.MenuRepository;
+import jyang.deliverydotdot.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class StoreMenuServiceTest {
+
+  @Mock
+  private StoreRepository storeRepository;
+
+  @Mock
+  private MenuCategoryRepository menuCategoryRepository;
+
+  @Mock
+  private MenuRepository menuRepository;
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Mock
+  private MenuAvailabilityRegistry menuAvailabilityRegistry;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private StoreMenuService storeMenuService;
+
+  @BeforeEach
+  void setUp() {
+    storeMenuService = new StoreMenuService(storeRepository, menuCategoryRepository,
+        menuRepository, menuAvailabilityRegistry, stringRedisTemplate, objectMapper, redisMessageListenerContainer,
+        new SimpleMeterRegistry(), 100, 10, 24);
+  }
+
+  @Test
+  void buildOnceAndInvalidateOnChange() throws Exception {
+    Store store = Store.builder().storeId(1L).storeName("두리 분식").build();
+    MenuCategory main = MenuCategory.builder()
+        .menuCategoryId(10L).store(store).categoryName("메인").displayOrder(1).build();
+    MenuCategory side = MenuCategory.builder()
+        .menuCategoryId(11L).store(store).categoryName("사이드").displayOrder(2).build();
+    when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
+    when(menuCategoryRepository.findAllByStoreStoreIdOrderByDisplayOrderAsc(1L))
+        .thenReturn(List.of(main, side));
+    when(menuRepository.findAllByStoreStoreId(1L)).thenReturn(List.of(
+        Menu.builder().menuId(101L).store(store).menuCategory(side).menuName("튀김")
+            .price(3000).build(),
+        Menu.builder().menuId(100L).store(store).menuCategory(main).menuName("떡볶이")
+            .price(5000).build()));
+
+    byte[] first = storeMenuService.getStoreMenu(1L);
+    byte[] second = storeMenuService.getStoreMenu(1L);
+
+    assertEquals(first, second);
+    verify(storeRepository, times(1)).findById(1L);
+
+    JsonNode categories = objectMapper.readTree(first).path("data").path("menuCategories");
+    assertEquals("메인", categories.get(0).path("categoryName").asText());
+    assertEquals("떡볶이", categories.get(0).path("menus").get(0).path("menuName").asText());
+    assertEquals("튀김", categories.get(1).path("menus").get(0).path("menuName").asText());
+
+    storeMenuService.storeMenuChanged(1L);
+    storeMenuService.getStoreMenu(1L);
+
+    verify(storeRepository, times(2)).findById(1L);
+    verify(stringRedisTemplate).convertAndSend(STORE_MENU_CHANNEL, "1");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void getStoreMenu_조회_전_세대로만_저장() {
+    // given
+    RedisConnection connection = mock(RedisConnection.class);
+    RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+    RedisScriptingCommands scriptingCommands = mock(RedisScriptingCommands.class);
+    when(connection.stringCommands()).thenReturn(stringCommands);
+    when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+    when(stringRedisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation ->
+        invocation.getArgument(0, RedisCallback.class).doInRedis(connection));
+    // 문서는 없고 세대는 3
+    when(stringCommands.mGet(any(byte[].class), any(byte[].class)))
+        .thenReturn(Arrays.asList(null, bytes("3")));
+
+    Store store = Store.builder().storeId(1L).storeName("두리 분식").build();
+    when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
+
+    // when
+    byte[] document = storeMenuService.getStoreMenu(1L);
+
+    // then
+    ArgumentCaptor<byte[][]> args = ArgumentCaptor.forClass(byte[][].class);
+    verify(scriptingCommands).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(2),
+        args.capture());
+    byte[][] keysAndArgs = args.getValue();
+    assertArrayEquals(bytes("storeMenu:{1}"), keysAndArgs[0]);
+    assertArrayEquals(bytes("storeMenu:{1}:generation"), keysAndArgs[1]);
+    assertArrayEquals(bytes("3"), keysAndArgs[2]);
+    assertArrayEquals(document, keysAndArgs[3]);
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,185 @@
+package jyang.deliverydotdot.service;
+
+import static jyang.deliverydotdot.dto.store.StoreRatingDTO.STORE_RATING_REBUILT_CHANNEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import jyang.deliverydotdot.domain.Store;
+import jyang.deliverydotdot.dto.store.StoreRatingDTO.RatingDelta;
+import jyang.deliverydotdot.dto.store.StoreRatingDTO.RatingRebuiltEvent;
+import jyang.deliverydotdot.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class StoreRatingAggregatorTest {
+
+  @Mock
+  private StoreRepository storeRepository;
+
+  @Mock
+  private EntityCacheInvalidator entityCacheInvalidator;
+
+  @Mock
+  private RedisTemplate<String, String> stringRedisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private StoreRatingAggregator storeRatingAggregator;
+
+  private MessageListener messageListener;
+
+  @BeforeEach
+  void setUp() {
+    storeRatingAggregator = new StoreRatingAggregator(storeRepository, entityCacheInvalidator,
+        stringRedisTemplate, objectMapper, redisMessageListenerContainer,
+        new SimpleMeterRegistry(), 500, 3600000);
+
+    ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+    verify(redisMessageListenerContainer).addMessageListener(captor.capture(),
+        eq(new ChannelTopic(STORE_RATING_REBUILT_CHANNEL)));
+    messageListener = captor.getValue();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void flushMergesDeltasPerStore() {
+    storeRatingAggregator.reviewAdded(1L, 5);
+    storeRatingAggregator.reviewAdded(1L, 3);
+    storeRatingAggregator.reviewUpdated(1L, 3, 4);
+    storeRatingAggregator.reviewAdded(2L, 2);
+    storeRatingAggregator.reviewRemoved(2L, 2);
+
+    storeRatingAggregator.flush();
+
+    ArgumentCaptor<List<RatingDelta>> captor = ArgumentCaptor.forClass(List.class);
+    verify(storeRepository).applyRatingDeltas(captor.capture());
+    List<RatingDelta> deltas = captor.getValue().stream()
+        .sorted(Comparator.comparing(RatingDelta::getStoreId))
+        .toList();
+
+    // 작성 후 삭제되어 변경분이 없는 가게는 갱신하지 않는다
+    assertEquals(1, deltas.size());
+    assertEquals(1L, deltas.get(0).getStoreId());
+    assertEquals(9, deltas.get(0).getRatingSum());
+    assertEquals(2, deltas.get(0).getReviewCount());
+    verify(entityCacheInvalidator).evict(Store.class, List.of(1L));
+
+    storeRatingAggregator.flush();
+    verify(storeRepository, times(1)).applyRatingDeltas(anyList());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void keepDeltasWhenFlushFails() {
+    storeRatingAggregator.reviewAdded(1L, 4);
+    doThrow(new RuntimeException("db down")).doNothing()
+        .when(storeRepository).applyRatingDeltas(anyList());
+
+    storeRatingAggregator.flush();
+    storeRatingAggregator.reviewAdded(1L, 2);
+    storeRatingAggregator.flush();
+
+    ArgumentCaptor<List<RatingDelta>> captor = ArgumentCaptor.forClass(List.class);
+    verify(storeRepository, times(2)).applyRatingDeltas(captor.capture());
+    RatingDelta delta = captor.getValue().get(0);
+    assertEquals(6, delta.getRatingSum());
+    assertEquals(2, delta.getReviewCount());
+  }
+
+  @Test
+  void rebuildSkippedWhileOtherNodeHoldsLock() {
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenReturn(false);
+
+    storeRatingAggregator.rebuild();
+
+    verify(storeRepository, never()).rebuildRatings(anyLong(), anyInt());
+  }
+
+  @Test
+  void rebuildPublishesRebuiltRange() throws Exception {
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenReturn(true);
+    when(storeRepository.rebuildRatings(0, 500)).thenReturn(List.of(1L, 2L, 3L));
+    when(storeRepository.rebuildRatings(3, 500)).thenReturn(List.of());
+
+    storeRatingAggregator.rebuild();
+
+    ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+    verify(stringRedisTemplate).convertAndSend(eq(STORE_RATING_REBUILT_CHANNEL),
+        captor.capture());
+    RatingRebuiltEvent event = objectMapper.readValue(captor.getValue(),
+        RatingRebuiltEvent.class);
+    assertEquals(1L, event.getFirstStoreId());
+    assertEquals(3L, event.getLastStoreId());
+    verify(entityCacheInvalidator).evict(Store.class, List.of(1L, 2L, 3L));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void discardDeltasRebuiltByOtherNode() throws Exception {
+    storeRatingAggregator.reviewAdded(1L, 4);
+    storeRatingAggregator.reviewAdded(20L, 3);
+
+    receive(new RatingRebuiltEvent(1L, 10L, System.currentTimeMillis() + 1000));
+    storeRatingAggregator.flush();
+
+    // 재계산 구간 밖의 가게만 반영한다
+    ArgumentCaptor<List<RatingDelta>> captor = ArgumentCaptor.forClass(List.class);
+    verify(storeRepository).applyRatingDeltas(captor.capture());
+    assertEquals(1, captor.getValue().size());
+    assertEquals(20L, captor.getValue().get(0).getStoreId());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void keepDeltasStartedAfterRebuild() throws Exception {
+    storeRatingAggregator.reviewAdded(1L, 4);
+
+    receive(new RatingRebuiltEvent(1L, 10L, 0));
+    storeRatingAggregator.flush();
+
+    ArgumentCaptor<List<RatingDelta>> captor = ArgumentCaptor.forClass(List.class);
+    verify(storeRepository).applyRatingDeltas(captor.capture());
+    assertEquals(1L, captor.getValue().get(0).getStoreId());
+  }
+
+  private void receive(RatingRebuiltEvent event) throws Exception {
+    messageListener.onMessage(new DefaultMessage(STORE_RATING_REBUILT_CHANNEL.getBytes(),
+        objectMapper.writeValueAsBytes(event)), null);
+  }
+}
@@ -0,0 +1,44 @@
+package jyang.deliverydotdot.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+  @Test
+  void readQuotedValuesAcrossLines() throws IOException {
+    CsvReader reader = new CsvReader(new StringReader(
+        "\uFEFFmenuName,price,menuDescription\r\n"
+            + "떡볶이,5000,\"매콤, 달콤\"\n"
+            + "\"순대 \"\"특\"\"\",7000,\"여러 줄\r\n설명\"\n"
+            + ",,"));
+
+    assertEquals(List.of("menuName", "price", "menuDescription"), reader.next());
+    assertEquals(List.of("떡볶이", "5000", "매콤, 달콤"), reader.next());
+    assertEquals(List.of("순대 \"특\"", "7000", "여러 줄\r\n설명"), reader.next());
+    assertEquals(List.of("", "", ""), reader.next());
+    assertNull(reader.next());
+  }
+
+  @Test
+  void writeThenReadBack() throws IOException {
+    StringWriter out = new StringWriter();
+    CsvWriter writer = new CsvWriter(out);
+    writer.write(1L, "김밥, \"참치\"", null, 3500);
+    writer.write("줄\n바꿈");
+
+    CsvReader reader = new CsvReader(new StringReader(out.toString()));
+    assertEquals(List.of("1", "김밥, \"참치\"", "", "3500"), reader.next());
+    assertEquals(List.of("줄\n바꿈"), reader.next());
+    assertNull(reader.next());
+
+    assertThrows(IOException.class, () -> new CsvReader(new StringReader("\"열린")).next());
+  }
+}
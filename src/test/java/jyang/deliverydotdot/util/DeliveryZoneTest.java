@@ -0,0 +1,29 @@
+package jyang.deliverydotdot.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class DeliveryZoneTest {
+
+  // 강남역
+  private final DeliveryZone deliveryZone = DeliveryZone.of(127.0276, 37.4979, 3000);
+
+  @Test
+  void distanceMatchesHaversine() {
+    // 선릉역
+    double haversine = GeoDistance.haversineKm(127.0276, 37.4979, 127.0490, 37.5045) * 1000;
+
+    assertEquals(haversine, deliveryZone.distanceMeters(127.0490, 37.5045), haversine * 0.001);
+  }
+
+  @Test
+  void contains() {
+    // 선릉역 (약 2km)
+    assertTrue(deliveryZone.contains(127.0490, 37.5045));
+    // 잠실역 (약 8km)
+    assertFalse(deliveryZone.contains(127.1000, 37.5133));
+  }
+}
@@ -0,0 +1,21 @@
+package jyang.deliverydotdot.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class GeoDistanceTest {
+
+  @Test
+  void haversineKm() {
+    // 서울시청 - 강남역
+    double distance = GeoDistance.haversineKm(126.9780, 37.5665, 127.0276, 37.4979);
+
+    assertEquals(8.77, distance, 0.05);
+  }
+
+  @Test
+  void haversineKm_같은좌표() {
+    assertEquals(0, GeoDistance.haversineKm(127.0, 37.5, 127.0, 37.5), 1e-9);
+  }
+}
@@ -0,0 +1,35 @@
+package jyang.deliverydotdot.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class GeoHashTest {
+
+  @Test
+  void encode() {
+    assertEquals("wydm9", GeoHash.encode(126.9780, 37.5665, 5));
+    assertEquals("ezs42", GeoHash.encode(-5.6, 42.6, 5));
+  }
+
+  @Test
+  void coveringCells_반경내_모든지점의_셀을_포함() {
+    double longitude = 127.0276;
+    double latitude = 37.4979;
+    double radiusKm = 5;
+
+    Set<String> cells = GeoHash.coveringCells(longitude, latitude, radiusKm, 5);
+
+    for (int angle = 0; angle < 360; angle += 15) {
+      double latOffset = radiusKm / 111.32 * Math.sin(Math.toRadians(angle));
+      double lonOffset = radiusKm / (111.32 * Math.cos(Math.toRadians(latitude)))
+          * Math.cos(Math.toRadians(angle));
+      String cell = GeoHash.encode(longitude + lonOffset, latitude + latOffset, 5);
+      assertTrue(cells.contains(cell), "missing cell " + cell);
+    }
+    assertTrue(cells.contains(GeoHash.encode(longitude, latitude, 5)));
+    assertTrue(cells.size() <= 16);
+  }
+}
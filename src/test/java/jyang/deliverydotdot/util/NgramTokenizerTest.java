@@ -0,0 +1,27 @@
+package jyang.deliverydotdot.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class NgramTokenizerTest {
+
+  @Test
+  void indexTokens() {
+    Set<String> tokens = NgramTokenizer.indexTokens("BHC치킨 뿌링클");
+
+    assertEquals(Set.of("b", "bh", "hc", "치", "치킨", "뿌", "뿌링", "링클"), tokens);
+  }
+
+  @Test
+  void queryTokensMatchIndexTokens() {
+    Set<String> indexed = NgramTokenizer.indexTokens("매콤 떡볶이 (2인분)");
+
+    assertTrue(indexed.containsAll(NgramTokenizer.queryTokens("떡볶")));
+    assertTrue(indexed.containsAll(NgramTokenizer.queryTokens("떡")));
+    assertTrue(indexed.containsAll(NgramTokenizer.queryTokens("２인분")));
+    assertEquals(Set.of(), NgramTokenizer.queryTokens(" !? "));
+  }
+}
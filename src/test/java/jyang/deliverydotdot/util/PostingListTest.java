@@ -0,0 +1,58 @@
+package jyang.deliverydotdot.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PostingListTest {
+
+  @Test
+  void addAndRemove() {
+    byte[] postings = null;
+    for (long id : new long[]{300, 5, 70_000, 5, 42}) {
+      postings = PostingList.add(postings, id);
+    }
+    assertArrayEquals(new long[]{5, 42, 300, 70_000}, PostingList.decode(postings));
+
+    postings = PostingList.remove(postings, 42);
+    assertArrayEquals(new long[]{5, 300, 70_000}, PostingList.decode(postings));
+
+    for (long id : new long[]{5, 300, 70_000}) {
+      postings = PostingList.remove(postings, id);
+    }
+    assertNull(postings);
+  }
+
+  @Test
+  void encodeCompactsDenseIds() {
+    long[] ids = new long[1000];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = 1_000_000 + i * 3L;
+    }
+
+    byte[] encoded = PostingList.encode(ids);
+
+    assertArrayEquals(ids, PostingList.decode(encoded));
+    assertTrue(encoded.length < ids.length * 2);
+    assertArrayEquals(new long[]{1_000_003, 1_000_006},
+        PostingList.intersect(new long[]{1, 1_000_003, 1_000_006, 2_000_000}, ids));
+  }
+
+  @Test
+  void builder_정렬_중복_제거_후_한_번에_인코딩() {
+    // given
+    PostingList.Builder builder = new PostingList.Builder();
+    for (long id : new long[]{300, 5, 70_000, 5, 42, 300}) {
+      builder.add(id);
+    }
+
+    // when
+    byte[] postings = builder.build();
+
+    // then
+    assertArrayEquals(new long[]{5, 42, 300, 70_000}, PostingList.decode(postings));
+    assertArrayEquals(postings, PostingList.encode(new long[]{5, 42, 300, 70_000}));
+  }
+}
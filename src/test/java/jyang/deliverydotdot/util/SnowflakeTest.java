@@ -0,0 +1,98 @@
+package jyang.deliverydotdot.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeTest {
+
+  private static final long EPOCH = Snowflake.DEFAULT_EPOCH_MILLIS;
+
+  @Test
+  void nextId_같은_시각에도_증가하고_시계가_뒤로_가도_증가() {
+    AtomicLong clock = new AtomicLong(EPOCH + 1000);
+    Snowflake snowflake = new Snowflake(7, EPOCH, clock::get);
+
+    long previous = snowflake.nextId();
+    // 한 ms 의 순번(4096)을 넘겨도 증가
+    for (int i = 0; i < 5000; i++) {
+      long id = snowflake.nextId();
+      assertTrue(id > previous);
+      previous = id;
+    }
+
+    clock.set(EPOCH + 500);
+    assertTrue(snowflake.nextId() > previous);
+  }
+
+  @Test
+  void nextId_시각과_노드ID_포함() {
+    Snowflake snowflake = new Snowflake(1023, EPOCH, () -> EPOCH + 123456);
+
+    long id = snowflake.nextId();
+
+    assertEquals(EPOCH + 123456, snowflake.timestampOf(id));
+    assertEquals(1023, (id >>> 12) & 1023);
+  }
+
+  @Test
+  void nextId_동시에_발급해도_중복_없음() throws InterruptedException {
+    Snowflake snowflake = new Snowflake(3);
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < 10000; i++) {
+          ids.add(snowflake.nextId());
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(80000, ids.size());
+  }
+
+  @Test
+  void nextId_임대_만료_후_발급_거부() {
+    // given
+    AtomicLong clock = new AtomicLong(EPOCH + 1000);
+    Snowflake snowflake = new Snowflake(1, EPOCH, clock::get);
+    snowflake.setLeaseDeadline(EPOCH + 2000);
+    snowflake.nextId();
+
+    // when
+    clock.set(EPOCH + 2000);
+
+    // then
+    assertThrows(IllegalStateException.class, snowflake::nextId);
+    snowflake.setLeaseDeadline(EPOCH + 3000);
+    assertTrue(snowflake.nextId() > 0);
+  }
+
+  @Test
+  void toOrderNumber_문자열_순서가_ID_순서와_같음() {
+    Snowflake snowflake = new Snowflake(5);
+    long first = snowflake.nextId();
+    long second = first + 1;
+    long later = first + (1L << 40);
+
+    String number = Snowflake.toOrderNumber(first);
+
+    assertEquals(15, number.length());
+    assertTrue(number.startsWith("OD"));
+    assertTrue(number.compareTo(Snowflake.toOrderNumber(second)) < 0);
+    assertTrue(Snowflake.toOrderNumber(second).compareTo(Snowflake.toOrderNumber(later)) < 0);
+  }
+}
@@ -0,0 +1,51 @@
+package jyang.deliverydotdot.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+
+class StoreScheduleTest {
+
+  // 2024-06-01 토요일
+  private static final LocalDateTime SATURDAY = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+  @Test
+  void overnightHoursWithHoliday() {
+    // 18:00 ~ 02:00 영업, 주문 마감 01:30, 일요일 휴무
+    StoreSchedule schedule = StoreSchedule.of(7, LocalTime.of(18, 0), LocalTime.of(2, 0),
+        LocalTime.of(1, 30));
+
+    assertFalse(schedule.isOpen(SATURDAY.withHour(17)));
+    assertTrue(schedule.isOpen(SATURDAY.withHour(23)));
+    // 토요일 영업이 일요일 새벽까지 이어짐
+    assertTrue(schedule.isOpen(SATURDAY.plusDays(1).withHour(1).withMinute(45)));
+    assertFalse(schedule.isOrderable(SATURDAY.plusDays(1).withHour(1).withMinute(45)));
+    // 일요일 저녁은 휴무
+    assertFalse(schedule.isOpen(SATURDAY.plusDays(1).withHour(20)));
+
+    assertEquals(SATURDAY.withHour(18), schedule.nextTransition(SATURDAY.withHour(12)));
+    assertEquals(SATURDAY.plusDays(1).withHour(2),
+        schedule.nextTransition(SATURDAY.withHour(18)));
+    assertEquals(SATURDAY.plusDays(2).withHour(18),
+        schedule.nextTransition(SATURDAY.plusDays(1).withHour(2)));
+  }
+
+  @Test
+  void daytimeAndMissingHours() {
+    StoreSchedule schedule = StoreSchedule.of(null, LocalTime.of(10, 0), LocalTime.of(22, 0),
+        null);
+
+    assertTrue(schedule.isOrderable(SATURDAY.withHour(10)));
+    assertFalse(schedule.isOpen(SATURDAY.withHour(22)));
+    assertFalse(schedule.isOpen(SATURDAY.withHour(1)));
+
+    StoreSchedule noHours = StoreSchedule.of(null, null, null, null);
+    assertFalse(noHours.isOpen(SATURDAY));
+    assertNull(noHours.nextTransition(SATURDAY));
+  }
+}
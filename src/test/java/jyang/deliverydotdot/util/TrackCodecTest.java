@@ -0,0 +1,38 @@
+package jyang.deliverydotdot.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import jyang.deliverydotdot.util.TrackCodec.TrackPoint;
+import org.junit.jupiter.api.Test;
+
+class TrackCodecTest {
+
+  @Test
+  void encodeAndDecode() {
+    List<TrackPoint> points = new ArrayList<>();
+    long time = 1_718_000_000_000L;
+    for (int i = 0; i < 600; i++) {
+      points.add(new TrackPoint(time + i * 1000L, 127.0276 + i * 0.00005, 37.4979 - i * 0.00003));
+    }
+
+    byte[] encoded = TrackCodec.encode(points);
+    List<TrackPoint> decoded = TrackCodec.decode(encoded);
+
+    assertEquals(points.size(), decoded.size());
+    for (int i = 0; i < points.size(); i++) {
+      assertEquals(points.get(i).getTimestamp(), decoded.get(i).getTimestamp());
+      assertEquals(points.get(i).getLongitude(), decoded.get(i).getLongitude(), 1e-6);
+      assertEquals(points.get(i).getLatitude(), decoded.get(i).getLatitude(), 1e-6);
+    }
+    // 점 하나에 8바이트 미만
+    assertTrue(encoded.length < points.size() * 8);
+  }
+
+  @Test
+  void encodeEmpty() {
+    assertEquals(0, TrackCodec.decode(TrackCodec.encode(List.of())).size());
+  }
+}